@@ -0,0 +1,25 @@
+package com.deloitte.sdk.dynamodb.batch;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Tuning knobs for the bulk batch engines.
+ */
+@Builder
+@Getter
+public class BatchConfig {
+
+    /** Maximum number of batch requests in flight at once. */
+    @Builder.Default
+    private final int maxConcurrency = 8;
+    /** Resubmissions of unprocessed items, and retries of a failed request, after the first attempt. */
+    @Builder.Default
+    private final int maxRetries = 8;
+    @Builder.Default
+    private final long retryBaseDelayMillis = 50;
+
+    public static BatchConfig defaults() {
+        return BatchConfig.builder().build();
+    }
+}
@@ -0,0 +1,173 @@
+package com.deloitte.sdk.dynamodb.batch;
+
+import com.deloitte.sdk.dynamodb.exceptions.DynamoDbSdkException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Reads any number of keys as BatchGetItem calls of at most 100 keys, running up to the configured
+ * concurrency at once. Duplicate keys are requested once, and keys DynamoDB returns as unprocessed
+ * are requested again with exponential backoff and jitter.
+ */
+public class BulkGetter {
+
+    public static final int MAX_KEYS_PER_REQUEST = 100;
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkGetter.class);
+
+    private final DynamoDbClient dynamoDbClient;
+    private final BatchConfig config;
+
+    public BulkGetter(DynamoDbClient dynamoDbClient, BatchConfig config) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.config = config;
+    }
+
+    /**
+     * Reads items by key from one table and returns them indexed by their key.
+     * Keys with no item are absent from the result.
+     */
+    public Map<Map<String, AttributeValue>, Map<String, AttributeValue>> get(String tableName, Collection<Map<String, AttributeValue>> keys,
+                                                                           boolean consistentRead) throws DynamoDbSdkException {
+        Set<Map<String, AttributeValue>> unique = new LinkedHashSet<>(keys);
+        if (unique.isEmpty()) {
+            return Map.of();
+        }
+        KeysAndAttributes request = KeysAndAttributes.builder().keys(unique).consistentRead(consistentRead).build();
+        List<Map<String, AttributeValue>> items = getAll(Map.of(tableName, request)).getOrDefault(tableName, List.of());
+
+        return indexByKey(unique.iterator().next().keySet(), items);
+    }
+
+    static Map<Map<String, AttributeValue>, Map<String, AttributeValue>> indexByKey(Set<String> keyNames,
+                                                                                  Collection<Map<String, AttributeValue>> items) {
+        Map<Map<String, AttributeValue>, Map<String, AttributeValue>> byKey = new HashMap<>(items.size() * 2);
+        for (Map<String, AttributeValue> item : items) {
+            Map<String, AttributeValue> key = new HashMap<>(keyNames.size() * 2);
+            keyNames.forEach(name -> key.put(name, item.get(name)));
+            byKey.put(key, item);
+        }
+        return byKey;
+    }
+
+    /**
+     * Reads the requested keys of every table, keeping each table's projection and consistency settings.
+     * Requests of up to 100 keys are sent as they are; larger ones are split.
+     */
+    public Map<String, List<Map<String, AttributeValue>>> getAll(Map<String, KeysAndAttributes> requestItems) throws DynamoDbSdkException {
+        Map<String, List<Map<String, AttributeValue>>> results = new ConcurrentHashMap<>();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        List<Map<String, KeysAndAttributes>> chunks = chunk(requestItems);
+        Semaphore inFlight = new Semaphore(Math.max(1, config.getMaxConcurrency()));
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Map<String, KeysAndAttributes> chunk : chunks) {
+                if (failure.get() != null) {
+                    break;
+                }
+                inFlight.acquire();
+                workers.execute(() -> {
+                    try {
+                        getChunk(chunk, results);
+                    } catch (Exception e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DynamoDbSdkException("Interrupted while performing batch get operation", e);
+        }
+
+        if (failure.get() != null) {
+            throw new DynamoDbSdkException("Failed to perform batch get operation", failure.get());
+        }
+        logger.debug("Read {} items in {} batch requests", results.values().stream().mapToInt(List::size).sum(), chunks.size());
+        return results;
+    }
+
+    private void getChunk(Map<String, KeysAndAttributes> requestItems, Map<String, List<Map<String, AttributeValue>>> results)
+            throws Exception {
+        Map<String, KeysAndAttributes> pending = requestItems;
+        int attempt = 0;
+        while (true) {
+            BatchGetItemRequest request = BatchGetItemRequest.builder().requestItems(pending)
+                    .overrideConfiguration(override -> override.addPlugin(Retries.NO_SDK_RETRIES))
+                    .build();
+            BatchGetItemResponse response = Retries.withRetries(config.getMaxRetries(), config.getRetryBaseDelayMillis(),
+                    () -> dynamoDbClient.batchGetItem(request));
+            response.responses().forEach((tableName, items) ->
+                    results.computeIfAbsent(tableName, name -> Collections.synchronizedList(new ArrayList<>())).addAll(items));
+
+            Map<String, KeysAndAttributes> unprocessed = response.unprocessedKeys();
+            if (unprocessed.isEmpty()) {
+                return;
+            }
+            if (attempt >= config.getMaxRetries()) {
+                int remaining = unprocessed.values().stream().mapToInt(keys -> keys.keys().size()).sum();
+                throw new DynamoDbSdkException(remaining + " keys left unprocessed after " + attempt + " retries");
+            }
+            Retries.sleep(Retries.backoffMillis(attempt++, config.getRetryBaseDelayMillis()));
+            pending = unprocessed;
+        }
+    }
+
+    private static List<Map<String, KeysAndAttributes>> chunk(Map<String, KeysAndAttributes> requestItems) {
+        int total = requestItems.values().stream().mapToInt(keys -> keys.keys().size()).sum();
+        Map<String, KeysAndAttributes> deduplicated = new LinkedHashMap<>();
+        requestItems.forEach((tableName, keys) -> {
+            Set<Map<String, AttributeValue>> unique = new LinkedHashSet<>(keys.keys());
+            deduplicated.put(tableName, unique.size() == keys.keys().size() ? keys : keys.toBuilder().keys(unique).build());
+        });
+        if (total <= MAX_KEYS_PER_REQUEST) {
+            return List.of(deduplicated);
+        }
+
+        List<Map<String, KeysAndAttributes>> chunks = new ArrayList<>();
+        Map<String, List<Map<String, AttributeValue>>> current = new LinkedHashMap<>();
+        int size = 0;
+        for (Map.Entry<String, KeysAndAttributes> entry : deduplicated.entrySet()) {
+            for (Map<String, AttributeValue> key : entry.getValue().keys()) {
+                current.computeIfAbsent(entry.getKey(), name -> new ArrayList<>()).add(key);
+                if (++size == MAX_KEYS_PER_REQUEST) {
+                    chunks.add(toRequestItems(current, deduplicated));
+                    current = new LinkedHashMap<>();
+                    size = 0;
+                }
+            }
+        }
+        if (size > 0) {
+            chunks.add(toRequestItems(current, deduplicated));
+        }
+        return chunks;
+    }
+
+    private static Map<String, KeysAndAttributes> toRequestItems(Map<String, List<Map<String, AttributeValue>>> keysByTable,
+                                                                Map<String, KeysAndAttributes> templates) {
+        Map<String, KeysAndAttributes> requestItems = new LinkedHashMap<>();
+        keysByTable.forEach((tableName, keys) -> requestItems.put(tableName, templates.get(tableName).toBuilder().keys(keys).build()));
+        return requestItems;
+    }
+}
@@ -0,0 +1,256 @@
+package com.deloitte.sdk.dynamodb.batch;
+
+import com.deloitte.sdk.dynamodb.exceptions.DynamoDbSdkException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Writes any number of put and delete requests as 25-item BatchWriteItem calls, running up to the
+ * configured concurrency at once. Items DynamoDB returns as unprocessed are resubmitted with exponential
+ * backoff and jitter; requests are pulled from the source as chunks are submitted, so only the chunks
+ * in flight are held in memory.
+ * <p>
+ * When the writes span more than one chunk and chunks run concurrently, the table's key schema is looked up
+ * once so that writes to the same key land in source order: a chunk only keeps the last write per key, and
+ * a chunk holding a key that an earlier chunk is still writing waits for that chunk to finish first.
+ * A single chunk is sent as is, and if DynamoDB rejects it for writing the same key twice, the key schema
+ * is looked up, only the last write per key is kept, and the chunk is sent again. Superseded writes count as
+ * written.
+ */
+public class BulkWriter {
+
+    public static final int MAX_ITEMS_PER_REQUEST = 25;
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkWriter.class);
+
+    private final DynamoDbClient dynamoDbClient;
+    private final BatchConfig config;
+    private final Map<String, List<String>> keyAttributeNames = new ConcurrentHashMap<>();
+
+    public BulkWriter(DynamoDbClient dynamoDbClient, BatchConfig config) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.config = config;
+    }
+
+    public WriteReport write(Map<String, ? extends Collection<WriteRequest>> requestItems) throws DynamoDbSdkException {
+        List<TableWrite> writes = new ArrayList<>();
+        requestItems.forEach((tableName, requests) -> requests.forEach(request -> writes.add(new TableWrite(tableName, request))));
+        return write(writes.iterator());
+    }
+
+    public WriteReport write(String tableName, Iterable<WriteRequest> requests) throws DynamoDbSdkException {
+        Iterator<WriteRequest> source = requests.iterator();
+        return write(new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public TableWrite next() {
+                return new TableWrite(tableName, source.next());
+            }
+        });
+    }
+
+    private WriteReport write(Iterator<TableWrite> writes) throws DynamoDbSdkException {
+        long start = System.nanoTime();
+        Progress progress = new Progress();
+        int concurrency = Math.max(1, config.getMaxConcurrency());
+        Semaphore inFlight = new Semaphore(concurrency);
+        // Chunk still writing each key, so a later write to the key waits for it; only used when ordered
+        Map<TableKey, CompletableFuture<Void>> keysInFlight = new ConcurrentHashMap<>();
+        Boolean ordered = null;
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<TableWrite> chunk = new ArrayList<>(MAX_ITEMS_PER_REQUEST);
+            while (writes.hasNext() && progress.failure.get() == null) {
+                chunk.add(writes.next());
+                if (chunk.size() == MAX_ITEMS_PER_REQUEST || !writes.hasNext()) {
+                    if (ordered == null) {
+                        ordered = concurrency > 1 && writes.hasNext();
+                    }
+                    CompletableFuture<Void> done = new CompletableFuture<>();
+                    List<CompletableFuture<Void>> predecessors = new ArrayList<>();
+                    Set<TableKey> keys;
+                    Map<String, List<WriteRequest>> requestItems;
+                    if (ordered) {
+                        Map<TableKey, TableWrite> latest = new LinkedHashMap<>();
+                        chunk.forEach(write -> latest.put(keyOf(write.tableName(), write.request()), write));
+                        progress.written.add(chunk.size() - latest.size());
+                        keys = latest.keySet();
+                        for (TableKey key : keys) {
+                            CompletableFuture<Void> previous = keysInFlight.put(key, done);
+                            if (previous != null) {
+                                predecessors.add(previous);
+                            }
+                        }
+                        requestItems = group(latest.values());
+                    } else {
+                        keys = Set.of();
+                        requestItems = group(chunk);
+                    }
+                    chunk = new ArrayList<>(MAX_ITEMS_PER_REQUEST);
+                    inFlight.acquire();
+                    workers.execute(() -> {
+                        try {
+                            // Earlier chunks already hold permits, so waiting for them here cannot starve them
+                            CompletableFuture.allOf(predecessors.toArray(new CompletableFuture<?>[0])).join();
+                            writeChunk(requestItems, progress);
+                        } catch (Exception e) {
+                            progress.failure.compareAndSet(null, e);
+                        } finally {
+                            keys.forEach(key -> keysInFlight.remove(key, done));
+                            done.complete(null);
+                            inFlight.release();
+                        }
+                    });
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DynamoDbSdkException("Interrupted while performing batch write operation", e);
+        } catch (SdkException e) {
+            throw new DynamoDbSdkException("Failed to look up key schema for batch write operation", e);
+        }
+
+        if (progress.failure.get() != null) {
+            throw new DynamoDbSdkException("Failed to perform batch write operation after writing "
+                    + progress.written.sum() + " items", progress.failure.get());
+        }
+        WriteReport report = new WriteReport(progress.written.sum(), Map.copyOf(progress.unprocessed),
+                progress.requests.sum(), progress.resubmissions.sum(), Duration.ofNanos(System.nanoTime() - start));
+        logger.debug("Wrote {} items in {} requests ({} resubmissions) at {} items/s", report.writtenCount(),
+                report.requestCount(), report.resubmissionCount(), Math.round(report.itemsPerSecond()));
+        return report;
+    }
+
+    private void writeChunk(Map<String, List<WriteRequest>> requestItems, Progress progress) throws Exception {
+        Map<String, List<WriteRequest>> pending = requestItems;
+        int attempt = 0;
+        boolean deduplicated = false;
+        while (true) {
+            BatchWriteItemRequest request = BatchWriteItemRequest.builder().requestItems(pending)
+                    .overrideConfiguration(override -> override.addPlugin(Retries.NO_SDK_RETRIES))
+                    .build();
+            BatchWriteItemResponse response;
+            try {
+                response = Retries.withRetries(config.getMaxRetries(), config.getRetryBaseDelayMillis(),
+                        () -> dynamoDbClient.batchWriteItem(request));
+            } catch (DynamoDbException e) {
+                if (deduplicated || !isDuplicateKeyError(e)) {
+                    throw e;
+                }
+                Map<String, List<WriteRequest>> distinct = lastWritePerKey(pending);
+                int superseded = count(pending) - count(distinct);
+                if (superseded == 0) {
+                    throw e;
+                }
+                logger.debug("Dropped {} superseded writes to duplicate keys from a batch", superseded);
+                progress.requests.increment();
+                progress.written.add(superseded);
+                pending = distinct;
+                deduplicated = true;
+                continue;
+            }
+            progress.requests.increment();
+
+            Map<String, List<WriteRequest>> unprocessed = response.unprocessedItems();
+            progress.written.add(count(pending) - count(unprocessed));
+            if (unprocessed.isEmpty()) {
+                return;
+            }
+            if (attempt >= config.getMaxRetries()) {
+                unprocessed.forEach((tableName, requests) -> progress.unprocessed.compute(tableName, (name, existing) -> {
+                    List<WriteRequest> merged = existing != null ? existing : new ArrayList<>();
+                    merged.addAll(requests);
+                    return merged;
+                }));
+                return;
+            }
+            progress.resubmissions.increment();
+            Retries.sleep(Retries.backoffMillis(attempt++, config.getRetryBaseDelayMillis()));
+            pending = unprocessed;
+        }
+    }
+
+    private Map<String, List<WriteRequest>> lastWritePerKey(Map<String, List<WriteRequest>> requestItems) {
+        Map<String, List<WriteRequest>> distinct = new LinkedHashMap<>();
+        requestItems.forEach((tableName, requests) -> {
+            Map<TableKey, WriteRequest> byKey = new LinkedHashMap<>();
+            requests.forEach(request -> byKey.put(keyOf(tableName, request), request));
+            distinct.put(tableName, new ArrayList<>(byKey.values()));
+        });
+        return distinct;
+    }
+
+    private TableKey keyOf(String tableName, WriteRequest request) {
+        List<String> keyNames = keyAttributeNames.computeIfAbsent(tableName, this::describeKeyAttributeNames);
+        Map<String, AttributeValue> attributes = request.putRequest() != null
+                ? request.putRequest().item() : request.deleteRequest().key();
+        Map<String, AttributeValue> key = new HashMap<>();
+        keyNames.forEach(name -> key.put(name, attributes.get(name)));
+        return new TableKey(tableName, key);
+    }
+
+    private List<String> describeKeyAttributeNames(String tableName) {
+        return dynamoDbClient.describeTable(DescribeTableRequest.builder().tableName(tableName).build())
+                .table().keySchema().stream()
+                .map(KeySchemaElement::attributeName)
+                .toList();
+    }
+
+    private static boolean isDuplicateKeyError(DynamoDbException e) {
+        return e.statusCode() == 400 && e.getMessage() != null && e.getMessage().contains("duplicates");
+    }
+
+    private static Map<String, List<WriteRequest>> group(Collection<TableWrite> chunk) {
+        Map<String, List<WriteRequest>> requestItems = new LinkedHashMap<>();
+        chunk.forEach(write -> requestItems.computeIfAbsent(write.tableName(), name -> new ArrayList<>()).add(write.request()));
+        return requestItems;
+    }
+
+    private static int count(Map<String, List<WriteRequest>> requestItems) {
+        return requestItems.values().stream().mapToInt(List::size).sum();
+    }
+
+    private record TableWrite(String tableName, WriteRequest request) {
+    }
+
+    private record TableKey(String tableName, Map<String, AttributeValue> key) {
+    }
+
+    private static final class Progress {
+        private final LongAdder written = new LongAdder();
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder resubmissions = new LongAdder();
+        private final Map<String, List<WriteRequest>> unprocessed = new ConcurrentHashMap<>();
+        private final AtomicReference<Exception> failure = new AtomicReference<>();
+    }
+}
@@ -0,0 +1,25 @@
+package com.deloitte.sdk.dynamodb.batch;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Batching window for {@link ReadCoalescer}.
+ */
+@Builder
+@Getter
+public class CoalescingConfig {
+
+    /** How long the first read of a batch waits for others to join it; zero only shares identical reads. */
+    @Builder.Default
+    private final Duration window = Duration.ofMillis(2);
+    /** Keys that send a batch at once without waiting out the window, at most 100. */
+    @Builder.Default
+    private final int maxBatchSize = BulkGetter.MAX_KEYS_PER_REQUEST;
+
+    public static CoalescingConfig defaults() {
+        return CoalescingConfig.builder().build();
+    }
+}
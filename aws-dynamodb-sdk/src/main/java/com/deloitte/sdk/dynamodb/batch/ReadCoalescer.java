@@ -0,0 +1,192 @@
+package com.deloitte.sdk.dynamodb.batch;
+
+import com.deloitte.sdk.dynamodb.exceptions.DynamoDbSdkException;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shares and batches concurrent single-item reads.
+ * <p>
+ * A read of a key that is already in flight waits for that read instead of sending its own. Distinct keys
+ * requested within the batching window are read together: the first caller of a window waits for the window
+ * to pass (or for the batch to fill) and then sends every key collected so far as one BatchGetItem, or as a
+ * GetItem when it is alone. Reads are eventually consistent, like the default {@code getItem}.
+ * <p>
+ * Callers that cache results pass the key's invalidation generation taken before the read. A read only joins
+ * an in-flight read of the key started at the same or a later generation, so a result never predates a write
+ * to the key the caller has seen.
+ */
+public class ReadCoalescer {
+
+    private record RequestKey(String tableName, Map<String, AttributeValue> key) {
+    }
+
+    private record InFlightRead(CompletableFuture<Map<String, AttributeValue>> result, long generation) {
+    }
+
+    /** Reads waiting to be sent; a key read again before the batch is sent shares the same request. */
+    private static final class Batch {
+        private final Map<RequestKey, List<InFlightRead>> reads = new LinkedHashMap<>();
+    }
+
+    private final DynamoDbClient dynamoDbClient;
+    private final BulkGetter bulkGetter;
+    private final CoalescingConfig config;
+    private final Map<RequestKey, InFlightRead> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong sharedReads = new AtomicLong();
+    private final AtomicLong requestCount = new AtomicLong();
+    private Batch current;
+
+    public ReadCoalescer(DynamoDbClient dynamoDbClient, BatchConfig batchConfig, CoalescingConfig config) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.bulkGetter = new BulkGetter(dynamoDbClient, batchConfig != null ? batchConfig : BatchConfig.defaults());
+        this.config = config != null ? config : CoalescingConfig.defaults();
+    }
+
+    /**
+     * Returns the item with the given key, or an empty map if there is none.
+     */
+    public Map<String, AttributeValue> get(String tableName, Map<String, AttributeValue> key) throws DynamoDbSdkException {
+        return get(tableName, key, Long.MIN_VALUE);
+    }
+
+    /**
+     * Returns the item with the given key, or an empty map if there is none, sharing only in-flight reads
+     * started at {@code generation} or later.
+     */
+    public Map<String, AttributeValue> get(String tableName, Map<String, AttributeValue> key, long generation)
+            throws DynamoDbSdkException {
+        RequestKey requestKey = new RequestKey(tableName, Map.copyOf(key));
+        InFlightRead mine = new InFlightRead(new CompletableFuture<>(), generation);
+        InFlightRead joined = inFlight.compute(requestKey,
+                (ignored, existing) -> existing != null && existing.generation() >= generation ? existing : mine);
+        if (joined != mine) {
+            sharedReads.incrementAndGet();
+            return await(tableName, joined.result());
+        }
+        CompletableFuture<Map<String, AttributeValue>> read = mine.result();
+
+        Batch started = null;
+        Batch full = null;
+        synchronized (this) {
+            if (current == null) {
+                current = new Batch();
+                started = current;
+            }
+            current.reads.computeIfAbsent(requestKey, ignored -> new ArrayList<>(1)).add(mine);
+            if (current.reads.size() >= Math.min(config.getMaxBatchSize(), BulkGetter.MAX_KEYS_PER_REQUEST)) {
+                full = current;
+                current = null;
+            }
+        }
+        if (full != null) {
+            send(full);
+        } else if (started != null) {
+            waitOutWindow();
+            synchronized (this) {
+                if (current == started) {
+                    current = null;
+                } else {
+                    started = null;
+                }
+            }
+            if (started != null) {
+                send(started);
+            }
+        }
+        return await(tableName, read);
+    }
+
+    /** Reads answered by another caller's in-flight read. */
+    public long sharedReadCount() {
+        return sharedReads.get();
+    }
+
+    /** GetItem and BatchGetItem requests sent. */
+    public long requestCount() {
+        return requestCount.get();
+    }
+
+    private void waitOutWindow() {
+        long windowNanos = config.getWindow().toNanos();
+        if (windowNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(windowNanos);
+        } catch (InterruptedException e) {
+            // The batch is sent early rather than abandoned, since other callers are waiting on it.
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void send(Batch batch) {
+        Map<RequestKey, Map<String, AttributeValue>> found = new HashMap<>();
+        Exception failure = null;
+        try {
+            requestCount.incrementAndGet();
+            if (batch.reads.size() == 1) {
+                RequestKey requestKey = batch.reads.keySet().iterator().next();
+                found.put(requestKey, dynamoDbClient.getItem(GetItemRequest.builder()
+                        .tableName(requestKey.tableName())
+                        .key(requestKey.key())
+                        .build()).item());
+            } else {
+                readBatch(batch, found);
+            }
+        } catch (DynamoDbSdkException | RuntimeException e) {
+            failure = e;
+        }
+
+        for (Map.Entry<RequestKey, List<InFlightRead>> entry : batch.reads.entrySet()) {
+            for (InFlightRead read : entry.getValue()) {
+                inFlight.remove(entry.getKey(), read);
+                if (failure != null) {
+                    read.result().completeExceptionally(failure);
+                } else {
+                    read.result().complete(found.getOrDefault(entry.getKey(), Map.of()));
+                }
+            }
+        }
+    }
+
+    private void readBatch(Batch batch, Map<RequestKey, Map<String, AttributeValue>> found) throws DynamoDbSdkException {
+        Map<String, List<Map<String, AttributeValue>>> keysByTable = new LinkedHashMap<>();
+        batch.reads.keySet().forEach(requestKey ->
+                keysByTable.computeIfAbsent(requestKey.tableName(), name -> new ArrayList<>()).add(requestKey.key()));
+        Map<String, KeysAndAttributes> requestItems = new LinkedHashMap<>();
+        keysByTable.forEach((tableName, keys) -> requestItems.put(tableName, KeysAndAttributes.builder().keys(keys).build()));
+
+        Map<String, List<Map<String, AttributeValue>>> items = bulkGetter.getAll(requestItems);
+        keysByTable.forEach((tableName, keys) ->
+                BulkGetter.indexByKey(keys.get(0).keySet(), items.getOrDefault(tableName, List.of()))
+                        .forEach((key, item) -> found.put(new RequestKey(tableName, key), item)));
+    }
+
+    private static Map<String, AttributeValue> await(String tableName, CompletableFuture<Map<String, AttributeValue>> read)
+            throws DynamoDbSdkException {
+        try {
+            return read.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof DynamoDbSdkException sdkException && sdkException.getCause() != null
+                    ? sdkException.getCause() : e.getCause();
+            throw new DynamoDbSdkException("Failed to get item from table: " + tableName, cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DynamoDbSdkException("Interrupted while waiting for item from table: " + tableName, e);
+        }
+    }
+}
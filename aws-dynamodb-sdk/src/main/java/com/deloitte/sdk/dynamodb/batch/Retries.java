@@ -0,0 +1,66 @@
+package com.deloitte.sdk.dynamodb.batch;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.awscore.retry.AwsRetryStrategy;
+import software.amazon.awssdk.core.SdkPlugin;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.RequestLimitExceededException;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retries a single request with exponential backoff and full jitter.
+ * Client-side failures, throttling and 5xx responses are retried; other service errors
+ * (such as a failed condition or validation error) and non-SDK exceptions fail immediately.
+ * Requests retried here should carry {@link #NO_SDK_RETRIES}, so each attempt is a single call
+ * instead of a full round of the client's own retries.
+ */
+public final class Retries {
+
+    private static final long MAX_DELAY_MILLIS = 10_000;
+
+    /**
+     * Request plugin that turns off the client's retry strategy for that request.
+     */
+    public static final SdkPlugin NO_SDK_RETRIES =
+            config -> config.overrideConfiguration(override -> override.retryStrategy(AwsRetryStrategy.doNotRetry()));
+
+    private Retries() {
+    }
+
+    public static <T> T withRetries(int maxRetries, long baseDelayMillis, Callable<T> step) throws Exception {
+        int attempt = 0;
+        while (true) {
+            try {
+                return step.call();
+            } catch (SdkException e) {
+                if (attempt >= maxRetries || !isRetryable(e)) {
+                    throw e;
+                }
+                sleep(backoffMillis(attempt++, baseDelayMillis));
+            }
+        }
+    }
+
+    public static boolean isRetryable(SdkException e) {
+        if (e instanceof AwsServiceException serviceException) {
+            int status = serviceException.statusCode();
+            return status >= 500 || serviceException.isThrottlingException()
+                    || e instanceof ProvisionedThroughputExceededException || e instanceof RequestLimitExceededException;
+        }
+        return true;
+    }
+
+    public static long backoffMillis(int attempt, long baseDelayMillis) {
+        long cap = Math.min(MAX_DELAY_MILLIS, baseDelayMillis << Math.min(attempt, 20));
+        return ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    public static void sleep(long millis) throws InterruptedException {
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.deloitte.sdk.dynamodb.batch;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Flush and buffering limits for a {@link WriteBehindWriter}.
+ */
+@Builder
+@Getter
+public class WriteBehindConfig {
+
+    /** Number of distinct buffered keys that triggers a flush without waiting for the linger time. */
+    @Builder.Default
+    private final int flushSize = 100;
+    /** Longest time a buffered write waits for more writes to join its batch. */
+    @Builder.Default
+    private final Duration linger = Duration.ofMillis(50);
+    /** Writes buffered or being flushed beyond which callers block until a flush completes. */
+    @Builder.Default
+    private final int maxBufferedItems = 10_000;
+
+    public static WriteBehindConfig defaults() {
+        return WriteBehindConfig.builder().build();
+    }
+}
@@ -0,0 +1,301 @@
+package com.deloitte.sdk.dynamodb.batch;
+
+import com.deloitte.sdk.dynamodb.exceptions.DynamoDbSdkException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Buffers puts and deletes for one table and writes them in the background as batch writes.
+ * <p>
+ * Writes to a key that is still buffered replace the earlier write, so only the last one is sent; this also
+ * keeps duplicate keys out of a single BatchWriteItem call. A flush starts once {@code flushSize} keys are
+ * buffered or the oldest buffered write has waited {@code linger}. Flushes run one at a time, so successive
+ * writes to a key reach the table in order. When {@code maxBufferedItems} writes are buffered or in flight,
+ * callers block until a flush completes.
+ * <p>
+ * Writes a flush fails to land, whether the sink threw or left them unprocessed, go back into the buffer
+ * unless a newer write to the same key has replaced them, and background flushing stops. The failure is then
+ * reported by every call to {@link #put}, {@link #delete} and {@link #flush} until the writer is closed;
+ * {@link #flush} and {@link #close} try the returned writes again, and {@link #close} returns normally only
+ * if every one of them lands.
+ */
+public class WriteBehindWriter implements AutoCloseable {
+
+    /**
+     * Where flushed batches are written, such as {@link BulkWriter#write(Map)}.
+     */
+    @FunctionalInterface
+    public interface Sink {
+        WriteReport write(Map<String, ? extends Collection<WriteRequest>> requestItems) throws DynamoDbSdkException;
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindWriter.class);
+
+    private final Sink sink;
+    private final String tableName;
+    private final Set<String> keyAttributeNames;
+    private final WriteBehindConfig config;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition flushDue = lock.newCondition();
+    private final Condition spaceAvailable = lock.newCondition();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Thread flusher;
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    private LinkedHashMap<Map<String, AttributeValue>, WriteRequest> buffer = new LinkedHashMap<>();
+    private long oldestBufferedNanos;
+    private int inFlight;
+    private boolean closed;
+    private DynamoDbSdkException failure;
+
+    public WriteBehindWriter(Sink sink, String tableName, Set<String> keyAttributeNames, WriteBehindConfig config) {
+        this.sink = sink;
+        this.tableName = tableName;
+        this.keyAttributeNames = Set.copyOf(keyAttributeNames);
+        this.config = config != null ? config : WriteBehindConfig.defaults();
+        this.flusher = Thread.ofVirtual().name("write-behind-" + tableName).start(this::runFlusher);
+    }
+
+    public void put(Map<String, AttributeValue> item) throws DynamoDbSdkException {
+        enqueue(keyOf(item), WriteRequest.builder().putRequest(PutRequest.builder().item(item).build()).build());
+    }
+
+    public void delete(Map<String, AttributeValue> key) throws DynamoDbSdkException {
+        enqueue(keyOf(key), WriteRequest.builder().deleteRequest(DeleteRequest.builder().key(key).build()).build());
+    }
+
+    /**
+     * Writes everything buffered so far and waits for it to land, including writes returned by a failed flush.
+     */
+    public void flush() throws DynamoDbSdkException {
+        drain();
+        throwIfFailed();
+    }
+
+    /**
+     * Stops the background flusher and writes whatever is still buffered.
+     *
+     * @throws DynamoDbSdkException if a flush failed and some writes could still not be written
+     */
+    @Override
+    public void close() throws DynamoDbSdkException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            flushDue.signalAll();
+            spaceAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DynamoDbSdkException("Interrupted while closing write-behind writer for table: " + tableName, e);
+        }
+        drain();
+        lock.lock();
+        try {
+            if (failure != null && !buffer.isEmpty()) {
+                throw new DynamoDbSdkException("Failed to write " + buffer.size() + " buffered writes to table: " + tableName, failure);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Writes buffered or being flushed. */
+    public int pendingCount() {
+        lock.lock();
+        try {
+            return buffer.size() + inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long writtenCount() {
+        return writtenCount.get();
+    }
+
+    /** Writes replaced by a later write to the same key before being sent. */
+    public long coalescedCount() {
+        return coalescedCount.get();
+    }
+
+    private void enqueue(Map<String, AttributeValue> key, WriteRequest request) throws DynamoDbSdkException {
+        lock.lock();
+        try {
+            throwIfFailed();
+            while (!closed && !buffer.containsKey(key) && buffer.size() + inFlight >= config.getMaxBufferedItems()) {
+                flushDue.signal();
+                spaceAvailable.await();
+                throwIfFailed();
+            }
+            if (closed) {
+                throw new DynamoDbSdkException("Write-behind writer for table " + tableName + " is closed");
+            }
+            if (buffer.isEmpty()) {
+                oldestBufferedNanos = System.nanoTime();
+            }
+            if (buffer.put(key, request) != null) {
+                coalescedCount.incrementAndGet();
+            }
+            if (buffer.size() == 1 || buffer.size() >= config.getFlushSize()) {
+                flushDue.signal();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DynamoDbSdkException("Interrupted while waiting for buffer space for table: " + tableName, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runFlusher() {
+        long lingerNanos = config.getLinger().toNanos();
+        while (true) {
+            lock.lock();
+            try {
+                while (!closed) {
+                    if (buffer.isEmpty() || failure != null) {
+                        flushDue.await();
+                        continue;
+                    }
+                    long waitNanos = lingerNanos - (System.nanoTime() - oldestBufferedNanos);
+                    if (buffer.size() >= config.getFlushSize() || buffer.size() + inFlight >= config.getMaxBufferedItems()
+                            || waitNanos <= 0) {
+                        break;
+                    }
+                    flushDue.awaitNanos(waitNanos);
+                }
+                if (closed) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                lock.unlock();
+            }
+            drain();
+        }
+    }
+
+    private void drain() {
+        flushLock.lock();
+        try {
+            LinkedHashMap<Map<String, AttributeValue>, WriteRequest> batch;
+            lock.lock();
+            try {
+                if (buffer.isEmpty()) {
+                    return;
+                }
+                batch = buffer;
+                buffer = new LinkedHashMap<>();
+                inFlight = batch.size();
+            } finally {
+                lock.unlock();
+            }
+
+            DynamoDbSdkException error = null;
+            Collection<WriteRequest> unwritten = List.of();
+            try {
+                WriteReport report = sink.write(Map.of(tableName, new ArrayList<>(batch.values())));
+                writtenCount.addAndGet(report.writtenCount());
+                if (!report.isComplete()) {
+                    unwritten = report.unprocessedItems().getOrDefault(tableName, List.of());
+                    error = new DynamoDbSdkException("Failed to flush writes to table " + tableName + ": "
+                            + unwritten.size() + " items left unprocessed");
+                }
+            } catch (DynamoDbSdkException e) {
+                error = e;
+                unwritten = batch.values();
+            } catch (RuntimeException e) {
+                error = new DynamoDbSdkException("Failed to flush writes to table: " + tableName, e);
+                unwritten = batch.values();
+            }
+            if (error != null) {
+                logger.warn("Write-behind flush of {} items to table {} failed, keeping {} unwritten items buffered",
+                        batch.size(), tableName, unwritten.size(), error);
+            }
+
+            lock.lock();
+            try {
+                inFlight = 0;
+                if (error != null) {
+                    requeue(unwritten);
+                    if (failure == null) {
+                        failure = error;
+                    }
+                }
+                spaceAvailable.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Puts writes that did not land back ahead of the buffer, keeping any newer write to the same key.
+     * Called with the lock held.
+     */
+    private void requeue(Collection<WriteRequest> unwritten) {
+        if (unwritten.isEmpty()) {
+            return;
+        }
+        LinkedHashMap<Map<String, AttributeValue>, WriteRequest> requeued = new LinkedHashMap<>();
+        for (WriteRequest request : unwritten) {
+            requeued.put(keyOf(request.putRequest() != null ? request.putRequest().item() : request.deleteRequest().key()), request);
+        }
+        if (buffer.isEmpty()) {
+            oldestBufferedNanos = System.nanoTime();
+        }
+        requeued.putAll(buffer);
+        buffer = requeued;
+    }
+
+    private void throwIfFailed() throws DynamoDbSdkException {
+        lock.lock();
+        try {
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Map<String, AttributeValue> keyOf(Map<String, AttributeValue> item) {
+        Map<String, AttributeValue> key = new HashMap<>(keyAttributeNames.size() * 2);
+        for (String name : keyAttributeNames) {
+            AttributeValue value = item.get(name);
+            if (value == null) {
+                throw new IllegalArgumentException("Item is missing key attribute " + name + " of table " + tableName);
+            }
+            key.put(name, value);
+        }
+        return key;
+    }
+}
@@ -0,0 +1,24 @@
+package com.deloitte.sdk.dynamodb.batch;
+
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The outcome of a bulk write: items written, items DynamoDB still left unprocessed after every
+ * resubmission, how many BatchWriteItem calls and resubmissions it took, and how long.
+ */
+public record WriteReport(long writtenCount, Map<String, List<WriteRequest>> unprocessedItems,
+                          long requestCount, long resubmissionCount, Duration elapsed) {
+
+    public boolean isComplete() {
+        return unprocessedItems.isEmpty();
+    }
+
+    public double itemsPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : writtenCount * 1_000_000_000.0 / nanos;
+    }
+}
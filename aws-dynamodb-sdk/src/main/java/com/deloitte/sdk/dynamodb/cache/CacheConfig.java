@@ -0,0 +1,30 @@
+package com.deloitte.sdk.dynamodb.cache;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Bounds for the in-process item cache. Entries are evicted least recently used first once either
+ * bound is exceeded, and are never served after their time to live.
+ */
+@Builder
+@Getter
+public class CacheConfig {
+
+    @Builder.Default
+    private final int maxEntries = 10_000;
+    /** Upper bound on the encoded size of all cached items. */
+    @Builder.Default
+    private final long maxBytes = 64L * 1024 * 1024;
+    @Builder.Default
+    private final Duration ttl = Duration.ofSeconds(60);
+    /** Whether a lookup that found no item is cached too, so hot missing keys stop reaching the table. */
+    @Builder.Default
+    private final boolean cacheMisses = true;
+
+    public static CacheConfig defaults() {
+        return CacheConfig.builder().build();
+    }
+}
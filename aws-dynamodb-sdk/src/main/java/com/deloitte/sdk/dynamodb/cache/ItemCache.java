@@ -0,0 +1,277 @@
+package com.deloitte.sdk.dynamodb.cache;
+
+import com.deloitte.sdk.dynamodb.encoding.ItemEncoding;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process read-through cache of items by table and key, bounded by entry count, encoded size and time to live.
+ * <p>
+ * Every invalidation advances a generation and records it against the key, table or whole cache it covered.
+ * Readers take a {@link #stamp()} before going to the table and pass it back when caching the result; the result
+ * is dropped only if its own key was invalidated after the stamp, so a read that overlapped a write to that key
+ * can never cache the old item, while writes to other keys do not keep it out. Per-key records are kept for
+ * 30 seconds, or until there are more of them than the entry bound, after which reads stamped before the oldest
+ * dropped record are not cached.
+ * Key attribute names are learned from the keys looked up, which lets writes of whole items be mapped
+ * back to the cached key without describing the table.
+ */
+public class ItemCache {
+
+    /** How long the generation of a key's last invalidation is remembered. */
+    private static final Duration TOMBSTONE_RETENTION = Duration.ofSeconds(30);
+
+    private static final Map<String, AttributeValue> ABSENT = Map.of();
+
+    private record CacheKey(String tableName, Map<String, AttributeValue> key) {
+    }
+
+    /** A cached item, or a cached miss when {@code item} is null. */
+    private record Entry(byte[] item, long expiresAtNanos) {
+        int weight() {
+            return item != null ? item.length : 0;
+        }
+    }
+
+    /** The generation a key was last invalidated at, and when. */
+    private record Tombstone(long generation, long atNanos) {
+    }
+
+    private final CacheConfig config;
+    private final LongSupplier nanoClock;
+    private final LinkedHashMap<CacheKey, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final LinkedHashMap<CacheKey, Tombstone> tombstones = new LinkedHashMap<>();
+    private final Map<String, Long> tableGenerations = new HashMap<>();
+    private final Map<String, Set<String>> keyNames = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private long bytes;
+    private long generation;
+    /** Generation of the newest dropped tombstone or of the last clear; keys without a tombstone count as invalidated then. */
+    private long floor;
+
+    public ItemCache(CacheConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    ItemCache(CacheConfig config, LongSupplier nanoClock) {
+        this.config = config;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Returns the cached item, an empty map if the key is cached as having no item, or null if the key is not cached.
+     */
+    public Map<String, AttributeValue> get(String tableName, Map<String, AttributeValue> key) {
+        Entry entry;
+        synchronized (this) {
+            CacheKey cacheKey = new CacheKey(tableName, key);
+            entry = entries.get(cacheKey);
+            if (entry != null && nanoClock.getAsLong() - entry.expiresAtNanos() >= 0) {
+                remove(cacheKey);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.item() != null ? ItemEncoding.decode(entry.item()) : ABSENT;
+    }
+
+    /**
+     * Current invalidation generation, to be taken before reading from the table.
+     */
+    public synchronized long stamp() {
+        return generation;
+    }
+
+    /**
+     * Generation at which the key was last invalidated, directly or through its table. It only changes when
+     * the key may have been written, so two reads of the key that saw the same generation see the same writes.
+     */
+    public synchronized long generation(String tableName, Map<String, AttributeValue> key) {
+        return generationOf(new CacheKey(tableName, key));
+    }
+
+    /**
+     * Caches the result of reading one key; an empty or null item is cached as a miss.
+     * Ignored if the key was invalidated since {@code stamp} was taken.
+     */
+    public void put(String tableName, Map<String, AttributeValue> key, Map<String, AttributeValue> item, long stamp) {
+        keyNames.putIfAbsent(tableName, Set.copyOf(key.keySet()));
+        boolean found = item != null && !item.isEmpty();
+        if (!found && !config.isCacheMisses()) {
+            return;
+        }
+        byte[] encoded = found ? ItemEncoding.encode(item) : null;
+        synchronized (this) {
+            CacheKey cacheKey = new CacheKey(tableName, Map.copyOf(key));
+            if (generationOf(cacheKey) > stamp) {
+                return;
+            }
+            remove(cacheKey);
+            Entry entry = new Entry(encoded, nanoClock.getAsLong() + config.getTtl().toNanos());
+            entries.put(cacheKey, entry);
+            bytes += entry.weight();
+            evict();
+        }
+    }
+
+    /**
+     * Caches the result of reading a set of keys, marking requested keys without a returned item as misses.
+     */
+    public void putAll(String tableName, Collection<Map<String, AttributeValue>> keys, Collection<Map<String, AttributeValue>> items,
+                       long stamp) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        keyNames.putIfAbsent(tableName, Set.copyOf(keys.iterator().next().keySet()));
+        Map<Map<String, AttributeValue>, Map<String, AttributeValue>> byKey = new HashMap<>(items.size() * 2);
+        for (Map<String, AttributeValue> item : items) {
+            Map<String, AttributeValue> key = keyOf(tableName, item);
+            if (key != null) {
+                byKey.put(key, item);
+            }
+        }
+        for (Map<String, AttributeValue> key : keys) {
+            put(tableName, key, byKey.get(key), stamp);
+        }
+    }
+
+    public void invalidate(String tableName, Map<String, AttributeValue> key) {
+        synchronized (this) {
+            CacheKey cacheKey = new CacheKey(tableName, Map.copyOf(key));
+            long now = nanoClock.getAsLong();
+            tombstones.remove(cacheKey);
+            tombstones.put(cacheKey, new Tombstone(++generation, now));
+            remove(cacheKey);
+            pruneTombstones(now);
+        }
+    }
+
+    /**
+     * Invalidates the key of a whole item, as written by a put.
+     */
+    public void invalidateItem(String tableName, Map<String, AttributeValue> item) {
+        Map<String, AttributeValue> key = keyOf(tableName, item);
+        if (key != null) {
+            invalidate(tableName, key);
+        } else {
+            // Without the key attribute names nothing of the table is cached yet, but a read in flight must still not cache it
+            synchronized (this) {
+                tableGenerations.put(tableName, ++generation);
+            }
+        }
+    }
+
+    public void invalidate(String tableName, WriteRequest request) {
+        if (request.putRequest() != null) {
+            invalidateItem(tableName, request.putRequest().item());
+        } else if (request.deleteRequest() != null) {
+            invalidate(tableName, request.deleteRequest().key());
+        }
+    }
+
+    public synchronized void invalidateTable(String tableName) {
+        tableGenerations.put(tableName, ++generation);
+        Iterator<Map.Entry<CacheKey, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<CacheKey, Entry> entry = iterator.next();
+            if (entry.getKey().tableName().equals(tableName)) {
+                bytes -= entry.getValue().weight();
+                iterator.remove();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        floor = ++generation;
+        tombstones.clear();
+        tableGenerations.clear();
+        entries.clear();
+        bytes = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long sizeInBytes() {
+        return bytes;
+    }
+
+    public long hitCount() {
+        return hits.get();
+    }
+
+    public long missCount() {
+        return misses.get();
+    }
+
+    private Map<String, AttributeValue> keyOf(String tableName, Map<String, AttributeValue> item) {
+        Set<String> names = keyNames.get(tableName);
+        if (names == null) {
+            return null;
+        }
+        Map<String, AttributeValue> key = new HashMap<>(names.size() * 2);
+        for (String name : names) {
+            AttributeValue value = item.get(name);
+            if (value == null) {
+                return null;
+            }
+            key.put(name, value);
+        }
+        return key;
+    }
+
+    private long generationOf(CacheKey cacheKey) {
+        Tombstone tombstone = tombstones.get(cacheKey);
+        long keyGeneration = tombstone != null ? tombstone.generation() : floor;
+        return Math.max(keyGeneration, tableGenerations.getOrDefault(cacheKey.tableName(), 0L));
+    }
+
+    /**
+     * Drops tombstones older than the retention, or the oldest ones once they outnumber the cache's entry bound,
+     * raising the floor so that reads stamped before them are still refused.
+     */
+    private void pruneTombstones(long now) {
+        long retentionNanos = TOMBSTONE_RETENTION.toNanos();
+        Iterator<Tombstone> oldest = tombstones.values().iterator();
+        while (oldest.hasNext()) {
+            Tombstone tombstone = oldest.next();
+            if (tombstones.size() <= config.getMaxEntries() && now - tombstone.atNanos() < retentionNanos) {
+                return;
+            }
+            floor = Math.max(floor, tombstone.generation());
+            oldest.remove();
+        }
+    }
+
+    private void remove(CacheKey cacheKey) {
+        Entry removed = entries.remove(cacheKey);
+        if (removed != null) {
+            bytes -= removed.weight();
+        }
+    }
+
+    private void evict() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while ((entries.size() > config.getMaxEntries() || bytes > config.getMaxBytes()) && eldest.hasNext()) {
+            bytes -= eldest.next().weight();
+            eldest.remove();
+        }
+    }
+}
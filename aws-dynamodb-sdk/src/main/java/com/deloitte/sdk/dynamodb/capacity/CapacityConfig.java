@@ -0,0 +1,28 @@
+package com.deloitte.sdk.dynamodb.capacity;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Pacing limits for {@link CapacityLimiter}.
+ */
+@Builder
+@Getter
+public class CapacityConfig {
+
+    /** Fraction of each table's provisioned read and write capacity that paced clients may consume. */
+    @Builder.Default
+    private final double utilization = 0.9;
+    /** Unused capacity that may be saved up for a burst, in seconds of the paced rate. */
+    @Builder.Default
+    private final double burstSeconds = 1.0;
+    /** How often provisioned throughput is described again, to follow auto scaling. */
+    @Builder.Default
+    private final Duration refreshInterval = Duration.ofMinutes(5);
+
+    public static CapacityConfig defaults() {
+        return CapacityConfig.builder().build();
+    }
+}
@@ -0,0 +1,217 @@
+package com.deloitte.sdk.dynamodb.capacity;
+
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Paces the item reads and writes of a DynamoDB client against a {@link CapacityLimiter}. Register it when
+ * building the client passed to the wrapper:
+ * <pre>{@code
+ * DynamoDbClient.builder()
+ *         .overrideConfiguration(c -> c.addExecutionInterceptor(new CapacityInterceptor(limiter)))
+ *         .build();
+ * }</pre>
+ * Before a request is sent, the capacity it is expected to consume is reserved: half a unit per eventually
+ * consistent read and one per strongly consistent read or write, per key or item in a batch. A query or scan
+ * page reserves what the previous page of the same table and index consumed, or, for the first page, its
+ * {@code Limit} in items, capped at the units of a full 1 MB page. Requests ask for
+ * {@code ReturnConsumedCapacity=TOTAL} unless the caller chose otherwise, and the reported consumption settles
+ * the reservation; a failed request refunds it. Other operations pass through unpaced.
+ */
+public class CapacityInterceptor implements ExecutionInterceptor {
+
+    /** {@code pageKey} identifies the query or scan whose page consumption estimates the next page. */
+    private record Reservation(boolean read, Map<String, Double> unitsByTable, String pageKey) {
+
+        Reservation(boolean read, Map<String, Double> unitsByTable) {
+            this(read, unitsByTable, null);
+        }
+    }
+
+    private static final ExecutionAttribute<Reservation> RESERVATION = new ExecutionAttribute<>("CapacityInterceptor.reservation");
+    /** Number of 4 KB read units in a full 1 MB page. */
+    private static final double FULL_PAGE_UNITS = 256;
+
+    private final CapacityLimiter limiter;
+    private final Map<String, Double> lastPageUnits = new ConcurrentHashMap<>();
+
+    public CapacityInterceptor(CapacityLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        Reservation reservation = estimate(context.request());
+        if (reservation == null) {
+            return;
+        }
+        Map<String, Double> acquired = new HashMap<>();
+        try {
+            for (Map.Entry<String, Double> entry : reservation.unitsByTable().entrySet()) {
+                if (reservation.read()) {
+                    limiter.acquireRead(entry.getKey(), entry.getValue());
+                } else {
+                    limiter.acquireWrite(entry.getKey(), entry.getValue());
+                }
+                acquired.put(entry.getKey(), entry.getValue());
+            }
+        } catch (InterruptedException e) {
+            // The reservation is not attached yet, so the failure hook cannot refund what was already taken.
+            acquired.forEach((tableName, units) -> settle(reservation, tableName, units, 0));
+            Thread.currentThread().interrupt();
+            throw AbortedException.builder().message("Interrupted while waiting for table capacity").cause(e).build();
+        }
+        executionAttributes.putAttribute(RESERVATION, reservation);
+    }
+
+    @Override
+    public SdkRequest modifyRequest(Context.ModifyRequest context, ExecutionAttributes executionAttributes) {
+        SdkRequest request = context.request();
+        if (executionAttributes.getAttribute(RESERVATION) == null) {
+            return request;
+        }
+        return switch (request) {
+            case GetItemRequest r when r.returnConsumedCapacity() == null -> r.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+            case PutItemRequest r when r.returnConsumedCapacity() == null -> r.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+            case UpdateItemRequest r when r.returnConsumedCapacity() == null -> r.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+            case DeleteItemRequest r when r.returnConsumedCapacity() == null -> r.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+            case QueryRequest r when r.returnConsumedCapacity() == null -> r.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+            case ScanRequest r when r.returnConsumedCapacity() == null -> r.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+            case BatchGetItemRequest r when r.returnConsumedCapacity() == null -> r.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+            case BatchWriteItemRequest r when r.returnConsumedCapacity() == null -> r.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+            default -> request;
+        };
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        Reservation reservation = executionAttributes.getAttribute(RESERVATION);
+        if (reservation == null) {
+            return;
+        }
+        List<ConsumedCapacity> consumed = consumedCapacity(context.response());
+        if (consumed.isEmpty()) {
+            return;
+        }
+        Map<String, Double> consumedByTable = new HashMap<>();
+        for (ConsumedCapacity capacity : consumed) {
+            if (capacity.tableName() != null && capacity.capacityUnits() != null) {
+                consumedByTable.merge(capacity.tableName(), capacity.capacityUnits(), Double::sum);
+            }
+        }
+        reservation.unitsByTable().forEach((tableName, estimated) ->
+                settle(reservation, tableName, estimated, consumedByTable.getOrDefault(tableName, 0.0)));
+        if (reservation.pageKey() != null) {
+            reservation.unitsByTable().keySet().forEach(tableName -> {
+                Double pageUnits = consumedByTable.get(tableName);
+                if (pageUnits != null) {
+                    lastPageUnits.put(reservation.pageKey(), pageUnits);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+        Reservation reservation = executionAttributes.getAttribute(RESERVATION);
+        if (reservation != null) {
+            reservation.unitsByTable().forEach((tableName, estimated) -> settle(reservation, tableName, estimated, 0));
+        }
+    }
+
+    private void settle(Reservation reservation, String tableName, double estimated, double consumed) {
+        if (reservation.read()) {
+            limiter.settleRead(tableName, estimated, consumed);
+        } else {
+            limiter.settleWrite(tableName, estimated, consumed);
+        }
+    }
+
+    private Reservation estimate(SdkRequest request) {
+        return switch (request) {
+            case GetItemRequest r -> new Reservation(true, Map.of(r.tableName(), readUnits(r.consistentRead(), 1)));
+            case QueryRequest r -> pageReservation("Query", r.tableName(), r.indexName(), r.consistentRead(), r.limit());
+            case ScanRequest r -> pageReservation("Scan", r.tableName(), r.indexName(), r.consistentRead(), r.limit());
+            case BatchGetItemRequest r -> {
+                Map<String, Double> units = new LinkedHashMap<>();
+                r.requestItems().forEach((tableName, keys) -> units.put(tableName, readUnits(keys.consistentRead(), keys.keys().size())));
+                yield new Reservation(true, units);
+            }
+            case PutItemRequest r -> new Reservation(false, Map.of(r.tableName(), 1.0));
+            case UpdateItemRequest r -> new Reservation(false, Map.of(r.tableName(), 1.0));
+            case DeleteItemRequest r -> new Reservation(false, Map.of(r.tableName(), 1.0));
+            case BatchWriteItemRequest r -> {
+                Map<String, Double> units = new LinkedHashMap<>();
+                r.requestItems().forEach((tableName, writes) -> units.put(tableName, (double) writes.size()));
+                yield new Reservation(false, units);
+            }
+            default -> null;
+        };
+    }
+
+    private Reservation pageReservation(String operation, String tableName, String indexName, Boolean consistentRead,
+                                        Integer limit) {
+        String pageKey = operation + "/" + tableName + "/" + (indexName != null ? indexName : "");
+        Double previous = lastPageUnits.get(pageKey);
+        double units;
+        if (previous != null) {
+            units = previous;
+        } else if (limit != null) {
+            units = Math.min(readUnits(consistentRead, limit), readUnits(consistentRead, 1) * FULL_PAGE_UNITS);
+        } else {
+            units = readUnits(consistentRead, 1);
+        }
+        return new Reservation(true, Map.of(tableName, units), pageKey);
+    }
+
+    private static double readUnits(Boolean consistentRead, int count) {
+        return (Boolean.TRUE.equals(consistentRead) ? 1.0 : 0.5) * count;
+    }
+
+    private static List<ConsumedCapacity> consumedCapacity(SdkResponse response) {
+        return switch (response) {
+            case GetItemResponse r -> listOf(r.consumedCapacity());
+            case QueryResponse r -> listOf(r.consumedCapacity());
+            case ScanResponse r -> listOf(r.consumedCapacity());
+            case PutItemResponse r -> listOf(r.consumedCapacity());
+            case UpdateItemResponse r -> listOf(r.consumedCapacity());
+            case DeleteItemResponse r -> listOf(r.consumedCapacity());
+            case BatchGetItemResponse r -> r.consumedCapacity();
+            case BatchWriteItemResponse r -> r.consumedCapacity();
+            default -> List.of();
+        };
+    }
+
+    private static List<ConsumedCapacity> listOf(ConsumedCapacity capacity) {
+        return capacity != null ? List.of(capacity) : List.of();
+    }
+}
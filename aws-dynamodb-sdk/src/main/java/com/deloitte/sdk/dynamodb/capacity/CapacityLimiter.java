@@ -0,0 +1,169 @@
+package com.deloitte.sdk.dynamodb.capacity;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputDescription;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-table read and write token buckets sized from each table's provisioned throughput.
+ * <p>
+ * Callers reserve an estimate of the capacity a request will consume before sending it, waiting if the table's
+ * bucket is in debt, and settle the difference once the response reports what was actually consumed. Buckets are
+ * created on first use from {@code describeTable}, and every refresh interval one caller describes the table again
+ * and moves the existing buckets to the new rates, so debt carries over; other callers keep the current buckets
+ * meanwhile. Tables billed on demand, or whose description fails, are not paced. Index reads are charged to their table.
+ */
+public class CapacityLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(CapacityLimiter.class);
+
+    private record TableBuckets(TokenBucket read, TokenBucket write, long describedAtNanos, boolean pinned) {
+    }
+
+    private record Throughput(double read, double write) {
+    }
+
+    private final CapacityConfig config;
+    private final Function<String, TableDescription> describer;
+    private final LongSupplier nanoClock;
+    private final Map<String, TableBuckets> tables = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param describer looks up a table's description, typically {@code name -> client.describeTable(r -> r.tableName(name)).table()}
+     */
+    public CapacityLimiter(CapacityConfig config, Function<String, TableDescription> describer) {
+        this(config, describer, System::nanoTime);
+    }
+
+    CapacityLimiter(CapacityConfig config, Function<String, TableDescription> describer, LongSupplier nanoClock) {
+        this.config = config != null ? config : CapacityConfig.defaults();
+        this.describer = describer;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Paces a table at fixed rates instead of its described throughput; a rate of zero leaves that side unpaced.
+     */
+    public void setCapacity(String tableName, double readUnitsPerSecond, double writeUnitsPerSecond) {
+        tables.put(tableName, new TableBuckets(bucket(readUnitsPerSecond), bucket(writeUnitsPerSecond), nanoClock.getAsLong(), true));
+    }
+
+    public void acquireRead(String tableName, double units) throws InterruptedException {
+        acquire(buckets(tableName).read(), units);
+    }
+
+    public void acquireWrite(String tableName, double units) throws InterruptedException {
+        acquire(buckets(tableName).write(), units);
+    }
+
+    /**
+     * Settles a read reserved with {@code estimated} units that actually consumed {@code consumed}.
+     */
+    public void settleRead(String tableName, double estimated, double consumed) {
+        settle(buckets(tableName).read(), estimated, consumed);
+    }
+
+    public void settleWrite(String tableName, double estimated, double consumed) {
+        settle(buckets(tableName).write(), estimated, consumed);
+    }
+
+    /** Units currently available for reads, or infinity if reads on the table are not paced. */
+    public double availableReadUnits(String tableName) {
+        TokenBucket bucket = buckets(tableName).read();
+        return bucket != null ? bucket.available() : Double.POSITIVE_INFINITY;
+    }
+
+    public double availableWriteUnits(String tableName) {
+        TokenBucket bucket = buckets(tableName).write();
+        return bucket != null ? bucket.available() : Double.POSITIVE_INFINITY;
+    }
+
+    private static void acquire(TokenBucket bucket, double units) throws InterruptedException {
+        if (bucket == null) {
+            return;
+        }
+        long waitNanos = bucket.reserve(units);
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                bucket.adjust(-units);
+                throw e;
+            }
+        }
+    }
+
+    private static void settle(TokenBucket bucket, double estimated, double consumed) {
+        if (bucket != null && consumed != estimated) {
+            bucket.adjust(consumed - estimated);
+        }
+    }
+
+    private TableBuckets buckets(String tableName) {
+        TableBuckets current = tables.get(tableName);
+        long now = nanoClock.getAsLong();
+        if (current != null && (current.pinned() || now - current.describedAtNanos() < config.getRefreshInterval().toNanos())) {
+            return current;
+        }
+        if (current == null) {
+            // Described outside the map, so a slow describeTable never holds a map lock; racing first callers
+            // may each describe the table once, and the first result is kept
+            Throughput throughput = describe(tableName);
+            TableBuckets created = new TableBuckets(bucket(throughput.read()), bucket(throughput.write()), now, false);
+            TableBuckets raced = tables.putIfAbsent(tableName, created);
+            return raced != null ? raced : created;
+        }
+        if (!refreshing.add(tableName)) {
+            return current;
+        }
+        try {
+            Throughput throughput = describe(tableName);
+            TableBuckets refreshed = new TableBuckets(rebucket(current.read(), throughput.read()),
+                    rebucket(current.write(), throughput.write()), now, false);
+            return tables.replace(tableName, current, refreshed) ? refreshed : tables.getOrDefault(tableName, current);
+        } finally {
+            refreshing.remove(tableName);
+        }
+    }
+
+    private Throughput describe(String tableName) {
+        double read = 0;
+        double write = 0;
+        try {
+            ProvisionedThroughputDescription throughput = describer.apply(tableName).provisionedThroughput();
+            if (throughput != null) {
+                read = throughput.readCapacityUnits() != null ? throughput.readCapacityUnits() : 0;
+                write = throughput.writeCapacityUnits() != null ? throughput.writeCapacityUnits() : 0;
+            }
+            logger.debug("Pacing table {} at {} read and {} write units per second", tableName,
+                    read * config.getUtilization(), write * config.getUtilization());
+        } catch (RuntimeException e) {
+            logger.warn("Could not describe table {}; requests to it are not paced until the next refresh", tableName, e);
+        }
+        return new Throughput(read * config.getUtilization(), write * config.getUtilization());
+    }
+
+    /**
+     * The existing bucket moved to a new rate, so its balance and debt carry over, or a new one if there was none.
+     */
+    private TokenBucket rebucket(TokenBucket existing, double unitsPerSecond) {
+        if (existing == null || unitsPerSecond <= 0) {
+            return bucket(unitsPerSecond);
+        }
+        existing.setRate(unitsPerSecond, config.getBurstSeconds());
+        return existing;
+    }
+
+    private TokenBucket bucket(double unitsPerSecond) {
+        return unitsPerSecond > 0 ? new TokenBucket(unitsPerSecond, config.getBurstSeconds(), nanoClock) : null;
+    }
+}
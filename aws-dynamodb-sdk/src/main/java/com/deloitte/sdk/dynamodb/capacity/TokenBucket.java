@@ -0,0 +1,63 @@
+package com.deloitte.sdk.dynamodb.capacity;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Capacity units refilled at a fixed rate up to a burst limit. Reservations may take the balance negative;
+ * the caller then waits until the debt has been refilled, so concurrent callers are paced in turn
+ * rather than all retrying at once.
+ */
+final class TokenBucket {
+
+    private double unitsPerNano;
+    private double capacity;
+    private final LongSupplier nanoClock;
+    private double tokens;
+    private long refilledAtNanos;
+
+    TokenBucket(double unitsPerSecond, double burstSeconds, LongSupplier nanoClock) {
+        this.unitsPerNano = unitsPerSecond / 1_000_000_000.0;
+        this.capacity = Math.max(1.0, unitsPerSecond * burstSeconds);
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.refilledAtNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Takes {@code units} and returns how long the caller must wait before sending, in nanoseconds.
+     */
+    synchronized long reserve(double units) {
+        refill();
+        tokens -= units;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / unitsPerNano);
+    }
+
+    /**
+     * Corrects an earlier reservation once the real cost is known; a negative delta refunds units.
+     */
+    synchronized void adjust(double delta) {
+        refill();
+        tokens = Math.min(capacity, tokens - delta);
+    }
+
+    /**
+     * Changes the refill rate and burst limit, keeping the current balance and any debt.
+     */
+    synchronized void setRate(double unitsPerSecond, double burstSeconds) {
+        refill();
+        unitsPerNano = unitsPerSecond / 1_000_000_000.0;
+        capacity = Math.max(1.0, unitsPerSecond * burstSeconds);
+        tokens = Math.min(capacity, tokens);
+    }
+
+    synchronized double available() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - refilledAtNanos) * unitsPerNano);
+        refilledAtNanos = now;
+    }
+}
@@ -0,0 +1,188 @@
+package com.deloitte.sdk.dynamodb.encoding;
+
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact tagged binary form of an item: a type tag per attribute value, with length-prefixed UTF-8 strings
+ * and bytes. Used by the item cache, which holds each item as one byte array instead of a graph of maps and
+ * {@link AttributeValue} objects, and by binary table exports.
+ */
+public final class ItemEncoding {
+
+    private static final byte STRING = 1;
+    private static final byte NUMBER = 2;
+    private static final byte BINARY = 3;
+    private static final byte TRUE = 4;
+    private static final byte FALSE = 5;
+    private static final byte NULL = 6;
+    private static final byte LIST = 7;
+    private static final byte MAP = 8;
+    private static final byte STRING_SET = 9;
+    private static final byte NUMBER_SET = 10;
+    private static final byte BINARY_SET = 11;
+
+    private ItemEncoding() {
+    }
+
+    public static byte[] encode(Map<String, AttributeValue> item) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeMap(out, item);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static Map<String, AttributeValue> decode(byte[] encoded) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(encoded))) {
+            return readMap(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeMap(DataOutputStream out, Map<String, AttributeValue> map) throws IOException {
+        out.writeInt(map.size());
+        for (Map.Entry<String, AttributeValue> entry : map.entrySet()) {
+            writeString(out, entry.getKey());
+            writeValue(out, entry.getValue());
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, AttributeValue value) throws IOException {
+        switch (value.type()) {
+            case S -> {
+                out.writeByte(STRING);
+                writeString(out, value.s());
+            }
+            case N -> {
+                out.writeByte(NUMBER);
+                writeString(out, value.n());
+            }
+            case B -> {
+                out.writeByte(BINARY);
+                writeBytes(out, value.b());
+            }
+            case BOOL -> out.writeByte(value.bool() ? TRUE : FALSE);
+            case NUL -> out.writeByte(NULL);
+            case L -> {
+                out.writeByte(LIST);
+                out.writeInt(value.l().size());
+                for (AttributeValue element : value.l()) {
+                    writeValue(out, element);
+                }
+            }
+            case M -> {
+                out.writeByte(MAP);
+                writeMap(out, value.m());
+            }
+            case SS -> writeStrings(out, STRING_SET, value.ss());
+            case NS -> writeStrings(out, NUMBER_SET, value.ns());
+            case BS -> {
+                out.writeByte(BINARY_SET);
+                out.writeInt(value.bs().size());
+                for (SdkBytes element : value.bs()) {
+                    writeBytes(out, element);
+                }
+            }
+            default -> throw new IllegalArgumentException("Unsupported attribute value: " + value);
+        }
+    }
+
+    private static Map<String, AttributeValue> readMap(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        Map<String, AttributeValue> map = new HashMap<>(Math.max(4, size * 2));
+        for (int i = 0; i < size; i++) {
+            String name = readString(in);
+            map.put(name, readValue(in));
+        }
+        return map;
+    }
+
+    private static AttributeValue readValue(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        return switch (tag) {
+            case STRING -> AttributeValue.fromS(readString(in));
+            case NUMBER -> AttributeValue.fromN(readString(in));
+            case BINARY -> AttributeValue.fromB(readBytes(in));
+            case TRUE -> AttributeValue.fromBool(true);
+            case FALSE -> AttributeValue.fromBool(false);
+            case NULL -> AttributeValue.fromNul(true);
+            case LIST -> {
+                int size = in.readInt();
+                List<AttributeValue> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+                yield AttributeValue.fromL(list);
+            }
+            case MAP -> AttributeValue.fromM(readMap(in));
+            case STRING_SET -> AttributeValue.fromSs(readStrings(in));
+            case NUMBER_SET -> AttributeValue.fromNs(readStrings(in));
+            case BINARY_SET -> {
+                int size = in.readInt();
+                List<SdkBytes> set = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    set.add(readBytes(in));
+                }
+                yield AttributeValue.fromBs(set);
+            }
+            default -> throw new IOException("Unknown attribute tag: " + tag);
+        };
+    }
+
+    private static void writeStrings(DataOutputStream out, byte tag, List<String> values) throws IOException {
+        out.writeByte(tag);
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static List<String> readStrings(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(DataOutputStream out, SdkBytes value) throws IOException {
+        byte[] bytes = value.asByteArrayUnsafe();
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static SdkBytes readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return SdkBytes.fromByteArrayUnsafe(bytes);
+    }
+}
@@ -0,0 +1,149 @@
+package com.deloitte.sdk.dynamodb.encoding;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streams items as DynamoDB JSON, where every value is an object keyed by its type
+ * ({@code {"id":{"S":"a"},"n":{"N":"1"}}}), so items round-trip without losing types. Binary values are base64.
+ */
+public final class ItemJson {
+
+    private ItemJson() {
+    }
+
+    public static void write(JsonGenerator generator, Map<String, AttributeValue> item) throws IOException {
+        generator.writeStartObject();
+        for (Map.Entry<String, AttributeValue> entry : item.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeValue(generator, entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads the item starting at the parser's next token, or returns null at the end of the input.
+     */
+    public static Map<String, AttributeValue> read(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            return null;
+        }
+        expect(parser, token, JsonToken.START_OBJECT);
+        return readMap(parser);
+    }
+
+    private static void writeValue(JsonGenerator generator, AttributeValue value) throws IOException {
+        generator.writeStartObject();
+        switch (value.type()) {
+            case S -> generator.writeStringField("S", value.s());
+            case N -> generator.writeStringField("N", value.n());
+            case B -> generator.writeBinaryField("B", value.b().asByteArrayUnsafe());
+            case BOOL -> generator.writeBooleanField("BOOL", value.bool());
+            case NUL -> generator.writeBooleanField("NULL", true);
+            case L -> {
+                generator.writeArrayFieldStart("L");
+                for (AttributeValue element : value.l()) {
+                    writeValue(generator, element);
+                }
+                generator.writeEndArray();
+            }
+            case M -> {
+                generator.writeFieldName("M");
+                write(generator, value.m());
+            }
+            case SS -> writeStrings(generator, "SS", value.ss());
+            case NS -> writeStrings(generator, "NS", value.ns());
+            case BS -> {
+                generator.writeArrayFieldStart("BS");
+                for (SdkBytes element : value.bs()) {
+                    generator.writeBinary(element.asByteArrayUnsafe());
+                }
+                generator.writeEndArray();
+            }
+            default -> throw new IllegalArgumentException("Unsupported attribute value: " + value);
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeStrings(JsonGenerator generator, String type, List<String> values) throws IOException {
+        generator.writeArrayFieldStart(type);
+        for (String value : values) {
+            generator.writeString(value);
+        }
+        generator.writeEndArray();
+    }
+
+    /** Reads the fields of an object whose START_OBJECT has been consumed. */
+    private static Map<String, AttributeValue> readMap(JsonParser parser) throws IOException {
+        Map<String, AttributeValue> map = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            map.put(name, readValue(parser));
+        }
+        return map;
+    }
+
+    private static AttributeValue readValue(JsonParser parser) throws IOException {
+        expect(parser, parser.nextToken(), JsonToken.FIELD_NAME);
+        String type = parser.currentName();
+        JsonToken token = parser.nextToken();
+        AttributeValue value = switch (type) {
+            case "S" -> AttributeValue.fromS(parser.getText());
+            case "N" -> AttributeValue.fromN(parser.getText());
+            case "B" -> AttributeValue.fromB(SdkBytes.fromByteArrayUnsafe(parser.getBinaryValue()));
+            case "BOOL" -> AttributeValue.fromBool(parser.getBooleanValue());
+            case "NULL" -> AttributeValue.fromNul(true);
+            case "M" -> {
+                expect(parser, token, JsonToken.START_OBJECT);
+                yield AttributeValue.fromM(readMap(parser));
+            }
+            case "L" -> {
+                expect(parser, token, JsonToken.START_ARRAY);
+                List<AttributeValue> list = new ArrayList<>();
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    list.add(readValue(parser));
+                }
+                yield AttributeValue.fromL(list);
+            }
+            case "SS" -> AttributeValue.fromSs(readStrings(parser, token));
+            case "NS" -> AttributeValue.fromNs(readStrings(parser, token));
+            case "BS" -> {
+                expect(parser, token, JsonToken.START_ARRAY);
+                List<SdkBytes> set = new ArrayList<>();
+                while (parser.nextToken() == JsonToken.VALUE_STRING) {
+                    set.add(SdkBytes.fromByteArrayUnsafe(parser.getBinaryValue()));
+                }
+                yield AttributeValue.fromBs(set);
+            }
+            default -> throw new IOException("Unknown attribute type " + type + " at " + parser.currentLocation());
+        };
+        expect(parser, parser.nextToken(), JsonToken.END_OBJECT);
+        return value;
+    }
+
+    private static List<String> readStrings(JsonParser parser, JsonToken token) throws IOException {
+        expect(parser, token, JsonToken.START_ARRAY);
+        List<String> values = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.VALUE_STRING) {
+            values.add(parser.getText());
+        }
+        return values;
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Expected " + expected + " but found " + actual + " at " + parser.currentLocation());
+        }
+    }
+}
@@ -4,4 +4,8 @@ public class DynamoDbSdkException extends Exception {
     public DynamoDbSdkException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    public DynamoDbSdkException(String message) {
+        super(message);
+    }
 }
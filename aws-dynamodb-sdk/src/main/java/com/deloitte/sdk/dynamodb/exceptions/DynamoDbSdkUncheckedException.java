@@ -0,0 +1,12 @@
+package com.deloitte.sdk.dynamodb.exceptions;
+
+/**
+ * Raised from lazily evaluated results, such as paginated item iterators, where a checked
+ * {@link DynamoDbSdkException} cannot be thrown.
+ */
+public class DynamoDbSdkUncheckedException extends RuntimeException {
+
+    public DynamoDbSdkUncheckedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,52 @@
+package com.deloitte.sdk.dynamodb.export;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compression applied to export files.
+ */
+public enum ExportCompression {
+
+    NONE("") {
+        @Override
+        OutputStream wrap(OutputStream out) {
+            return out;
+        }
+
+        @Override
+        InputStream wrap(InputStream in) {
+            return in;
+        }
+    },
+    GZIP(".gz") {
+        @Override
+        OutputStream wrap(OutputStream out) throws IOException {
+            return new GZIPOutputStream(out, BUFFER_SIZE);
+        }
+
+        @Override
+        InputStream wrap(InputStream in) throws IOException {
+            return new GZIPInputStream(in, BUFFER_SIZE);
+        }
+    };
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String extension;
+
+    ExportCompression(String extension) {
+        this.extension = extension;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    abstract OutputStream wrap(OutputStream out) throws IOException;
+
+    abstract InputStream wrap(InputStream in) throws IOException;
+}
@@ -0,0 +1,8 @@
+package com.deloitte.sdk.dynamodb.export;
+
+/**
+ * One export file: its name within the export directory, the segment and part it holds,
+ * how many items it contains, and its size before and after compression.
+ */
+public record ExportFile(String name, int segment, int part, long itemCount, long encodedBytes, long sizeBytes) {
+}
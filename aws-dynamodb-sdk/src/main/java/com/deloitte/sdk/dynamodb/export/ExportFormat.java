@@ -0,0 +1,22 @@
+package com.deloitte.sdk.dynamodb.export;
+
+/**
+ * How exported items are encoded.
+ */
+public enum ExportFormat {
+
+    /** One DynamoDB JSON item per line; readable by any JSON tooling. */
+    NDJSON("ndjson"),
+    /** Length-prefixed items in the compact tagged binary encoding; smaller and faster to read back. */
+    BINARY("bin");
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
@@ -0,0 +1,69 @@
+package com.deloitte.sdk.dynamodb.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Index of a completed export, written as {@value #FILE_NAME} next to the files it lists. The manifest is written
+ * last, so a directory without one holds an incomplete export.
+ */
+public record ExportManifest(String tableName, ExportFormat format, ExportCompression compression, int totalSegments,
+                             Instant exportedAt, Duration elapsed, long itemCount, List<ExportFile> files) {
+
+    public static final String FILE_NAME = "manifest.json";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public void write(Path directory) throws IOException {
+        ObjectNode json = MAPPER.createObjectNode()
+                .put("tableName", tableName)
+                .put("format", format.name())
+                .put("compression", compression.name())
+                .put("totalSegments", totalSegments)
+                .put("exportedAt", exportedAt.toString())
+                .put("elapsedMillis", elapsed.toMillis())
+                .put("itemCount", itemCount);
+        ArrayNode fileArray = json.putArray("files");
+        for (ExportFile file : files) {
+            fileArray.addObject()
+                    .put("name", file.name())
+                    .put("segment", file.segment())
+                    .put("part", file.part())
+                    .put("itemCount", file.itemCount())
+                    .put("encodedBytes", file.encodedBytes())
+                    .put("sizeBytes", file.sizeBytes());
+        }
+        Path file = directory.resolve(FILE_NAME);
+        Path temp = file.resolveSibling(FILE_NAME + ".tmp");
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(temp.toFile(), json);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static ExportManifest read(Path directory) throws IOException {
+        JsonNode json = MAPPER.readTree(directory.resolve(FILE_NAME).toFile());
+        List<ExportFile> files = new ArrayList<>();
+        for (JsonNode file : json.path("files")) {
+            files.add(new ExportFile(file.path("name").asText(), file.path("segment").asInt(), file.path("part").asInt(),
+                    file.path("itemCount").asLong(), file.path("encodedBytes").asLong(), file.path("sizeBytes").asLong()));
+        }
+        return new ExportManifest(json.path("tableName").asText(),
+                ExportFormat.valueOf(json.path("format").asText()),
+                ExportCompression.valueOf(json.path("compression").asText()),
+                json.path("totalSegments").asInt(),
+                Instant.parse(json.path("exportedAt").asText()),
+                Duration.ofMillis(json.path("elapsedMillis").asLong()),
+                json.path("itemCount").asLong(),
+                List.copyOf(files));
+    }
+}
@@ -0,0 +1,36 @@
+package com.deloitte.sdk.dynamodb.export;
+
+import lombok.Builder;
+import lombok.Getter;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Options for exporting a table to local files.
+ */
+@Builder
+@Getter
+public class ExportOptions {
+
+    /** Directory the export files and manifest are written to; created if missing. */
+    private final Path directory;
+    @Builder.Default
+    private final ExportFormat format = ExportFormat.NDJSON;
+    @Builder.Default
+    private final ExportCompression compression = ExportCompression.GZIP;
+    /** Encoded bytes, before compression, after which a segment rolls over to a new file. */
+    @Builder.Default
+    private final long maxFileBytes = 128L * 1024 * 1024;
+    /** Number of scan segments; each segment is written to its own files. */
+    @Builder.Default
+    private final int totalSegments = 8;
+    /** Segments scanned at once; defaults to one worker per segment. */
+    private final Integer maxConcurrency;
+    private final String filterExpression;
+    private final String projectionExpression;
+    private final Map<String, String> expressionAttributeNames;
+    private final Map<String, AttributeValue> expressionAttributeValues;
+    private final Boolean consistentRead;
+}
@@ -0,0 +1,134 @@
+package com.deloitte.sdk.dynamodb.export;
+
+import com.deloitte.sdk.dynamodb.encoding.ItemEncoding;
+import com.deloitte.sdk.dynamodb.encoding.ItemJson;
+import com.deloitte.sdk.dynamodb.exceptions.DynamoDbSdkUncheckedException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads an export back one item at a time, so exports of any size can be processed in constant memory.
+ * Files can also be read individually, for example one per worker.
+ */
+public final class ExportReader {
+
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private ExportReader() {
+    }
+
+    /**
+     * Streams every item of the export in the given directory, file by file. Close the stream to release the open file.
+     */
+    public static Stream<Map<String, AttributeValue>> items(Path directory) throws IOException {
+        ExportManifest manifest = ExportManifest.read(directory);
+        return manifest.files().stream().flatMap(file -> items(directory, manifest, file));
+    }
+
+    /**
+     * Streams the items of one export file. Close the stream to release the file.
+     */
+    public static Stream<Map<String, AttributeValue>> items(Path directory, ExportManifest manifest, ExportFile file) {
+        ItemSource source;
+        try {
+            source = open(directory.resolve(file.name()), manifest);
+        } catch (IOException e) {
+            throw new DynamoDbSdkUncheckedException("Failed to open export file: " + file.name(), e);
+        }
+        Iterator<Map<String, AttributeValue>> iterator = new Iterator<>() {
+            private Map<String, AttributeValue> next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    try {
+                        next = source.read();
+                    } catch (IOException e) {
+                        throw new DynamoDbSdkUncheckedException("Failed to read export file: " + file.name(), e);
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public Map<String, AttributeValue> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Map<String, AttributeValue> item = next;
+                next = null;
+                return item;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        source.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    private interface ItemSource extends Closeable {
+        /** Returns the next item, or null at the end of the file. */
+        Map<String, AttributeValue> read() throws IOException;
+    }
+
+    private static ItemSource open(Path file, ExportManifest manifest) throws IOException {
+        InputStream in = manifest.compression().wrap(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE));
+        if (manifest.format() == ExportFormat.BINARY) {
+            DataInputStream data = new DataInputStream(new BufferedInputStream(in, BUFFER_SIZE));
+            return new ItemSource() {
+                @Override
+                public Map<String, AttributeValue> read() throws IOException {
+                    int length;
+                    try {
+                        length = data.readInt();
+                    } catch (EOFException e) {
+                        return null;
+                    }
+                    byte[] encoded = new byte[length];
+                    data.readFully(encoded);
+                    return ItemEncoding.decode(encoded);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    data.close();
+                }
+            };
+        }
+        JsonParser parser = JSON.createParser(in);
+        return new ItemSource() {
+            @Override
+            public Map<String, AttributeValue> read() throws IOException {
+                return ItemJson.read(parser);
+            }
+
+            @Override
+            public void close() throws IOException {
+                parser.close();
+            }
+        };
+    }
+}
@@ -0,0 +1,184 @@
+package com.deloitte.sdk.dynamodb.export;
+
+import com.deloitte.sdk.dynamodb.encoding.ItemEncoding;
+import com.deloitte.sdk.dynamodb.encoding.ItemJson;
+import com.deloitte.sdk.dynamodb.exceptions.DynamoDbSdkException;
+import com.deloitte.sdk.dynamodb.query.ParallelScanOptions;
+import com.deloitte.sdk.dynamodb.query.ParallelScanner;
+import com.deloitte.sdk.dynamodb.query.SegmentConsumer;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Exports a table to local files through a parallel segmented scan.
+ * <p>
+ * Each segment streams its items straight into its own files, rolling over to a new part once
+ * {@code maxFileBytes} of encoded items have been written, so memory stays at one scan page and one item
+ * buffer per worker whatever the table size. Files are named {@code segment-SSSS-part-PPPPP.<format>[.gz]},
+ * and an {@link ExportManifest} listing them is written once every segment has finished. A manifest left by an
+ * earlier export to the same directory is deleted before the scan starts.
+ * Read an export back with {@link ExportReader}.
+ */
+public class TableExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TableExporter.class);
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ParallelScanner parallelScanner;
+
+    public TableExporter(DynamoDbClient dynamoDbClient) {
+        this.parallelScanner = new ParallelScanner(dynamoDbClient);
+    }
+
+    public ExportManifest export(String tableName, ExportOptions options) throws DynamoDbSdkException {
+        Instant startedAt = Instant.now();
+        long started = System.nanoTime();
+        Path directory = options.getDirectory();
+        int totalSegments = Math.max(1, options.getTotalSegments());
+        Map<Integer, SegmentWriter> writers = new ConcurrentHashMap<>();
+        List<ExportFile> files = new ArrayList<>();
+        ParallelScanOptions scanOptions = ParallelScanOptions.builder()
+                .totalSegments(totalSegments)
+                .maxConcurrency(options.getMaxConcurrency())
+                .filterExpression(options.getFilterExpression())
+                .projectionExpression(options.getProjectionExpression())
+                .expressionAttributeNames(options.getExpressionAttributeNames())
+                .expressionAttributeValues(options.getExpressionAttributeValues())
+                .consistentRead(options.getConsistentRead())
+                .build();
+
+        try {
+            Files.createDirectories(directory);
+            // Part files of an earlier export here are about to be overwritten, so it must stop looking complete
+            Files.deleteIfExists(directory.resolve(ExportManifest.FILE_NAME));
+            long itemCount = parallelScanner.scan(tableName, scanOptions, new SegmentConsumer() {
+                @Override
+                public void accept(int segment, Map<String, AttributeValue> item) throws IOException {
+                    writers.computeIfAbsent(segment, s -> new SegmentWriter(s, options)).write(item);
+                }
+
+                @Override
+                public void segmentComplete(int segment) throws IOException {
+                    SegmentWriter writer = writers.remove(segment);
+                    if (writer != null) {
+                        List<ExportFile> written = writer.close();
+                        synchronized (files) {
+                            files.addAll(written);
+                        }
+                    }
+                }
+            });
+
+            files.sort(Comparator.comparingInt(ExportFile::segment).thenComparingInt(ExportFile::part));
+            ExportManifest manifest = new ExportManifest(tableName, options.getFormat(), options.getCompression(), totalSegments,
+                    startedAt, Duration.ofMillis((System.nanoTime() - started) / 1_000_000), itemCount, List.copyOf(files));
+            manifest.write(directory);
+            logger.info("Exported {} items from table {} to {} files in {}", itemCount, tableName, files.size(), directory);
+            return manifest;
+        } catch (IOException e) {
+            throw new DynamoDbSdkException("Failed to export table: " + tableName, e);
+        } catch (DynamoDbSdkException e) {
+            throw new DynamoDbSdkException("Failed to export table: " + tableName, e.getCause());
+        } finally {
+            writers.values().forEach(SegmentWriter::abandon);
+        }
+    }
+
+    /**
+     * Writes one segment's items to rolling files. Only the segment's own worker touches it.
+     */
+    private static final class SegmentWriter {
+
+        private final int segment;
+        private final ExportOptions options;
+        private final ByteArrayOutputStream scratch = new ByteArrayOutputStream(4096);
+        private final List<ExportFile> written = new ArrayList<>();
+        private int part;
+        private String name;
+        private OutputStream out;
+        private long itemCount;
+        private long encodedBytes;
+
+        SegmentWriter(int segment, ExportOptions options) {
+            this.segment = segment;
+            this.options = options;
+        }
+
+        void write(Map<String, AttributeValue> item) throws IOException {
+            encode(item);
+            if (out != null && encodedBytes > 0 && encodedBytes + scratch.size() > options.getMaxFileBytes()) {
+                finishFile();
+            }
+            if (out == null) {
+                name = String.format("segment-%04d-part-%05d.%s%s", segment, part, options.getFormat().extension(),
+                        options.getCompression().extension());
+                out = options.getCompression().wrap(new BufferedOutputStream(Files.newOutputStream(options.getDirectory().resolve(name)), BUFFER_SIZE));
+            }
+            scratch.writeTo(out);
+            itemCount++;
+            encodedBytes += scratch.size();
+        }
+
+        List<ExportFile> close() throws IOException {
+            if (out != null) {
+                finishFile();
+            }
+            return written;
+        }
+
+        void abandon() {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    logger.debug("Failed to close abandoned export file {}", name, e);
+                }
+                out = null;
+            }
+        }
+
+        private void encode(Map<String, AttributeValue> item) throws IOException {
+            scratch.reset();
+            if (options.getFormat() == ExportFormat.BINARY) {
+                byte[] encoded = ItemEncoding.encode(item);
+                DataOutputStream frame = new DataOutputStream(scratch);
+                frame.writeInt(encoded.length);
+                frame.write(encoded);
+            } else {
+                try (JsonGenerator generator = JSON.createGenerator(scratch)) {
+                    ItemJson.write(generator, item);
+                }
+                scratch.write('\n');
+            }
+        }
+
+        private void finishFile() throws IOException {
+            out.close();
+            out = null;
+            written.add(new ExportFile(name, segment, part, itemCount, encodedBytes, Files.size(options.getDirectory().resolve(name))));
+            part++;
+            itemCount = 0;
+            encodedBytes = 0;
+        }
+    }
+}
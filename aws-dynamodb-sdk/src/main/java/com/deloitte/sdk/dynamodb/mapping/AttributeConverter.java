@@ -0,0 +1,279 @@
+package com.deloitte.sdk.dynamodb.mapping;
+
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Converts one Java value to and from an {@link AttributeValue}. Converters are resolved once per
+ * property from its generic type, so encoding and decoding never inspect types again.
+ */
+interface AttributeConverter {
+
+    /** Returns the attribute for a non-null value, or null if the value should be left out (such as an empty set). */
+    AttributeValue toAttribute(Object value);
+
+    Object fromAttribute(AttributeValue attribute);
+
+    AttributeConverter STRING = simple(value -> AttributeValue.fromS((String) value), AttributeValue::s);
+    AttributeConverter BOOLEAN = simple(value -> AttributeValue.fromBool((Boolean) value), AttributeValue::bool);
+    AttributeConverter BYTES = simple(value -> AttributeValue.fromB(SdkBytes.fromByteArray((byte[]) value)), attribute -> attribute.b().asByteArray());
+    AttributeConverter SDK_BYTES = simple(value -> AttributeValue.fromB((SdkBytes) value), AttributeValue::b);
+    AttributeConverter INSTANT = simple(value -> AttributeValue.fromS(value.toString()), attribute -> Instant.parse(attribute.s()));
+    AttributeConverter UUIDS = simple(value -> AttributeValue.fromS(value.toString()), attribute -> UUID.fromString(attribute.s()));
+
+    static AttributeConverter forType(Type type) {
+        Class<?> raw = rawType(type);
+        if (raw == String.class) {
+            return STRING;
+        }
+        if (raw == boolean.class || raw == Boolean.class) {
+            return BOOLEAN;
+        }
+        Function<String, Object> number = numberParser(raw);
+        if (number != null) {
+            return number(number);
+        }
+        if (raw == byte[].class) {
+            return BYTES;
+        }
+        if (raw == SdkBytes.class) {
+            return SDK_BYTES;
+        }
+        if (raw == Instant.class) {
+            return INSTANT;
+        }
+        if (raw == UUID.class) {
+            return UUIDS;
+        }
+        if (raw.isEnum()) {
+            return enumConverter(raw);
+        }
+        if (Set.class.isAssignableFrom(raw)) {
+            return set(typeArgument(type, 0));
+        }
+        if (Collection.class.isAssignableFrom(raw)) {
+            return list(forType(typeArgument(type, 0)));
+        }
+        if (Map.class.isAssignableFrom(raw)) {
+            if (rawType(typeArgument(type, 0)) != String.class) {
+                throw new IllegalArgumentException("Map keys must be strings: " + type);
+            }
+            return map(forType(typeArgument(type, 1)));
+        }
+        if (raw.isPrimitive() || raw.isArray() || raw.isInterface() || raw.getName().startsWith("java.")) {
+            throw new IllegalArgumentException("Unsupported attribute type: " + type);
+        }
+        return nested(raw);
+    }
+
+    static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        return numberParser(type).apply("0");
+    }
+
+    private static AttributeConverter simple(Function<Object, AttributeValue> to, Function<AttributeValue, Object> from) {
+        return new AttributeConverter() {
+            @Override
+            public AttributeValue toAttribute(Object value) {
+                return to.apply(value);
+            }
+
+            @Override
+            public Object fromAttribute(AttributeValue attribute) {
+                return from.apply(attribute);
+            }
+        };
+    }
+
+    private static AttributeConverter number(Function<String, Object> parser) {
+        return simple(value -> AttributeValue.fromN(value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString()),
+                attribute -> parser.apply(attribute.n()));
+    }
+
+    private static Function<String, Object> numberParser(Class<?> type) {
+        if (type == int.class || type == Integer.class) {
+            return Integer::valueOf;
+        }
+        if (type == long.class || type == Long.class) {
+            return Long::valueOf;
+        }
+        if (type == double.class || type == Double.class) {
+            return Double::valueOf;
+        }
+        if (type == float.class || type == Float.class) {
+            return Float::valueOf;
+        }
+        if (type == short.class || type == Short.class) {
+            return Short::valueOf;
+        }
+        if (type == byte.class || type == Byte.class) {
+            return Byte::valueOf;
+        }
+        if (type == BigDecimal.class) {
+            return BigDecimal::new;
+        }
+        if (type == BigInteger.class) {
+            return BigInteger::new;
+        }
+        return null;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static AttributeConverter enumConverter(Class<?> type) {
+        Class<? extends Enum> enumType = (Class<? extends Enum>) type;
+        return simple(value -> AttributeValue.fromS(((Enum<?>) value).name()), attribute -> Enum.valueOf(enumType, attribute.s()));
+    }
+
+    /** Sets of strings and numbers map to DynamoDB sets, which cannot be empty; other sets map to lists. */
+    private static AttributeConverter set(Type elementType) {
+        Class<?> raw = rawType(elementType);
+        AttributeConverter element = forType(elementType);
+        boolean strings = raw == String.class;
+        boolean numbers = numberParser(raw) != null;
+        return new AttributeConverter() {
+            @Override
+            public AttributeValue toAttribute(Object value) {
+                Collection<?> values = (Collection<?>) value;
+                if ((strings || numbers) && values.isEmpty()) {
+                    return null;
+                }
+                List<String> members = new ArrayList<>(values.size());
+                if (strings) {
+                    values.forEach(member -> members.add((String) member));
+                    return AttributeValue.fromSs(members);
+                }
+                if (numbers) {
+                    values.forEach(member -> members.add(element.toAttribute(member).n()));
+                    return AttributeValue.fromNs(members);
+                }
+                return toList(values, element);
+            }
+
+            @Override
+            public Object fromAttribute(AttributeValue attribute) {
+                Set<Object> values = new LinkedHashSet<>();
+                if (attribute.hasSs()) {
+                    values.addAll(attribute.ss());
+                } else if (attribute.hasNs()) {
+                    attribute.ns().forEach(member -> values.add(element.fromAttribute(AttributeValue.fromN(member))));
+                } else if (attribute.hasL()) {
+                    attribute.l().forEach(member -> values.add(element.fromAttribute(member)));
+                }
+                return values;
+            }
+        };
+    }
+
+    private static AttributeConverter list(AttributeConverter element) {
+        return new AttributeConverter() {
+            @Override
+            public AttributeValue toAttribute(Object value) {
+                return toList((Collection<?>) value, element);
+            }
+
+            @Override
+            public Object fromAttribute(AttributeValue attribute) {
+                List<Object> values = new ArrayList<>(attribute.l().size());
+                for (AttributeValue member : attribute.l()) {
+                    values.add(isNull(member) ? null : element.fromAttribute(member));
+                }
+                return values;
+            }
+        };
+    }
+
+    private static AttributeConverter map(AttributeConverter element) {
+        return new AttributeConverter() {
+            @Override
+            public AttributeValue toAttribute(Object value) {
+                Map<?, ?> values = (Map<?, ?>) value;
+                Map<String, AttributeValue> attributes = new LinkedHashMap<>(values.size() * 2);
+                values.forEach((name, member) -> {
+                    AttributeValue attribute = member == null ? AttributeValue.fromNul(true) : element.toAttribute(member);
+                    if (attribute != null) {
+                        attributes.put((String) name, attribute);
+                    }
+                });
+                return AttributeValue.fromM(attributes);
+            }
+
+            @Override
+            public Object fromAttribute(AttributeValue attribute) {
+                Map<String, Object> values = new LinkedHashMap<>(attribute.m().size() * 2);
+                attribute.m().forEach((name, member) -> values.put(name, isNull(member) ? null : element.fromAttribute(member)));
+                return values;
+            }
+        };
+    }
+
+    /** Nested objects resolve their codec on first use, so self-referencing types do not recurse while being compiled. */
+    private static AttributeConverter nested(Class<?> type) {
+        return new AttributeConverter() {
+            @Override
+            public AttributeValue toAttribute(Object value) {
+                return AttributeValue.fromM(ItemCodec.of(type).encodeUnchecked(value));
+            }
+
+            @Override
+            public Object fromAttribute(AttributeValue attribute) {
+                return ItemCodec.of(type).decode(attribute.m());
+            }
+        };
+    }
+
+    private static AttributeValue toList(Collection<?> values, AttributeConverter element) {
+        List<AttributeValue> attributes = new ArrayList<>(values.size());
+        for (Object member : values) {
+            attributes.add(member == null ? AttributeValue.fromNul(true) : element.toAttribute(member));
+        }
+        return AttributeValue.fromL(attributes);
+    }
+
+    static boolean isNull(AttributeValue attribute) {
+        return attribute == null || Boolean.TRUE.equals(attribute.nul());
+    }
+
+    static Class<?> rawType(Type type) {
+        if (type instanceof Class<?> raw) {
+            return raw;
+        }
+        if (type instanceof ParameterizedType parameterized) {
+            return (Class<?>) parameterized.getRawType();
+        }
+        if (type instanceof WildcardType wildcard) {
+            return rawType(wildcard.getUpperBounds()[0]);
+        }
+        throw new IllegalArgumentException("Unsupported attribute type: " + type);
+    }
+
+    private static Type typeArgument(Type type, int index) {
+        if (type instanceof ParameterizedType parameterized) {
+            return parameterized.getActualTypeArguments()[index];
+        }
+        throw new IllegalArgumentException("Raw collection types are not supported: " + type);
+    }
+}
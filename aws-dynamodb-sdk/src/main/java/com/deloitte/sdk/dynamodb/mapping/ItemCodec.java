@@ -0,0 +1,189 @@
+package com.deloitte.sdk.dynamodb.mapping;
+
+import com.deloitte.sdk.dynamodb.exceptions.DynamoDbSdkUncheckedException;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts records and JavaBeans to and from DynamoDB items.
+ * <p>
+ * A codec is compiled once per class into method handles for the accessors and the constructor or setters,
+ * plus a converter per property resolved from its generic type. Encoding and decoding then run without
+ * reflection: decoding reads each attribute straight from the item and passes it to the canonical constructor
+ * or setter. Records are mapped by component, beans by getter/setter pairs with a public no-argument constructor.
+ * Null properties are left out of the item, and attributes missing from an item decode to null (or zero for primitives).
+ * Strings, numbers, booleans, binary, enums, {@code Instant}, {@code UUID}, collections, string-keyed maps and
+ * nested records or beans are supported.
+ */
+public final class ItemCodec<T> {
+
+    private static final ClassValue<ItemCodec<?>> CODECS = new ClassValue<>() {
+        @Override
+        protected ItemCodec<?> computeValue(Class<?> type) {
+            return new ItemCodec<>(type);
+        }
+    };
+
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private record Property(String name, Class<?> type, MethodHandle getter, MethodHandle setter, AttributeConverter converter) {
+    }
+
+    private final Class<T> type;
+    private final Property[] properties;
+    /** {@code (Object[]) -> Object} for records, {@code () -> Object} for beans. */
+    private final MethodHandle constructor;
+    private final boolean record;
+
+    @SuppressWarnings("unchecked")
+    public static <T> ItemCodec<T> of(Class<T> type) {
+        return (ItemCodec<T>) CODECS.get(type);
+    }
+
+    private ItemCodec(Class<T> type) {
+        this.type = type;
+        this.record = type.isRecord();
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            if (record) {
+                RecordComponent[] components = type.getRecordComponents();
+                properties = new Property[components.length];
+                Class<?>[] parameterTypes = new Class<?>[components.length];
+                for (int i = 0; i < components.length; i++) {
+                    RecordComponent component = components[i];
+                    parameterTypes[i] = component.getType();
+                    properties[i] = new Property(component.getName(), component.getType(),
+                            lookup.unreflect(component.getAccessor()).asType(GETTER), null,
+                            AttributeConverter.forType(component.getGenericType()));
+                }
+                constructor = lookup.findConstructor(type, MethodType.methodType(void.class, parameterTypes))
+                        .asSpreader(Object[].class, components.length)
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+            } else {
+                properties = beanProperties(type, lookup);
+                constructor = lookup.findConstructor(type, MethodType.methodType(void.class))
+                        .asType(MethodType.methodType(Object.class));
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Cannot map " + type.getName()
+                    + ": expected a record or a bean with a no-argument constructor", e);
+        }
+    }
+
+    public Class<T> type() {
+        return type;
+    }
+
+    public Map<String, AttributeValue> encode(T value) {
+        return encodeUnchecked(value);
+    }
+
+    /**
+     * Decodes an item, returning null for a null or empty item (such as a {@code getItem} that found nothing).
+     */
+    public T decode(Map<String, AttributeValue> item) {
+        if (item == null || item.isEmpty()) {
+            return null;
+        }
+        try {
+            Object instance;
+            if (record) {
+                Object[] arguments = new Object[properties.length];
+                for (int i = 0; i < properties.length; i++) {
+                    arguments[i] = read(properties[i], item);
+                }
+                instance = (Object) constructor.invokeExact(arguments);
+            } else {
+                instance = (Object) constructor.invokeExact();
+                for (Property property : properties) {
+                    Object value = read(property, item);
+                    if (value != null) {
+                        property.setter().invokeExact(instance, value);
+                    }
+                }
+            }
+            return type.cast(instance);
+        } catch (Throwable e) {
+            throw new DynamoDbSdkUncheckedException("Failed to decode item into " + type.getName(), e);
+        }
+    }
+
+    Map<String, AttributeValue> encodeUnchecked(Object value) {
+        Map<String, AttributeValue> item = new HashMap<>(properties.length * 2);
+        try {
+            for (Property property : properties) {
+                Object propertyValue = (Object) property.getter().invokeExact(value);
+                if (propertyValue != null) {
+                    AttributeValue attribute = property.converter().toAttribute(propertyValue);
+                    if (attribute != null) {
+                        item.put(property.name(), attribute);
+                    }
+                }
+            }
+        } catch (Throwable e) {
+            throw new DynamoDbSdkUncheckedException("Failed to encode " + type.getName() + " as an item", e);
+        }
+        return item;
+    }
+
+    private static Object read(Property property, Map<String, AttributeValue> item) {
+        AttributeValue attribute = item.get(property.name());
+        if (AttributeConverter.isNull(attribute)) {
+            return AttributeConverter.defaultValue(property.type());
+        }
+        return property.converter().fromAttribute(attribute);
+    }
+
+    private static Property[] beanProperties(Class<?> type, MethodHandles.Lookup lookup) throws IllegalAccessException {
+        List<Property> properties = new ArrayList<>();
+        Method[] methods = type.getMethods();
+        Arrays.sort(methods, Comparator.comparing(Method::getName));
+        for (Method getter : methods) {
+            String name = propertyName(getter);
+            if (name == null) {
+                continue;
+            }
+            Method setter;
+            try {
+                setter = type.getMethod("set" + Character.toUpperCase(name.charAt(0)) + name.substring(1), getter.getReturnType());
+            } catch (NoSuchMethodException e) {
+                continue;
+            }
+            properties.add(new Property(name, getter.getReturnType(), lookup.unreflect(getter).asType(GETTER),
+                    lookup.unreflect(setter).asType(SETTER), AttributeConverter.forType(getter.getGenericReturnType())));
+        }
+        if (properties.isEmpty()) {
+            throw new IllegalArgumentException("No bean properties found on " + type.getName());
+        }
+        return properties.toArray(new Property[0]);
+    }
+
+    private static String propertyName(Method method) {
+        if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 0 || method.getDeclaringClass() == Object.class) {
+            return null;
+        }
+        String name = method.getName();
+        int prefix;
+        if (name.startsWith("get") && name.length() > 3) {
+            prefix = 3;
+        } else if (name.startsWith("is") && name.length() > 2 && method.getReturnType() == boolean.class) {
+            prefix = 2;
+        } else {
+            return null;
+        }
+        return Character.toLowerCase(name.charAt(prefix)) + name.substring(prefix + 1);
+    }
+}
@@ -0,0 +1,70 @@
+package com.deloitte.sdk.dynamodb.query;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Encodes an {@code ExclusiveStartKey} as an opaque URL-safe token and back.
+ * Key attributes can only be strings, numbers or binary, so those are the only types supported.
+ * An empty key encodes the start of the results.
+ */
+final class Cursors {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private Cursors() {
+    }
+
+    static String encode(Map<String, AttributeValue> key) {
+        ObjectNode json = MAPPER.createObjectNode();
+        key.forEach((name, value) -> {
+            ObjectNode typed = json.putObject(name);
+            if (value.s() != null) {
+                typed.put("S", value.s());
+            } else if (value.n() != null) {
+                typed.put("N", value.n());
+            } else if (value.b() != null) {
+                typed.put("B", Base64.getEncoder().encodeToString(value.b().asByteArray()));
+            } else {
+                throw new IllegalArgumentException("Unsupported key attribute type for " + name);
+            }
+        });
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Map<String, AttributeValue> decode(String cursor) {
+        try {
+            JsonNode json = MAPPER.readTree(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+            Map<String, AttributeValue> key = new LinkedHashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = json.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                JsonNode typed = field.getValue();
+                AttributeValue value;
+                if (typed.has("S")) {
+                    value = AttributeValue.fromS(typed.get("S").asText());
+                } else if (typed.has("N")) {
+                    value = AttributeValue.fromN(typed.get("N").asText());
+                } else if (typed.has("B")) {
+                    value = AttributeValue.fromB(SdkBytes.fromByteArray(Base64.getDecoder().decode(typed.get("B").asText())));
+                } else {
+                    throw new IllegalArgumentException("Invalid cursor attribute: " + field.getKey());
+                }
+                key.put(field.getKey(), value);
+            }
+            return key;
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.deloitte.sdk.dynamodb.query;
+
+import com.deloitte.sdk.dynamodb.exceptions.DynamoDbSdkUncheckedException;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Walks the pages of a Query or Scan, following {@code LastEvaluatedKey} only as the caller consumes
+ * items, so only one page (two with prefetch) is held at a time. {@link #cursor()} tells where to resume.
+ * Request failures are raised as {@link DynamoDbSdkUncheckedException}.
+ */
+public class ItemIterator implements Iterator<Map<String, AttributeValue>>, AutoCloseable {
+
+    private final Function<Map<String, AttributeValue>, Page> fetcher;
+    private final boolean prefetch;
+
+    private Iterator<Map<String, AttributeValue>> page = Collections.emptyIterator();
+    private Map<String, AttributeValue> pageStartKey;
+    private Map<String, AttributeValue> nextStartKey;
+    private CompletableFuture<Page> nextPage;
+    private boolean started;
+
+    ItemIterator(Function<Map<String, AttributeValue>, Page> fetcher, Map<String, AttributeValue> startKey, boolean prefetch) {
+        this.fetcher = fetcher;
+        this.prefetch = prefetch;
+        this.nextStartKey = startKey;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!page.hasNext()) {
+            if (!advance()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Map<String, AttributeValue> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.next();
+    }
+
+    /**
+     * A token that resumes the read through {@link ReadOptions#getCursor()}, or null once every page has been read.
+     * Resuming replays the rest of the page being consumed, so items may be delivered again but never skipped.
+     */
+    public String cursor() {
+        if (page.hasNext()) {
+            return Cursors.encode(pageStartKey);
+        }
+        if (started && nextStartKey.isEmpty()) {
+            return null;
+        }
+        return Cursors.encode(nextStartKey);
+    }
+
+    public Stream<Map<String, AttributeValue>> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * Abandons a prefetched page that was not consumed.
+     */
+    @Override
+    public void close() {
+        if (nextPage != null) {
+            nextPage.cancel(true);
+            nextPage = null;
+        }
+    }
+
+    private boolean advance() {
+        if (started && nextStartKey.isEmpty()) {
+            return false;
+        }
+        Map<String, AttributeValue> startKey = nextStartKey;
+        Page response = nextPage != null ? await(nextPage) : fetcher.apply(startKey);
+        started = true;
+        nextPage = null;
+        pageStartKey = startKey;
+        nextStartKey = response.lastEvaluatedKey();
+        page = response.items().iterator();
+        if (prefetch && !nextStartKey.isEmpty()) {
+            Map<String, AttributeValue> key = nextStartKey;
+            nextPage = CompletableFuture.supplyAsync(() -> fetcher.apply(key), task -> Thread.ofVirtual().start(task));
+        }
+        return true;
+    }
+
+    private static Page await(CompletableFuture<Page> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * One response page; an empty {@code lastEvaluatedKey} marks the last page.
+     */
+    record Page(List<Map<String, AttributeValue>> items, Map<String, AttributeValue> lastEvaluatedKey) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.deloitte.sdk.dynamodb.query;
+
+import com.deloitte.sdk.dynamodb.exceptions.DynamoDbSdkUncheckedException;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+
+import java.util.Map;
+
+/**
+ * Starts lazily paginated Query and Scan reads.
+ */
+public class PaginatedReader {
+
+    private final DynamoDbClient dynamoDbClient;
+
+    public PaginatedReader(DynamoDbClient dynamoDbClient) {
+        this.dynamoDbClient = dynamoDbClient;
+    }
+
+    public ItemIterator query(String tableName, String keyConditionExpression, ReadOptions options) {
+        QueryRequest request = QueryRequest.builder()
+                .tableName(tableName)
+                .indexName(options.getIndexName())
+                .keyConditionExpression(keyConditionExpression)
+                .filterExpression(options.getFilterExpression())
+                .projectionExpression(options.getProjectionExpression())
+                .expressionAttributeNames(options.getExpressionAttributeNames())
+                .expressionAttributeValues(options.getExpressionAttributeValues())
+                .limit(options.getLimit())
+                .consistentRead(options.getConsistentRead())
+                .scanIndexForward(options.getScanIndexForward())
+                .build();
+        return new ItemIterator(startKey -> {
+            try {
+                QueryResponse response = dynamoDbClient.query(request.toBuilder().exclusiveStartKey(startKey(startKey)).build());
+                return new ItemIterator.Page(response.items(), response.lastEvaluatedKey());
+            } catch (DynamoDbException e) {
+                throw new DynamoDbSdkUncheckedException("Failed to query table: " + tableName, e);
+            }
+        }, startKeyOf(options), options.isPrefetch());
+    }
+
+    public ItemIterator scan(String tableName, ReadOptions options) {
+        ScanRequest request = ScanRequest.builder()
+                .tableName(tableName)
+                .indexName(options.getIndexName())
+                .filterExpression(options.getFilterExpression())
+                .projectionExpression(options.getProjectionExpression())
+                .expressionAttributeNames(options.getExpressionAttributeNames())
+                .expressionAttributeValues(options.getExpressionAttributeValues())
+                .limit(options.getLimit())
+                .consistentRead(options.getConsistentRead())
+                .build();
+        return new ItemIterator(startKey -> {
+            try {
+                ScanResponse response = dynamoDbClient.scan(request.toBuilder().exclusiveStartKey(startKey(startKey)).build());
+                return new ItemIterator.Page(response.items(), response.lastEvaluatedKey());
+            } catch (DynamoDbException e) {
+                throw new DynamoDbSdkUncheckedException("Failed to scan table: " + tableName, e);
+            }
+        }, startKeyOf(options), options.isPrefetch());
+    }
+
+    private static Map<String, AttributeValue> startKeyOf(ReadOptions options) {
+        return options.getCursor() != null ? Cursors.decode(options.getCursor()) : Map.of();
+    }
+
+    /**
+     * Leaves {@code ExclusiveStartKey} unset for the first page, as an empty map is rejected by DynamoDB.
+     */
+    private static Map<String, AttributeValue> startKey(Map<String, AttributeValue> key) {
+        return key.isEmpty() ? null : key;
+    }
+}
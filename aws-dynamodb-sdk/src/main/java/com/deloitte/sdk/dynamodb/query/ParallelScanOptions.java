@@ -0,0 +1,38 @@
+package com.deloitte.sdk.dynamodb.query;
+
+import lombok.Builder;
+import lombok.Getter;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Options for a parallel segmented scan.
+ */
+@Builder
+@Getter
+public class ParallelScanOptions {
+
+    /** Number of segments the table is split into ({@code TotalSegments}); a resumed checkpoint keeps its own. */
+    @Builder.Default
+    private final int totalSegments = 8;
+    /** Segments scanned at once; defaults to one worker per segment. */
+    private final Integer maxConcurrency;
+    private final String indexName;
+    private final String filterExpression;
+    private final String projectionExpression;
+    private final Map<String, String> expressionAttributeNames;
+    private final Map<String, AttributeValue> expressionAttributeValues;
+    /** Items evaluated per request (the DynamoDB {@code Limit}); null for the 1 MB page default. */
+    private final Integer limit;
+    private final Boolean consistentRead;
+    /** Progress to resume from and keep updated; a fresh checkpoint is used when null. */
+    private final ScanCheckpoint checkpoint;
+    /** File the checkpoint is saved to after every page, and resumed from if it already exists. */
+    private final Path checkpointFile;
+
+    public static ParallelScanOptions defaults() {
+        return ParallelScanOptions.builder().build();
+    }
+}
@@ -0,0 +1,149 @@
+package com.deloitte.sdk.dynamodb.query;
+
+import com.deloitte.sdk.dynamodb.exceptions.DynamoDbSdkException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Scans a table as {@code TotalSegments} independent segments on virtual-thread workers.
+ * <p>
+ * Items are handed to the consumer on the worker that read them, and a worker requests its next page
+ * only after the consumer has taken every item of the current one, so a slow consumer slows the scan
+ * instead of buffering it: at most one page per worker is in memory. The consumer must be thread-safe.
+ * After each page the segment's position is recorded in a {@link ScanCheckpoint}; the first failure
+ * stops the remaining workers, and running again with the same checkpoint resumes where each segment stopped.
+ */
+public class ParallelScanner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelScanner.class);
+
+    private final DynamoDbClient dynamoDbClient;
+
+    public ParallelScanner(DynamoDbClient dynamoDbClient) {
+        this.dynamoDbClient = dynamoDbClient;
+    }
+
+    /**
+     * Scans every pending segment and returns the number of items handed to the consumer.
+     */
+    public long scan(String tableName, ParallelScanOptions options, Consumer<Map<String, AttributeValue>> consumer)
+            throws DynamoDbSdkException {
+        return scan(tableName, options, (segment, item) -> consumer.accept(item));
+    }
+
+    /**
+     * Scans every pending segment, telling the consumer which segment each item came from.
+     */
+    public long scan(String tableName, ParallelScanOptions options, SegmentConsumer consumer) throws DynamoDbSdkException {
+        ScanCheckpoint checkpoint = checkpointFor(tableName, options);
+        int totalSegments = checkpoint.totalSegments();
+        ScanRequest template = ScanRequest.builder()
+                .tableName(tableName)
+                .indexName(options.getIndexName())
+                .filterExpression(options.getFilterExpression())
+                .projectionExpression(options.getProjectionExpression())
+                .expressionAttributeNames(options.getExpressionAttributeNames())
+                .expressionAttributeValues(options.getExpressionAttributeValues())
+                .limit(options.getLimit())
+                .consistentRead(options.getConsistentRead())
+                .totalSegments(totalSegments)
+                .build();
+
+        AtomicInteger nextSegment = new AtomicInteger();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        LongAdder delivered = new LongAdder();
+        int workers = Math.min(options.getMaxConcurrency() != null ? Math.max(1, options.getMaxConcurrency()) : totalSegments,
+                totalSegments);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < workers; i++) {
+                executor.execute(() -> {
+                    int segment;
+                    while (failure.get() == null && (segment = nextSegment.getAndIncrement()) < totalSegments) {
+                        try {
+                            scanSegment(template, segment, checkpoint, options.getCheckpointFile(), failure, consumer, delivered);
+                        } catch (Exception e) {
+                            failure.compareAndSet(null, e);
+                        }
+                    }
+                });
+            }
+        }
+
+        if (failure.get() != null) {
+            throw new DynamoDbSdkException("Failed to scan table: " + tableName, failure.get());
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            throw new DynamoDbSdkException("Interrupted while scanning table: " + tableName, new InterruptedException());
+        }
+        logger.debug("Scanned {} items from {} in {} segments", delivered.sum(), tableName, totalSegments);
+        return delivered.sum();
+    }
+
+    private void scanSegment(ScanRequest template, int segment, ScanCheckpoint checkpoint, Path checkpointFile,
+                             AtomicReference<Exception> failure, SegmentConsumer consumer,
+                             LongAdder delivered) throws IOException {
+        if (checkpoint.isSegmentComplete(segment)) {
+            return;
+        }
+        String cursor = checkpoint.cursor(segment);
+        Map<String, AttributeValue> startKey = cursor != null ? Cursors.decode(cursor) : null;
+        do {
+            ScanResponse response = dynamoDbClient.scan(template.toBuilder()
+                    .segment(segment)
+                    .exclusiveStartKey(startKey)
+                    .build());
+            for (Map<String, AttributeValue> item : response.items()) {
+                consumer.accept(segment, item);
+            }
+            delivered.add(response.items().size());
+
+            startKey = response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty() ? response.lastEvaluatedKey() : null;
+            if (startKey != null) {
+                checkpoint.advance(segment, Cursors.encode(startKey));
+            } else {
+                consumer.segmentComplete(segment);
+                checkpoint.complete(segment);
+            }
+            if (checkpointFile != null) {
+                checkpoint.save(checkpointFile);
+            }
+        } while (startKey != null && failure.get() == null && !Thread.currentThread().isInterrupted());
+    }
+
+    private static ScanCheckpoint checkpointFor(String tableName, ParallelScanOptions options) throws DynamoDbSdkException {
+        ScanCheckpoint checkpoint = options.getCheckpoint();
+        Path file = options.getCheckpointFile();
+        if (checkpoint == null && file != null && Files.exists(file)) {
+            try {
+                checkpoint = ScanCheckpoint.load(file);
+            } catch (IOException | RuntimeException e) {
+                throw new DynamoDbSdkException("Failed to load scan checkpoint for table: " + tableName, e);
+            }
+        }
+        if (checkpoint == null) {
+            checkpoint = new ScanCheckpoint(Math.max(1, options.getTotalSegments()));
+        }
+        try {
+            checkpoint.bind(tableName, options.getIndexName(), options.getFilterExpression());
+        } catch (IllegalStateException e) {
+            throw new DynamoDbSdkException("Scan checkpoint does not match table: " + tableName, e);
+        }
+        return checkpoint;
+    }
+}
@@ -0,0 +1,35 @@
+package com.deloitte.sdk.dynamodb.query;
+
+import lombok.Builder;
+import lombok.Getter;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.Map;
+
+/**
+ * Optional parameters for a paginated Query or Scan.
+ */
+@Builder
+@Getter
+public class ReadOptions {
+
+    private final String indexName;
+    private final String filterExpression;
+    private final String projectionExpression;
+    private final Map<String, String> expressionAttributeNames;
+    private final Map<String, AttributeValue> expressionAttributeValues;
+    /** Items evaluated per request (the DynamoDB {@code Limit}); null for the 1 MB page default. */
+    private final Integer limit;
+    private final Boolean consistentRead;
+    /** Query only: whether the sort key is read in ascending order; null for the DynamoDB default. */
+    private final Boolean scanIndexForward;
+    /** A token from {@link ItemIterator#cursor()} to resume an earlier read from. */
+    private final String cursor;
+    /** Whether the next page is requested while the current one is being consumed. */
+    @Builder.Default
+    private final boolean prefetch = false;
+
+    public static ReadOptions defaults() {
+        return ReadOptions.builder().build();
+    }
+}
@@ -0,0 +1,149 @@
+package com.deloitte.sdk.dynamodb.query;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Where each segment of a parallel scan has got to: not started, a cursor after its last consumed page,
+ * or done. A checkpoint is updated only after a page has been handed to the consumer, so resuming
+ * from it may deliver the page in progress again but never skips items.
+ * <p>
+ * The first scan that uses a checkpoint ties it to its table, index and filter, and resuming it for a different
+ * scan is rejected, since the saved cursors would belong to another key space.
+ */
+public class ScanCheckpoint {
+
+    private static final String TOTAL_SEGMENTS = "totalSegments";
+    private static final String TABLE_NAME = "tableName";
+    private static final String INDEX_NAME = "indexName";
+    private static final String FILTER_EXPRESSION = "filterExpression";
+    private static final String SEGMENT_PREFIX = "segment.";
+    private static final String DONE = "done";
+
+    private final int totalSegments;
+    private final Map<Integer, String> positions = new ConcurrentHashMap<>();
+    private String tableName;
+    private String indexName;
+    private String filterExpression;
+
+    public ScanCheckpoint(int totalSegments) {
+        if (totalSegments < 1) {
+            throw new IllegalArgumentException("totalSegments must be positive: " + totalSegments);
+        }
+        this.totalSegments = totalSegments;
+    }
+
+    public int totalSegments() {
+        return totalSegments;
+    }
+
+    /**
+     * The table this checkpoint belongs to, or null if no scan has used it yet.
+     */
+    public synchronized String tableName() {
+        return tableName;
+    }
+
+    public synchronized String indexName() {
+        return indexName;
+    }
+
+    public synchronized String filterExpression() {
+        return filterExpression;
+    }
+
+    public boolean isSegmentComplete(int segment) {
+        return DONE.equals(positions.get(segment));
+    }
+
+    public boolean isComplete() {
+        for (int segment = 0; segment < totalSegments; segment++) {
+            if (!isSegmentComplete(segment)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the checkpoint to a file, replacing it atomically so a crash never leaves a partial checkpoint.
+     */
+    public synchronized void save(Path file) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(TOTAL_SEGMENTS, Integer.toString(totalSegments));
+        setIfPresent(properties, TABLE_NAME, tableName);
+        setIfPresent(properties, INDEX_NAME, indexName);
+        setIfPresent(properties, FILTER_EXPRESSION, filterExpression);
+        positions.forEach((segment, position) -> properties.setProperty(SEGMENT_PREFIX + segment, position));
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp)) {
+            properties.store(writer, "DynamoDB parallel scan checkpoint");
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static ScanCheckpoint load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        }
+        ScanCheckpoint checkpoint = new ScanCheckpoint(Integer.parseInt(properties.getProperty(TOTAL_SEGMENTS, "0")));
+        checkpoint.tableName = properties.getProperty(TABLE_NAME);
+        checkpoint.indexName = properties.getProperty(INDEX_NAME);
+        checkpoint.filterExpression = properties.getProperty(FILTER_EXPRESSION);
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(SEGMENT_PREFIX)) {
+                checkpoint.positions.put(Integer.parseInt(name.substring(SEGMENT_PREFIX.length())), properties.getProperty(name));
+            }
+        }
+        return checkpoint;
+    }
+
+    /**
+     * Ties an unused checkpoint to a scan, or checks that a used one belongs to it.
+     *
+     * @throws IllegalStateException if the checkpoint was saved by a scan of another table, index or filter
+     */
+    synchronized void bind(String tableName, String indexName, String filterExpression) {
+        if (this.tableName == null) {
+            this.tableName = tableName;
+            this.indexName = indexName;
+            this.filterExpression = filterExpression;
+        } else if (!this.tableName.equals(tableName) || !Objects.equals(this.indexName, indexName)
+                || !Objects.equals(this.filterExpression, filterExpression)) {
+            throw new IllegalStateException(String.format(
+                    "Checkpoint belongs to a scan of table %s (index %s, filter %s), not table %s (index %s, filter %s)",
+                    this.tableName, this.indexName, this.filterExpression, tableName, indexName, filterExpression));
+        }
+    }
+
+    /**
+     * The cursor a segment resumes from, or null if it has not read a page yet.
+     */
+    String cursor(int segment) {
+        String position = positions.get(segment);
+        return DONE.equals(position) ? null : position;
+    }
+
+    void advance(int segment, String cursor) {
+        positions.put(segment, cursor);
+    }
+
+    void complete(int segment) {
+        positions.put(segment, DONE);
+    }
+
+    private static void setIfPresent(Properties properties, String name, String value) {
+        if (value != null) {
+            properties.setProperty(name, value);
+        }
+    }
+}
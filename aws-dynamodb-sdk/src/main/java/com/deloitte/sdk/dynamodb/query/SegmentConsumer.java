@@ -0,0 +1,21 @@
+package com.deloitte.sdk.dynamodb.query;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Receives the items of a parallel scan along with the segment they were read from. Each segment is read by
+ * a single worker at a time, so per-segment state needs no locking, but different segments arrive concurrently.
+ */
+public interface SegmentConsumer {
+
+    void accept(int segment, Map<String, AttributeValue> item) throws IOException;
+
+    /**
+     * Called once a segment has been read to the end; not called for segments stopped by a failure.
+     */
+    default void segmentComplete(int segment) throws IOException {
+    }
+}
@@ -1,15 +1,38 @@
 package com.deloitte.sdk.dynamodb.wrapper;
 
+import com.deloitte.sdk.dynamodb.batch.BatchConfig;
+import com.deloitte.sdk.dynamodb.batch.BulkGetter;
+import com.deloitte.sdk.dynamodb.batch.BulkWriter;
+import com.deloitte.sdk.dynamodb.batch.CoalescingConfig;
+import com.deloitte.sdk.dynamodb.batch.ReadCoalescer;
+import com.deloitte.sdk.dynamodb.batch.WriteBehindConfig;
+import com.deloitte.sdk.dynamodb.batch.WriteBehindWriter;
+import com.deloitte.sdk.dynamodb.batch.WriteReport;
+import com.deloitte.sdk.dynamodb.cache.CacheConfig;
+import com.deloitte.sdk.dynamodb.cache.ItemCache;
+import com.deloitte.sdk.dynamodb.capacity.CapacityConfig;
+import com.deloitte.sdk.dynamodb.capacity.CapacityInterceptor;
+import com.deloitte.sdk.dynamodb.capacity.CapacityLimiter;
 import com.deloitte.sdk.dynamodb.exceptions.DynamoDbSdkException;
+import com.deloitte.sdk.dynamodb.exceptions.DynamoDbSdkUncheckedException;
+import com.deloitte.sdk.dynamodb.export.ExportManifest;
+import com.deloitte.sdk.dynamodb.export.ExportOptions;
+import com.deloitte.sdk.dynamodb.export.ExportReader;
+import com.deloitte.sdk.dynamodb.export.TableExporter;
+import com.deloitte.sdk.dynamodb.mapping.ItemCodec;
+import com.deloitte.sdk.dynamodb.query.ItemIterator;
+import com.deloitte.sdk.dynamodb.query.PaginatedReader;
+import com.deloitte.sdk.dynamodb.query.ParallelScanOptions;
+import com.deloitte.sdk.dynamodb.query.ParallelScanner;
+import com.deloitte.sdk.dynamodb.query.ReadOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClientBuilder;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValueUpdate;
-import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
-import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
-import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
@@ -23,24 +46,79 @@ import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
 import software.amazon.awssdk.services.dynamodb.model.ListTablesResponse;
 import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughput;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
-import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
-import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
-import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
-import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
 import software.amazon.awssdk.services.dynamodb.model.TableDescription;
 import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class DynamoDbWrapper {
 
     private static final Logger logger = LoggerFactory.getLogger(DynamoDbWrapper.class);
     private final DynamoDbClient dynamoDbClient;
+    private final PaginatedReader paginatedReader;
+    private final ParallelScanner parallelScanner;
+    private final BulkWriter bulkWriter;
+    private final BulkGetter bulkGetter;
+    private final ItemCache itemCache;
+    private final ReadCoalescer readCoalescer;
 
     public DynamoDbWrapper(DynamoDbClient dynamoDbClient) {
+        this(dynamoDbClient, BatchConfig.defaults());
+    }
+
+    public DynamoDbWrapper(DynamoDbClient dynamoDbClient, BatchConfig batchConfig) {
+        this(dynamoDbClient, batchConfig, null);
+    }
+
+    /**
+     * Creates a wrapper that serves {@code getItem} and {@code batchGetItems} from an in-process cache,
+     * invalidated by every write issued through this wrapper. A null cache config disables caching.
+     */
+    public DynamoDbWrapper(DynamoDbClient dynamoDbClient, BatchConfig batchConfig, CacheConfig cacheConfig) {
+        this(dynamoDbClient, batchConfig, cacheConfig, null);
+    }
+
+    /**
+     * Creates a wrapper whose {@code getItem} calls share in-flight reads of the same key and batch concurrent
+     * reads of different keys into BatchGetItem requests. A null coalescing config sends each read on its own.
+     */
+    public DynamoDbWrapper(DynamoDbClient dynamoDbClient, BatchConfig batchConfig, CacheConfig cacheConfig,
+                           CoalescingConfig coalescingConfig) {
         this.dynamoDbClient = dynamoDbClient;
+        BatchConfig config = batchConfig != null ? batchConfig : BatchConfig.defaults();
+        this.paginatedReader = new PaginatedReader(dynamoDbClient);
+        this.parallelScanner = new ParallelScanner(dynamoDbClient);
+        this.bulkWriter = new BulkWriter(dynamoDbClient, config);
+        this.bulkGetter = new BulkGetter(dynamoDbClient, config);
+        this.itemCache = cacheConfig != null ? new ItemCache(cacheConfig) : null;
+        this.readCoalescer = coalescingConfig != null ? new ReadCoalescer(dynamoDbClient, config, coalescingConfig) : null;
+    }
+
+    /**
+     * Builds a client that paces item reads and writes against each table's provisioned throughput, keeping
+     * any override configuration already on the builder, and wraps it. To combine pacing with other options,
+     * register a {@link CapacityInterceptor} on the client directly.
+     */
+    public static DynamoDbWrapper withCapacityPacing(DynamoDbClientBuilder clientBuilder, CapacityConfig capacityConfig) {
+        AtomicReference<DynamoDbClient> client = new AtomicReference<>();
+        CapacityLimiter limiter = new CapacityLimiter(capacityConfig,
+                tableName -> client.get().describeTable(request -> request.tableName(tableName)).table());
+        ClientOverrideConfiguration existing = clientBuilder.overrideConfiguration();
+        ClientOverrideConfiguration.Builder overrides = existing != null ? existing.toBuilder() : ClientOverrideConfiguration.builder();
+        clientBuilder.overrideConfiguration(overrides.addExecutionInterceptor(new CapacityInterceptor(limiter)).build());
+        client.set(clientBuilder.build());
+        return new DynamoDbWrapper(client.get());
     }
 
     // Table Operations
@@ -67,6 +145,9 @@ public class DynamoDbWrapper {
                     .tableName(tableName)
                     .build();
             dynamoDbClient.deleteTable(request);
+            if (itemCache != null) {
+                itemCache.invalidateTable(tableName);
+            }
             logger.info("Table {} deleted successfully", tableName);
         } catch (DynamoDbException e) {
             throw new DynamoDbSdkException("Failed to delete table: " + tableName, e);
@@ -105,16 +186,41 @@ public class DynamoDbWrapper {
             dynamoDbClient.putItem(request);
         } catch (DynamoDbException e) {
             throw new DynamoDbSdkException("Failed to put item into table: " + tableName, e);
+        } finally {
+            if (itemCache != null) {
+                itemCache.invalidateItem(tableName, item);
+            }
         }
     }
 
     public Map<String, AttributeValue> getItem(String tableName, Map<String, AttributeValue> key) throws DynamoDbSdkException {
+        long stamp = 0;
+        long generation = 0;
+        if (itemCache != null) {
+            Map<String, AttributeValue> cached = itemCache.get(tableName, key);
+            if (cached != null) {
+                return cached;
+            }
+            // Stamp first: a write in between then both refuses this read's result and keeps it off older reads
+            stamp = itemCache.stamp();
+            generation = itemCache.generation(tableName, key);
+        }
+        if (readCoalescer != null) {
+            Map<String, AttributeValue> item = readCoalescer.get(tableName, key, generation);
+            if (itemCache != null) {
+                itemCache.put(tableName, key, item, stamp);
+            }
+            return item;
+        }
         try {
             GetItemRequest request = GetItemRequest.builder()
                     .tableName(tableName)
                     .key(key)
                     .build();
             GetItemResponse response = dynamoDbClient.getItem(request);
+            if (itemCache != null) {
+                itemCache.put(tableName, key, response.item(), stamp);
+            }
             return response.item();
         } catch (DynamoDbException e) {
             throw new DynamoDbSdkException("Failed to get item from table: " + tableName, e);
@@ -131,6 +237,8 @@ public class DynamoDbWrapper {
             dynamoDbClient.updateItem(request);
         } catch (DynamoDbException e) {
             throw new DynamoDbSdkException("Failed to update item in table: " + tableName, e);
+        } finally {
+            invalidate(tableName, key);
         }
     }
 
@@ -143,65 +251,306 @@ public class DynamoDbWrapper {
             dynamoDbClient.deleteItem(request);
         } catch (DynamoDbException e) {
             throw new DynamoDbSdkException("Failed to delete item from table: " + tableName, e);
+        } finally {
+            invalidate(tableName, key);
         }
     }
 
+    // Typed Item Operations
+
+    /**
+     * Reads an item and decodes it into a record or bean; returns null if there is no item.
+     */
+    public <T> T getItem(String tableName, Map<String, AttributeValue> key, Class<T> type) throws DynamoDbSdkException {
+        Map<String, AttributeValue> item = getItem(tableName, key);
+        try {
+            return ItemCodec.of(type).decode(item);
+        } catch (DynamoDbSdkUncheckedException e) {
+            throw new DynamoDbSdkException("Failed to get item from table: " + tableName, e.getCause());
+        }
+    }
+
+    public <T> void putItem(String tableName, T item, Class<T> type) throws DynamoDbSdkException {
+        Map<String, AttributeValue> encoded;
+        try {
+            encoded = ItemCodec.of(type).encode(item);
+        } catch (DynamoDbSdkUncheckedException e) {
+            throw new DynamoDbSdkException("Failed to put item into table: " + tableName, e.getCause());
+        }
+        putItem(tableName, encoded);
+    }
+
+    /**
+     * Returns every item matching the key condition, decoded into a record or bean.
+     */
+    public <T> List<T> query(String tableName, String keyConditionExpression, Map<String, String> expressionAttributeNames,
+                             Map<String, AttributeValue> expressionAttributeValues, Class<T> type) throws DynamoDbSdkException {
+        ItemCodec<T> codec = ItemCodec.of(type);
+        List<Map<String, AttributeValue>> items = query(tableName, keyConditionExpression, expressionAttributeNames, expressionAttributeValues);
+        try {
+            List<T> result = new ArrayList<>(items.size());
+            for (Map<String, AttributeValue> item : items) {
+                result.add(codec.decode(item));
+            }
+            return result;
+        } catch (DynamoDbSdkUncheckedException e) {
+            throw new DynamoDbSdkException("Failed to query table: " + tableName, e.getCause());
+        }
+    }
+
+    /**
+     * Queries lazily, decoding each item as it is consumed. Close the stream to abandon a prefetched page.
+     */
+    public <T> Stream<T> queryItems(String tableName, String keyConditionExpression, ReadOptions options, Class<T> type) {
+        return paginatedReader.query(tableName, keyConditionExpression, options).stream().map(ItemCodec.of(type)::decode);
+    }
+
+    /**
+     * Scans lazily, decoding each item as it is consumed. Close the stream to abandon a prefetched page.
+     */
+    public <T> Stream<T> scanItems(String tableName, ReadOptions options, Class<T> type) {
+        return paginatedReader.scan(tableName, options).stream().map(ItemCodec.of(type)::decode);
+    }
+
     // Query and Scan Operations
 
+    /**
+     * Returns every item matching the key condition, following {@code LastEvaluatedKey} across all pages.
+     * Prefer {@link #queryItems(String, String, ReadOptions)} for large result sets.
+     */
     public List<Map<String, AttributeValue>> query(String tableName, String keyConditionExpression, Map<String, String> expressionAttributeNames,
                                                    Map<String, AttributeValue> expressionAttributeValues) throws DynamoDbSdkException {
-        try {
-            QueryRequest request = QueryRequest.builder()
-                    .tableName(tableName)
-                    .keyConditionExpression(keyConditionExpression)
-                    .expressionAttributeNames(expressionAttributeNames)
-                    .expressionAttributeValues(expressionAttributeValues)
-                    .build();
-            QueryResponse response = dynamoDbClient.query(request);
-            return response.items();
-        } catch (DynamoDbException e) {
-            throw new DynamoDbSdkException("Failed to query table: " + tableName, e);
+        ReadOptions options = ReadOptions.builder()
+                .expressionAttributeNames(expressionAttributeNames)
+                .expressionAttributeValues(expressionAttributeValues)
+                .build();
+        try (ItemIterator items = paginatedReader.query(tableName, keyConditionExpression, options)) {
+            List<Map<String, AttributeValue>> result = new ArrayList<>();
+            items.forEachRemaining(result::add);
+            return result;
+        } catch (DynamoDbSdkUncheckedException e) {
+            throw new DynamoDbSdkException("Failed to query table: " + tableName, e.getCause());
         }
     }
 
+    /**
+     * Queries lazily, one page at a time. The iterator's cursor can resume the query later
+     * through {@link ReadOptions#getCursor()}.
+     */
+    public ItemIterator queryItems(String tableName, String keyConditionExpression, ReadOptions options) {
+        return paginatedReader.query(tableName, keyConditionExpression, options);
+    }
+
+    /**
+     * Returns every item passing the filter, following {@code LastEvaluatedKey} across all pages.
+     * Prefer {@link #scanItems(String, ReadOptions)} for large tables.
+     */
     public List<Map<String, AttributeValue>> scan(String tableName, Map<String, String> expressionAttributeNames,
                                                   Map<String, AttributeValue> expressionAttributeValues, String filterExpression) throws DynamoDbSdkException {
-        try {
-            ScanRequest request = ScanRequest.builder()
-                    .tableName(tableName)
-                    .expressionAttributeNames(expressionAttributeNames)
-                    .expressionAttributeValues(expressionAttributeValues)
-                    .filterExpression(filterExpression)
-                    .build();
-            ScanResponse response = dynamoDbClient.scan(request);
-            return response.items();
-        } catch (DynamoDbException e) {
-            throw new DynamoDbSdkException("Failed to scan table: " + tableName, e);
+        ReadOptions options = ReadOptions.builder()
+                .expressionAttributeNames(expressionAttributeNames)
+                .expressionAttributeValues(expressionAttributeValues)
+                .filterExpression(filterExpression)
+                .build();
+        try (ItemIterator items = paginatedReader.scan(tableName, options)) {
+            List<Map<String, AttributeValue>> result = new ArrayList<>();
+            items.forEachRemaining(result::add);
+            return result;
+        } catch (DynamoDbSdkUncheckedException e) {
+            throw new DynamoDbSdkException("Failed to scan table: " + tableName, e.getCause());
         }
     }
 
+    /**
+     * Scans lazily, one page at a time. The iterator's cursor can resume the scan later
+     * through {@link ReadOptions#getCursor()}.
+     */
+    public ItemIterator scanItems(String tableName, ReadOptions options) {
+        return paginatedReader.scan(tableName, options);
+    }
+
+    /**
+     * Scans a table as parallel segments, handing items to a thread-safe consumer as pages arrive.
+     * Progress is kept per segment so a failed or interrupted scan can be resumed from its checkpoint.
+     *
+     * @return The number of items handed to the consumer.
+     */
+    public long parallelScan(String tableName, ParallelScanOptions options, Consumer<Map<String, AttributeValue>> consumer)
+            throws DynamoDbSdkException {
+        return parallelScanner.scan(tableName, options, consumer);
+    }
+
+    /**
+     * Exports a table to compressed local files through a parallel scan, streaming each segment to its own files
+     * and writing a manifest once every segment has finished. Read the export back with {@link ExportReader}.
+     */
+    public ExportManifest exportTable(String tableName, ExportOptions options) throws DynamoDbSdkException {
+        return new TableExporter(dynamoDbClient).export(tableName, options);
+    }
+
     // Batch Operations
 
+    /**
+     * Writes any number of requests in 25-item chunks, resubmitting unprocessed items with backoff.
+     * Fails if some items are still unprocessed once the retries are used up.
+     */
     public void batchWriteItems(Map<String, List<WriteRequest>> requestItems) throws DynamoDbSdkException {
+        WriteReport report;
         try {
-            BatchWriteItemRequest request = BatchWriteItemRequest.builder()
-                    .requestItems(requestItems)
-                    .build();
-            dynamoDbClient.batchWriteItem(request);
-        } catch (DynamoDbException e) {
-            throw new DynamoDbSdkException("Failed to perform batch write operation", e);
+            report = bulkWriter.write(requestItems);
+        } finally {
+            invalidate(requestItems);
+        }
+        if (!report.isComplete()) {
+            long remaining = report.unprocessedItems().values().stream().mapToLong(List::size).sum();
+            throw new DynamoDbSdkException("Failed to perform batch write operation: " + remaining + " items left unprocessed");
         }
     }
 
-    public Map<String, List<Map<String, AttributeValue>>> batchGetItems(Map<String, KeysAndAttributes> requestItems) throws DynamoDbSdkException {
+    /**
+     * Writes any number of requests like {@link #batchWriteItems(Map)}, reporting throughput and any
+     * items left unprocessed instead of failing on them.
+     */
+    public WriteReport bulkWriteItems(Map<String, ? extends Collection<WriteRequest>> requestItems) throws DynamoDbSdkException {
         try {
-            BatchGetItemRequest request = BatchGetItemRequest.builder()
-                    .requestItems(requestItems)
-                    .build();
-            BatchGetItemResponse response = dynamoDbClient.batchGetItem(request);
-            return response.responses();
-        } catch (DynamoDbException e) {
-            throw new DynamoDbSdkException("Failed to perform batch get operation", e);
+            return bulkWriter.write(requestItems);
+        } finally {
+            invalidate(requestItems);
+        }
+    }
+
+    /**
+     * Writes a stream of requests to one table, pulling them from the source only as chunks are sent.
+     */
+    public WriteReport bulkWriteItems(String tableName, Iterable<WriteRequest> requests) throws DynamoDbSdkException {
+        if (itemCache == null) {
+            return bulkWriter.write(tableName, requests);
+        }
+        // Each key is invalidated as it is pulled, and the table once more after the writes land,
+        // since the requests are not retained.
+        try {
+            return bulkWriter.write(tableName, () -> new Iterator<>() {
+                private final Iterator<WriteRequest> source = requests.iterator();
+
+                @Override
+                public boolean hasNext() {
+                    return source.hasNext();
+                }
+
+                @Override
+                public WriteRequest next() {
+                    WriteRequest request = source.next();
+                    itemCache.invalidate(tableName, request);
+                    return request;
+                }
+            });
+        } finally {
+            itemCache.invalidateTable(tableName);
+        }
+    }
+
+    /**
+     * Opens a writer that buffers puts and deletes to one table and flushes them in the background
+     * through {@link #bulkWriteItems(Map)}, so they also invalidate cached items. Close it to write the remainder.
+     */
+    public WriteBehindWriter writeBehind(String tableName, WriteBehindConfig config) throws DynamoDbSdkException {
+        Set<String> keyAttributeNames = describeTable(tableName).keySchema().stream()
+                .map(KeySchemaElement::attributeName)
+                .collect(Collectors.toSet());
+        return new WriteBehindWriter(this::bulkWriteItems, tableName, keyAttributeNames, config);
+    }
+
+    /**
+     * Reads any number of keys, splitting them into requests of at most 100 keys and
+     * retrying unprocessed keys; fails if any are still unprocessed after the configured retries.
+     */
+    public Map<String, List<Map<String, AttributeValue>>> batchGetItems(Map<String, KeysAndAttributes> requestItems) throws DynamoDbSdkException {
+        if (itemCache == null) {
+            return bulkGetter.getAll(requestItems);
+        }
+        long stamp = itemCache.stamp();
+        Map<String, List<Map<String, AttributeValue>>> result = new HashMap<>();
+        Map<String, KeysAndAttributes> remaining = new HashMap<>();
+        requestItems.forEach((tableName, keysAndAttributes) -> {
+            if (!isCacheable(keysAndAttributes)) {
+                remaining.put(tableName, keysAndAttributes);
+                return;
+            }
+            List<Map<String, AttributeValue>> missing = new ArrayList<>();
+            for (Map<String, AttributeValue> key : keysAndAttributes.keys()) {
+                Map<String, AttributeValue> cached = itemCache.get(tableName, key);
+                if (cached == null) {
+                    missing.add(key);
+                } else if (!cached.isEmpty()) {
+                    result.computeIfAbsent(tableName, name -> new ArrayList<>()).add(cached);
+                }
+            }
+            if (!missing.isEmpty()) {
+                remaining.put(tableName, keysAndAttributes.toBuilder().keys(missing).build());
+            }
+        });
+        if (remaining.isEmpty()) {
+            return result;
+        }
+
+        Map<String, List<Map<String, AttributeValue>>> fetched = bulkGetter.getAll(remaining);
+        remaining.forEach((tableName, keysAndAttributes) -> {
+            List<Map<String, AttributeValue>> items = fetched.getOrDefault(tableName, List.of());
+            if (isCacheable(keysAndAttributes)) {
+                itemCache.putAll(tableName, keysAndAttributes.keys(), items, stamp);
+            }
+            if (!items.isEmpty()) {
+                result.computeIfAbsent(tableName, name -> new ArrayList<>()).addAll(items);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Reads items by key from one table, returning them indexed by key; keys with no item are absent.
+     */
+    public Map<Map<String, AttributeValue>, Map<String, AttributeValue>> batchGetItems(String tableName, Collection<Map<String, AttributeValue>> keys,
+                                                                                     boolean consistentRead) throws DynamoDbSdkException {
+        if (itemCache == null || consistentRead) {
+            return bulkGetter.get(tableName, keys, consistentRead);
+        }
+        long stamp = itemCache.stamp();
+        Map<Map<String, AttributeValue>, Map<String, AttributeValue>> result = new HashMap<>();
+        List<Map<String, AttributeValue>> missing = new ArrayList<>();
+        for (Map<String, AttributeValue> key : keys) {
+            Map<String, AttributeValue> cached = itemCache.get(tableName, key);
+            if (cached == null) {
+                missing.add(key);
+            } else if (!cached.isEmpty()) {
+                result.put(key, cached);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<Map<String, AttributeValue>, Map<String, AttributeValue>> fetched = bulkGetter.get(tableName, missing, false);
+            itemCache.putAll(tableName, missing, fetched.values(), stamp);
+            result.putAll(fetched);
+        }
+        return result;
+    }
+
+    /**
+     * Strongly consistent and projected reads bypass the cache, which only holds whole items.
+     */
+    private static boolean isCacheable(KeysAndAttributes keysAndAttributes) {
+        return !Boolean.TRUE.equals(keysAndAttributes.consistentRead())
+                && keysAndAttributes.projectionExpression() == null
+                && !keysAndAttributes.hasAttributesToGet();
+    }
+
+    private void invalidate(String tableName, Map<String, AttributeValue> key) {
+        if (itemCache != null) {
+            itemCache.invalidate(tableName, key);
+        }
+    }
+
+    private void invalidate(Map<String, ? extends Collection<WriteRequest>> requestItems) {
+        if (itemCache != null) {
+            requestItems.forEach((tableName, requests) -> requests.forEach(request -> itemCache.invalidate(tableName, request)));
         }
     }
 }
@@ -0,0 +1,22 @@
+package com.deloitte.sdk.dynamodb;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.Map;
+
+/**
+ * Keys and items shared by tests of tables keyed on a numeric {@code id}.
+ */
+public final class TestItems {
+
+    private TestItems() {
+    }
+
+    public static Map<String, AttributeValue> key(int id) {
+        return Map.of("id", AttributeValue.fromN(Integer.toString(id)));
+    }
+
+    public static Map<String, AttributeValue> item(int id) {
+        return Map.of("id", AttributeValue.fromN(Integer.toString(id)), "name", AttributeValue.fromS("item" + id));
+    }
+}
@@ -0,0 +1,102 @@
+package com.deloitte.sdk.dynamodb.batch;
+
+import com.deloitte.sdk.dynamodb.TestItems;
+import com.deloitte.sdk.dynamodb.exceptions.DynamoDbSdkException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static com.deloitte.sdk.dynamodb.TestItems.key;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BulkGetterTest {
+
+    private DynamoDbClient dynamoDbClient;
+    private BulkGetter getter;
+    private List<Integer> chunkSizes;
+
+    @BeforeEach
+    void setUp() {
+        dynamoDbClient = mock(DynamoDbClient.class);
+        getter = new BulkGetter(dynamoDbClient, BatchConfig.builder().maxConcurrency(4).maxRetries(3).retryBaseDelayMillis(1).build());
+        chunkSizes = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @Test
+    void get_deduplicatesChunksAndIndexesByKey() throws DynamoDbSdkException {
+        when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class))).thenAnswer(invocation -> {
+            List<Map<String, AttributeValue>> keys = keysOf(invocation.getArgument(0));
+            chunkSizes.add(keys.size());
+            // Odd ids do not exist.
+            List<Map<String, AttributeValue>> items = keys.stream()
+                    .filter(key -> Integer.parseInt(key.get("id").n()) % 2 == 0)
+                    .map(key -> Map.of("id", key.get("id"), "name", AttributeValue.fromS("item" + key.get("id").n())))
+                    .toList();
+            return BatchGetItemResponse.builder().responses(Map.of("table", items)).build();
+        });
+        List<Map<String, AttributeValue>> keys = new ArrayList<>(keys(250));
+        keys.addAll(keys(50));
+
+        Map<Map<String, AttributeValue>, Map<String, AttributeValue>> items = getter.get("table", keys, false);
+
+        assertEquals(List.of(50, 100, 100), chunkSizes.stream().sorted().toList());
+        assertEquals(125, items.size());
+        assertEquals("item42", items.get(key(42)).get("name").s());
+        assertFalse(items.containsKey(key(43)));
+    }
+
+    @Test
+    void get_retriesUnprocessedKeys() throws DynamoDbSdkException {
+        AtomicBoolean throttled = new AtomicBoolean();
+        when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class))).thenAnswer(invocation -> {
+            List<Map<String, AttributeValue>> keys = keysOf(invocation.getArgument(0));
+            BatchGetItemResponse.Builder response = BatchGetItemResponse.builder();
+            if (throttled.compareAndSet(false, true)) {
+                response.unprocessedKeys(Map.of("table", KeysAndAttributes.builder().keys(keys.subList(1, keys.size())).build()));
+                keys = keys.subList(0, 1);
+            }
+            return response.responses(Map.of("table", keys)).build();
+        });
+
+        Map<Map<String, AttributeValue>, Map<String, AttributeValue>> items = getter.get("table", keys(10), true);
+
+        assertEquals(10, items.size());
+    }
+
+    @Test
+    void getAll_failsWhenKeysStayUnprocessed() {
+        when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class))).thenAnswer(invocation -> {
+            BatchGetItemRequest request = invocation.getArgument(0);
+            return BatchGetItemResponse.builder().unprocessedKeys(request.requestItems()).build();
+        });
+
+        DynamoDbSdkException e = assertThrows(DynamoDbSdkException.class, () ->
+                getter.getAll(Map.of("table", KeysAndAttributes.builder().keys(keys(3)).build())));
+        assertTrue(e.getCause().getMessage().contains("3 keys left unprocessed"));
+    }
+
+    private static List<Map<String, AttributeValue>> keysOf(BatchGetItemRequest request) {
+        return request.requestItems().get("table").keys();
+    }
+
+    private static List<Map<String, AttributeValue>> keys(int count) {
+        return IntStream.range(0, count).mapToObj(TestItems::key).toList();
+    }
+}
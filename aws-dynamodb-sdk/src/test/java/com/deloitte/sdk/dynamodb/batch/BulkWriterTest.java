@@ -0,0 +1,191 @@
+package com.deloitte.sdk.dynamodb.batch;
+
+import com.deloitte.sdk.dynamodb.exceptions.DynamoDbSdkException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BulkWriterTest {
+
+    private DynamoDbClient dynamoDbClient;
+    private BulkWriter writer;
+    private List<Integer> chunkSizes;
+    private Set<String> written;
+
+    @BeforeEach
+    void setUp() {
+        dynamoDbClient = mock(DynamoDbClient.class);
+        writer = new BulkWriter(dynamoDbClient, BatchConfig.builder().maxConcurrency(4).maxRetries(3).retryBaseDelayMillis(1).build());
+        chunkSizes = Collections.synchronizedList(new ArrayList<>());
+        written = ConcurrentHashMap.newKeySet();
+        when(dynamoDbClient.describeTable(any(DescribeTableRequest.class))).thenReturn(DescribeTableResponse.builder()
+                .table(TableDescription.builder()
+                        .keySchema(KeySchemaElement.builder().attributeName("id").keyType(KeyType.HASH).build())
+                        .build())
+                .build());
+    }
+
+    @Test
+    void write_splitsIntoChunksOfTwentyFive() throws DynamoDbSdkException {
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            BatchWriteItemRequest request = invocation.getArgument(0);
+            assertEquals(List.of(Retries.NO_SDK_RETRIES), request.overrideConfiguration().orElseThrow().plugins());
+            List<WriteRequest> requests = request.requestItems().get("table");
+            chunkSizes.add(requests.size());
+            requests.forEach(write -> written.add(write.putRequest().item().get("id").s()));
+            return BatchWriteItemResponse.builder().build();
+        });
+
+        WriteReport report = writer.write("table", puts(110));
+
+        assertTrue(report.isComplete());
+        assertEquals(110, report.writtenCount());
+        assertEquals(110, written.size());
+        assertEquals(5, report.requestCount());
+        assertEquals(List.of(10, 25, 25, 25, 25), chunkSizes.stream().sorted().toList());
+    }
+
+    @Test
+    void write_resubmitsUnprocessedItems() throws DynamoDbSdkException {
+        Set<String> deferredOnce = ConcurrentHashMap.newKeySet();
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            BatchWriteItemRequest request = invocation.getArgument(0);
+            List<WriteRequest> unprocessed = new ArrayList<>();
+            for (WriteRequest write : request.requestItems().get("table")) {
+                String id = write.putRequest().item().get("id").s();
+                if (Integer.parseInt(id) % 3 == 0 && deferredOnce.add(id)) {
+                    unprocessed.add(write);
+                } else {
+                    written.add(id);
+                }
+            }
+            return BatchWriteItemResponse.builder()
+                    .unprocessedItems(unprocessed.isEmpty() ? Map.of() : Map.of("table", unprocessed))
+                    .build();
+        });
+
+        WriteReport report = writer.write(Map.of("table", puts(50)));
+
+        assertTrue(report.isComplete());
+        assertEquals(50, report.writtenCount());
+        assertEquals(50, written.size());
+        assertEquals(2, report.resubmissionCount());
+    }
+
+    @Test
+    void write_reportsItemsStillUnprocessedAfterRetries() throws DynamoDbSdkException {
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            BatchWriteItemRequest request = invocation.getArgument(0);
+            List<WriteRequest> requests = request.requestItems().get("table");
+            return BatchWriteItemResponse.builder().unprocessedItems(Map.of("table", requests.subList(0, 1))).build();
+        });
+
+        WriteReport report = writer.write("table", puts(3));
+
+        assertFalse(report.isComplete());
+        assertEquals(2, report.writtenCount());
+        assertEquals(1, report.unprocessedItems().get("table").size());
+    }
+
+    @Test
+    void write_retriesThrottledRequestsAndFailsOnOtherErrors() throws DynamoDbSdkException {
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenThrow(ProvisionedThroughputExceededException.builder().statusCode(400).message("throttled").build())
+                .thenReturn(BatchWriteItemResponse.builder().build());
+
+        assertEquals(1, writer.write("table", puts(1)).writtenCount());
+
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenThrow(DynamoDbException.builder().statusCode(400).message("validation").build());
+
+        assertThrows(DynamoDbSdkException.class, () -> writer.write("table", puts(1)));
+    }
+
+    @Test
+    void write_keepsLastWritePerKeyWhenBatchHasDuplicates() throws DynamoDbSdkException {
+        Map<String, String> names = new ConcurrentHashMap<>();
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            BatchWriteItemRequest request = invocation.getArgument(0);
+            List<WriteRequest> requests = request.requestItems().get("table");
+            if (requests.stream().map(write -> write.putRequest().item().get("id")).distinct().count() < requests.size()) {
+                throw DynamoDbException.builder().statusCode(400)
+                        .message("Provided list of item keys contains duplicates").build();
+            }
+            requests.forEach(write -> names.put(write.putRequest().item().get("id").s(), write.putRequest().item().get("name").s()));
+            return BatchWriteItemResponse.builder().build();
+        });
+
+        WriteReport report = writer.write("table", List.of(put("1", "first"), put("2", "other"), put("1", "second")));
+
+        assertEquals(3, report.writtenCount());
+        assertEquals(2, report.requestCount());
+        assertEquals(Map.of("1", "second", "2", "other"), names);
+    }
+
+    @Test
+    void write_landsWritesToTheSameKeyInSourceOrderAcrossChunks() throws DynamoDbSdkException {
+        Map<String, String> names = new ConcurrentHashMap<>();
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            BatchWriteItemRequest request = invocation.getArgument(0);
+            List<WriteRequest> requests = request.requestItems().get("table");
+            if (requests.stream().anyMatch(write -> "first".equals(write.putRequest().item().get("name").s()))) {
+                // Hold the first chunk back so the second would land before it if they were not ordered
+                Thread.sleep(200);
+            }
+            requests.forEach(write -> names.put(write.putRequest().item().get("id").s(), write.putRequest().item().get("name").s()));
+            return BatchWriteItemResponse.builder().build();
+        });
+        List<WriteRequest> requests = new ArrayList<>();
+        for (int position = 0; position < 40; position++) {
+            String id = position == 1 || position == 30 ? "key" : Integer.toString(position);
+            requests.add(put(id, position == 1 ? "first" : position == 30 ? "last" : "other"));
+        }
+
+        WriteReport report = writer.write("table", requests);
+
+        assertEquals(40, report.writtenCount());
+        assertEquals("last", names.get("key"));
+    }
+
+    private static WriteRequest put(String id, String name) {
+        return WriteRequest.builder()
+                .putRequest(PutRequest.builder().item(Map.of("id", AttributeValue.fromS(id), "name", AttributeValue.fromS(name))).build())
+                .build();
+    }
+
+    private static List<WriteRequest> puts(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> WriteRequest.builder()
+                        .putRequest(PutRequest.builder().item(Map.of("id", AttributeValue.fromS(Integer.toString(i)))).build())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,148 @@
+package com.deloitte.sdk.dynamodb.batch;
+
+import com.deloitte.sdk.dynamodb.exceptions.DynamoDbSdkException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.deloitte.sdk.dynamodb.TestItems.item;
+import static com.deloitte.sdk.dynamodb.TestItems.key;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ReadCoalescerTest {
+
+    private DynamoDbClient dynamoDbClient;
+    private ReadCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        dynamoDbClient = mock(DynamoDbClient.class);
+        coalescer = new ReadCoalescer(dynamoDbClient, BatchConfig.defaults(),
+                CoalescingConfig.builder().window(Duration.ofMillis(200)).build());
+    }
+
+    @Test
+    void get_sharesConcurrentReadsOfTheSameKey() throws Exception {
+        when(dynamoDbClient.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().item(item(1)).build());
+
+        List<Map<String, AttributeValue>> results = getConcurrently(List.of(1, 1, 1, 1, 1));
+
+        results.forEach(result -> assertEquals(item(1), result));
+        verify(dynamoDbClient, times(1)).getItem(any(GetItemRequest.class));
+        assertEquals(4, coalescer.sharedReadCount());
+    }
+
+    @Test
+    void get_batchesDistinctKeysWithinTheWindow() throws Exception {
+        when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class))).thenAnswer(invocation -> {
+            BatchGetItemRequest request = invocation.getArgument(0);
+            List<Map<String, AttributeValue>> items = request.requestItems().get("table").keys().stream()
+                    .filter(key -> !key.get("id").n().equals("3"))
+                    .map(key -> item(Integer.parseInt(key.get("id").n())))
+                    .toList();
+            return BatchGetItemResponse.builder().responses(Map.of("table", items)).build();
+        });
+
+        List<Map<String, AttributeValue>> results = getConcurrently(List.of(1, 2, 3, 4));
+
+        assertEquals(item(1), results.get(0));
+        assertTrue(results.get(2).isEmpty());
+        assertEquals(item(4), results.get(3));
+        verify(dynamoDbClient, times(1)).batchGetItem(any(BatchGetItemRequest.class));
+        verify(dynamoDbClient, never()).getItem(any(GetItemRequest.class));
+    }
+
+    @Test
+    void get_sendsFullBatchWithoutWaitingOutTheWindow() throws DynamoDbSdkException {
+        ReadCoalescer single = new ReadCoalescer(dynamoDbClient, null,
+                CoalescingConfig.builder().window(Duration.ofHours(1)).maxBatchSize(1).build());
+        when(dynamoDbClient.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().item(item(7)).build());
+
+        assertEquals(item(7), single.get("table", key(7)));
+        assertEquals(1, single.requestCount());
+    }
+
+    @Test
+    void get_doesNotShareReadsStartedBeforeTheCallersGeneration() throws Exception {
+        ReadCoalescer unbatched = new ReadCoalescer(dynamoDbClient, null,
+                CoalescingConfig.builder().window(Duration.ZERO).maxBatchSize(1).build());
+        CountDownLatch oldReadSent = new CountDownLatch(1);
+        CountDownLatch releaseOldRead = new CountDownLatch(1);
+        Map<String, AttributeValue> oldItem = Map.of("id", AttributeValue.fromN("1"), "name", AttributeValue.fromS("old"));
+        when(dynamoDbClient.getItem(any(GetItemRequest.class)))
+                .thenAnswer(invocation -> {
+                    oldReadSent.countDown();
+                    releaseOldRead.await();
+                    return GetItemResponse.builder().item(oldItem).build();
+                })
+                .thenReturn(GetItemResponse.builder().item(item(1)).build());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Map<String, AttributeValue>> before = executor.submit(() -> unbatched.get("table", key(1), 0));
+            oldReadSent.await();
+
+            assertEquals(item(1), unbatched.get("table", key(1), 1));
+            releaseOldRead.countDown();
+            assertEquals(oldItem, before.get());
+        }
+        verify(dynamoDbClient, times(2)).getItem(any(GetItemRequest.class));
+        assertEquals(0, unbatched.sharedReadCount());
+    }
+
+    @Test
+    void get_failsEveryWaitingCaller() throws Exception {
+        when(dynamoDbClient.getItem(any(GetItemRequest.class))).thenThrow(DynamoDbException.builder().message("boom").build());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Map<String, AttributeValue>>> futures = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                futures.add(executor.submit(() -> coalescer.get("table", key(1))));
+            }
+            for (Future<Map<String, AttributeValue>> future : futures) {
+                ExecutionException e = assertThrows(ExecutionException.class, future::get);
+                assertInstanceOf(DynamoDbSdkException.class, e.getCause());
+            }
+        }
+    }
+
+    private List<Map<String, AttributeValue>> getConcurrently(List<Integer> ids) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Map<String, AttributeValue>>> futures = new ArrayList<>();
+            for (int id : ids) {
+                Callable<Map<String, AttributeValue>> read = () -> coalescer.get("table", key(id));
+                futures.add(executor.submit(read));
+            }
+            List<Map<String, AttributeValue>> results = new ArrayList<>();
+            for (Future<Map<String, AttributeValue>> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+}
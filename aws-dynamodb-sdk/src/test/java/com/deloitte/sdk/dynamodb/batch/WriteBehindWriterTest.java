@@ -0,0 +1,158 @@
+package com.deloitte.sdk.dynamodb.batch;
+
+import com.deloitte.sdk.dynamodb.exceptions.DynamoDbSdkException;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.deloitte.sdk.dynamodb.TestItems.key;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WriteBehindWriterTest {
+
+    private final List<List<WriteRequest>> batches = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void put_coalescesRepeatedKeysAndFlushesOnClose() throws DynamoDbSdkException {
+        WriteBehindWriter writer = new WriteBehindWriter(this::record, "table", Set.of("id"),
+                WriteBehindConfig.builder().linger(Duration.ofHours(1)).build());
+
+        writer.put(item(1, "a"));
+        writer.put(item(2, "b"));
+        writer.put(item(1, "c"));
+        writer.delete(key(2));
+        writer.close();
+
+        assertEquals(1, batches.size());
+        List<WriteRequest> batch = batches.get(0);
+        assertEquals(2, batch.size());
+        assertEquals("c", batch.get(0).putRequest().item().get("name").s());
+        assertEquals(key(2), batch.get(1).deleteRequest().key());
+        assertEquals(2, writer.coalescedCount());
+        assertEquals(2, writer.writtenCount());
+    }
+
+    @Test
+    void put_flushesOnceFlushSizeIsReached() throws Exception {
+        CountDownLatch flushed = new CountDownLatch(1);
+        WriteBehindWriter writer = new WriteBehindWriter(requestItems -> {
+            flushed.countDown();
+            return record(requestItems);
+        }, "table", Set.of("id"), WriteBehindConfig.builder().flushSize(3).linger(Duration.ofHours(1)).build());
+
+        for (int id = 0; id < 3; id++) {
+            writer.put(item(id, "x"));
+        }
+
+        assertTrue(flushed.await(5, TimeUnit.SECONDS));
+        writer.close();
+        assertEquals(3, batches.stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    void put_flushesAfterLinger() throws Exception {
+        CountDownLatch flushed = new CountDownLatch(1);
+        try (WriteBehindWriter writer = new WriteBehindWriter(requestItems -> {
+            flushed.countDown();
+            return record(requestItems);
+        }, "table", Set.of("id"), WriteBehindConfig.builder().linger(Duration.ofMillis(10)).build())) {
+            writer.put(item(1, "a"));
+
+            assertTrue(flushed.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void put_blocksWhileBufferIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        WriteBehindWriter writer = new WriteBehindWriter(requestItems -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return record(requestItems);
+        }, "table", Set.of("id"), WriteBehindConfig.builder().flushSize(1).maxBufferedItems(2).build());
+        writer.put(item(1, "a"));
+        writer.put(item(2, "b"));
+
+        Thread blocked = Thread.ofVirtual().start(() -> {
+            try {
+                writer.put(item(3, "c"));
+            } catch (DynamoDbSdkException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        blocked.join(200);
+        assertTrue(blocked.isAlive());
+
+        release.countDown();
+        blocked.join(5_000);
+        writer.close();
+        assertEquals(3, batches.stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    void flush_keepsReportingFailedWritesThroughClose() throws DynamoDbSdkException {
+        WriteBehindWriter writer = new WriteBehindWriter(requestItems -> {
+            throw new DynamoDbSdkException("boom");
+        }, "table", Set.of("id"), WriteBehindConfig.builder().linger(Duration.ofHours(1)).build());
+        writer.put(item(1, "a"));
+
+        assertThrows(DynamoDbSdkException.class, writer::flush);
+        assertThrows(DynamoDbSdkException.class, () -> writer.put(item(2, "b")));
+        assertEquals(1, writer.pendingCount());
+        DynamoDbSdkException closeFailure = assertThrows(DynamoDbSdkException.class, writer::close);
+        assertEquals("boom", closeFailure.getCause().getMessage());
+    }
+
+    @Test
+    void close_retriesWritesLeftUnprocessedByAFlush() throws DynamoDbSdkException {
+        AtomicInteger calls = new AtomicInteger();
+        WriteBehindWriter writer = new WriteBehindWriter(requestItems -> {
+            if (calls.getAndIncrement() > 0) {
+                return record(requestItems);
+            }
+            List<WriteRequest> batch = List.copyOf(requestItems.get("table"));
+            return new WriteReport(1, Map.of("table", batch.subList(1, batch.size())), 1, 0, Duration.ZERO);
+        }, "table", Set.of("id"), WriteBehindConfig.builder().linger(Duration.ofHours(1)).build());
+        writer.put(item(1, "a"));
+        writer.put(item(2, "b"));
+
+        assertThrows(DynamoDbSdkException.class, writer::flush);
+        writer.close();
+
+        assertEquals(List.of("b"), batches.get(0).stream().map(request -> request.putRequest().item().get("name").s()).toList());
+        assertEquals(2, writer.writtenCount());
+    }
+
+    @Test
+    void put_rejectsItemsWithoutKey() throws DynamoDbSdkException {
+        try (WriteBehindWriter writer = new WriteBehindWriter(this::record, "table", Set.of("id"), null)) {
+            assertThrows(IllegalArgumentException.class, () -> writer.put(Map.of("name", AttributeValue.fromS("a"))));
+        }
+    }
+
+    private WriteReport record(Map<String, ? extends Collection<WriteRequest>> requestItems) {
+        List<WriteRequest> batch = new ArrayList<>(requestItems.get("table"));
+        batches.add(batch);
+        return new WriteReport(batch.size(), Map.of(), 1, 0, Duration.ZERO);
+    }
+
+    private static Map<String, AttributeValue> item(int id, String name) {
+        return Map.of("id", AttributeValue.fromN(Integer.toString(id)), "name", AttributeValue.fromS(name));
+    }
+}
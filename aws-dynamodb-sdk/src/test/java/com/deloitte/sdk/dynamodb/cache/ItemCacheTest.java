@@ -0,0 +1,124 @@
+package com.deloitte.sdk.dynamodb.cache;
+
+import com.deloitte.sdk.dynamodb.encoding.ItemEncoding;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.deloitte.sdk.dynamodb.TestItems.item;
+import static com.deloitte.sdk.dynamodb.TestItems.key;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ItemCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private ItemCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ItemCache(CacheConfig.builder().maxEntries(3).ttl(Duration.ofSeconds(10)).build(), now::get);
+    }
+
+    @Test
+    void get_returnsCachedItemsAndMisses() {
+        cache.put("table", key(1), item(1), cache.stamp());
+        cache.put("table", key(2), null, cache.stamp());
+
+        assertEquals(item(1), cache.get("table", key(1)));
+        assertTrue(cache.get("table", key(2)).isEmpty());
+        assertNull(cache.get("table", key(3)));
+        assertEquals(2, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    void get_expiresAfterTtl() {
+        cache.put("table", key(1), item(1), cache.stamp());
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertNull(cache.get("table", key(1)));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void put_evictsLeastRecentlyUsed() {
+        for (int id = 1; id <= 3; id++) {
+            cache.put("table", key(id), item(id), cache.stamp());
+        }
+        cache.get("table", key(1));
+        cache.put("table", key(4), item(4), cache.stamp());
+
+        assertNull(cache.get("table", key(2)));
+        assertEquals(item(1), cache.get("table", key(1)));
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    void put_evictsToByteBound() {
+        ItemCache small = new ItemCache(CacheConfig.builder().maxBytes(ItemEncoding.encode(item(1)).length).build(), now::get);
+        small.put("table", key(1), item(1), small.stamp());
+        small.put("table", key(2), item(2), small.stamp());
+
+        assertEquals(1, small.size());
+        assertEquals(item(2), small.get("table", key(2)));
+    }
+
+    @Test
+    void put_isIgnoredWhenInvalidatedDuringRead() {
+        long stamp = cache.stamp();
+        cache.invalidate("table", key(1));
+        cache.put("table", key(1), item(1), stamp);
+
+        assertNull(cache.get("table", key(1)));
+    }
+
+    @Test
+    void put_isKeptWhenOnlyOtherKeysWereInvalidatedDuringRead() {
+        long generation = cache.generation("table", key(1));
+        long stamp = cache.stamp();
+        cache.invalidate("table", key(2));
+        cache.invalidate("other", key(1));
+        cache.put("table", key(1), item(1), stamp);
+
+        assertEquals(item(1), cache.get("table", key(1)));
+        assertEquals(generation, cache.generation("table", key(1)));
+    }
+
+    @Test
+    void put_isIgnoredWhenTableWasInvalidatedDuringRead() {
+        long stamp = cache.stamp();
+        cache.invalidateTable("table");
+        cache.put("table", key(1), item(1), stamp);
+
+        assertNull(cache.get("table", key(1)));
+    }
+
+    @Test
+    void put_isIgnoredWhenTheKeysTombstoneWasDropped() {
+        long stamp = cache.stamp();
+        cache.invalidate("table", key(1));
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        cache.invalidate("table", key(2));
+        cache.put("table", key(1), item(1), stamp);
+
+        assertNull(cache.get("table", key(1)));
+    }
+
+    @Test
+    void invalidate_mapsWriteRequestsToKeys() {
+        cache.putAll("table", List.of(key(1), key(2)), List.of(item(1), item(2)), cache.stamp());
+
+        cache.invalidate("table", WriteRequest.builder().putRequest(PutRequest.builder().item(item(1)).build()).build());
+        cache.invalidate("table", WriteRequest.builder().deleteRequest(DeleteRequest.builder().key(key(2)).build()).build());
+
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,151 @@
+package com.deloitte.sdk.dynamodb.capacity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.InterceptorContext;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+public class CapacityInterceptorTest {
+
+    private CapacityLimiter limiter;
+    private CapacityInterceptor interceptor;
+    private ExecutionAttributes attributes;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new CapacityLimiter(CapacityConfig.defaults(), tableName -> {
+            throw new UnsupportedOperationException();
+        }, () -> 0L);
+        limiter.setCapacity("table", 100, 10);
+        interceptor = new CapacityInterceptor(limiter);
+        attributes = new ExecutionAttributes();
+    }
+
+    @Test
+    void getItem_reservesRequestsConsumedCapacityAndSettles() {
+        GetItemRequest request = GetItemRequest.builder().tableName("table").key(Map.of("id", AttributeValue.fromS("1"))).build();
+        InterceptorContext context = InterceptorContext.builder().request(request).build();
+
+        interceptor.beforeExecution(context, attributes);
+        GetItemRequest sent = (GetItemRequest) interceptor.modifyRequest(context, attributes);
+        assertEquals(ReturnConsumedCapacity.TOTAL, sent.returnConsumedCapacity());
+        assertEquals(99.5, limiter.availableReadUnits("table"), 1e-3);
+
+        GetItemResponse response = GetItemResponse.builder()
+                .consumedCapacity(ConsumedCapacity.builder().tableName("table").capacityUnits(4.0).build())
+                .build();
+        interceptor.afterExecution(InterceptorContext.builder().request(sent).response(response).build(), attributes);
+
+        assertEquals(96, limiter.availableReadUnits("table"), 1e-3);
+    }
+
+    @Test
+    void batchWrite_reservesOneUnitPerItemAndRefundsOnFailure() {
+        WriteRequest put = WriteRequest.builder().putRequest(PutRequest.builder().item(Map.of("id", AttributeValue.fromS("1"))).build()).build();
+        BatchWriteItemRequest request = BatchWriteItemRequest.builder().requestItems(Map.of("table", List.of(put, put, put))).build();
+
+        interceptor.beforeExecution(InterceptorContext.builder().request(request).build(), attributes);
+        assertEquals(7, limiter.availableWriteUnits("table"), 1e-3);
+
+        interceptor.onExecutionFailure(mock(Context.FailedExecution.class), attributes);
+        assertEquals(10, limiter.availableWriteUnits("table"), 1e-3);
+    }
+
+    @Test
+    void batchWrite_settlesPerTableConsumption() {
+        WriteRequest put = WriteRequest.builder().putRequest(PutRequest.builder().item(Map.of("id", AttributeValue.fromS("1"))).build()).build();
+        BatchWriteItemRequest request = BatchWriteItemRequest.builder().requestItems(Map.of("table", List.of(put, put))).build();
+        interceptor.beforeExecution(InterceptorContext.builder().request(request).build(), attributes);
+
+        BatchWriteItemResponse response = BatchWriteItemResponse.builder()
+                .consumedCapacity(ConsumedCapacity.builder().tableName("table").capacityUnits(6.0).build())
+                .build();
+        interceptor.afterExecution(InterceptorContext.builder().request(request).response(response).build(), attributes);
+
+        assertEquals(4, limiter.availableWriteUnits("table"), 1e-3);
+    }
+
+    @Test
+    void scan_reservesLimitThenPreviousPageConsumption() {
+        ScanRequest first = ScanRequest.builder().tableName("table").limit(50).build();
+        interceptor.beforeExecution(InterceptorContext.builder().request(first).build(), attributes);
+        assertEquals(75, limiter.availableReadUnits("table"), 1e-3);
+
+        ScanResponse response = ScanResponse.builder()
+                .consumedCapacity(ConsumedCapacity.builder().tableName("table").capacityUnits(40.0).build())
+                .build();
+        interceptor.afterExecution(InterceptorContext.builder().request(first).response(response).build(), attributes);
+        assertEquals(60, limiter.availableReadUnits("table"), 1e-3);
+
+        ExecutionAttributes next = new ExecutionAttributes();
+        interceptor.beforeExecution(InterceptorContext.builder().request(ScanRequest.builder().tableName("table").build()).build(), next);
+        assertEquals(20, limiter.availableReadUnits("table"), 1e-3);
+    }
+
+    @Test
+    void batchGet_refundsAcquiredTablesWhenInterrupted() throws InterruptedException {
+        limiter.setCapacity("slow", 1, 1);
+        Map<String, KeysAndAttributes> requestItems = new LinkedHashMap<>();
+        requestItems.put("table", KeysAndAttributes.builder().keys(Map.of("id", AttributeValue.fromS("1"))).build());
+        requestItems.put("slow", KeysAndAttributes.builder()
+                .keys(IntStream.range(0, 10).mapToObj(i -> Map.of("id", AttributeValue.fromS(Integer.toString(i)))).toList())
+                .build());
+        BatchGetItemRequest request = BatchGetItemRequest.builder().requestItems(requestItems).build();
+        AtomicReference<RuntimeException> thrown = new AtomicReference<>();
+
+        Thread caller = Thread.ofVirtual().start(() -> {
+            try {
+                interceptor.beforeExecution(InterceptorContext.builder().request(request).build(), attributes);
+            } catch (RuntimeException e) {
+                thrown.set(e);
+            }
+        });
+        while (caller.getState() != Thread.State.TIMED_WAITING && caller.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+        caller.interrupt();
+        caller.join();
+
+        assertInstanceOf(AbortedException.class, thrown.get());
+        assertEquals(100, limiter.availableReadUnits("table"), 1e-3);
+        assertEquals(1, limiter.availableReadUnits("slow"), 1e-3);
+    }
+
+    @Test
+    void otherOperations_passThroughUnpaced() {
+        DescribeTableRequest request = DescribeTableRequest.builder().tableName("table").build();
+        InterceptorContext context = InterceptorContext.builder().request(request).build();
+
+        interceptor.beforeExecution(context, attributes);
+
+        assertSame(request, interceptor.modifyRequest(context, attributes));
+        assertEquals(100, limiter.availableReadUnits("table"), 1e-3);
+    }
+}
@@ -0,0 +1,90 @@
+package com.deloitte.sdk.dynamodb.capacity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputDescription;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CapacityLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger describeCalls = new AtomicInteger();
+    private CapacityLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        CapacityConfig config = CapacityConfig.builder().utilization(0.5).burstSeconds(2).refreshInterval(Duration.ofMinutes(1)).build();
+        limiter = new CapacityLimiter(config, tableName -> {
+            describeCalls.incrementAndGet();
+            long units = tableName.equals("on-demand") ? 0 : 100;
+            return TableDescription.builder().tableName(tableName)
+                    .provisionedThroughput(ProvisionedThroughputDescription.builder().readCapacityUnits(units).writeCapacityUnits(units / 2).build())
+                    .build();
+        }, now::get);
+    }
+
+    @Test
+    void buckets_areSizedFromProvisionedThroughput() {
+        assertEquals(100, limiter.availableReadUnits("table"), 1e-9);
+        assertEquals(50, limiter.availableWriteUnits("table"), 1e-9);
+        assertEquals(Double.POSITIVE_INFINITY, limiter.availableReadUnits("on-demand"));
+    }
+
+    @Test
+    void bucket_refillsAtUtilizedRateAndAllowsDebt() {
+        TokenBucket bucket = new TokenBucket(50, 2, now::get);
+
+        assertEquals(0, bucket.reserve(100));
+        long waitNanos = bucket.reserve(25);
+        assertEquals(Duration.ofMillis(500).toNanos(), waitNanos);
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertEquals(25, bucket.available(), 1e-6);
+    }
+
+    @Test
+    void settle_correctsReservationsWithConsumedCapacity() throws InterruptedException {
+        limiter.acquireRead("table", 0.5);
+        limiter.settleRead("table", 0.5, 10);
+
+        assertEquals(90, limiter.availableReadUnits("table"), 1e-9);
+
+        limiter.settleRead("table", 20, 0);
+        assertEquals(100, limiter.availableReadUnits("table"), 1e-9);
+    }
+
+    @Test
+    void buckets_areDescribedAgainAfterRefreshInterval() {
+        limiter.availableReadUnits("table");
+        limiter.availableReadUnits("table");
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+        limiter.availableReadUnits("table");
+
+        assertEquals(2, describeCalls.get());
+    }
+
+    @Test
+    void buckets_keepTheirDebtAcrossRefresh() {
+        limiter.settleRead("table", 0, 3200);
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        assertEquals(-100, limiter.availableReadUnits("table"), 1e-6);
+        assertEquals(2, describeCalls.get());
+    }
+
+    @Test
+    void setCapacity_overridesDescribedThroughput() {
+        limiter.setCapacity("table", 10, 0);
+        now.addAndGet(Duration.ofHours(1).toNanos());
+
+        assertEquals(20, limiter.availableReadUnits("table"), 1e-9);
+        assertEquals(Double.POSITIVE_INFINITY, limiter.availableWriteUnits("table"));
+        assertEquals(0, describeCalls.get());
+    }
+}
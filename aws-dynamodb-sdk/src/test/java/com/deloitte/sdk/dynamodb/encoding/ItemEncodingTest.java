@@ -0,0 +1,53 @@
+package com.deloitte.sdk.dynamodb.encoding;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ItemEncodingTest {
+
+    private static final Map<String, AttributeValue> ITEM = Map.of(
+            "s", AttributeValue.fromS("text"),
+            "n", AttributeValue.fromN("12.5"),
+            "b", AttributeValue.fromB(SdkBytes.fromByteArray(new byte[]{1, 2})),
+            "bool", AttributeValue.fromBool(false),
+            "nul", AttributeValue.fromNul(true),
+            "l", AttributeValue.fromL(List.of(AttributeValue.fromS("a"), AttributeValue.fromN("1"))),
+            "m", AttributeValue.fromM(Map.of("inner", AttributeValue.fromBool(true))),
+            "ss", AttributeValue.fromSs(List.of("x", "y")),
+            "ns", AttributeValue.fromNs(List.of("1", "2")),
+            "bs", AttributeValue.fromBs(List.of(SdkBytes.fromByteArray(new byte[]{3}))));
+
+    @Test
+    void encoding_roundTripsEveryAttributeType() {
+        assertEquals(ITEM, ItemEncoding.decode(ItemEncoding.encode(ITEM)));
+    }
+
+    @Test
+    void json_roundTripsEveryAttributeType() throws IOException {
+        JsonFactory factory = new JsonFactory();
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = factory.createGenerator(json)) {
+            ItemJson.write(generator, ITEM);
+            generator.writeRaw('\n');
+            ItemJson.write(generator, Map.of("id", AttributeValue.fromS("second")));
+        }
+
+        try (JsonParser parser = factory.createParser(json.toString())) {
+            assertEquals(ITEM, ItemJson.read(parser));
+            assertEquals(Map.of("id", AttributeValue.fromS("second")), ItemJson.read(parser));
+            assertNull(ItemJson.read(parser));
+        }
+    }
+}
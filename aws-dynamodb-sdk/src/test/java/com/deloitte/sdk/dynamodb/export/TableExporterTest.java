@@ -0,0 +1,154 @@
+package com.deloitte.sdk.dynamodb.export;
+
+import com.deloitte.sdk.dynamodb.exceptions.DynamoDbSdkException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TableExporterTest {
+
+    private static final int SEGMENTS = 3;
+    private static final int PAGES_PER_SEGMENT = 2;
+    private static final int ITEMS_PER_PAGE = 10;
+    private static final int TOTAL_ITEMS = SEGMENTS * PAGES_PER_SEGMENT * ITEMS_PER_PAGE;
+
+    @TempDir
+    Path tempDir;
+
+    private DynamoDbClient dynamoDbClient;
+    private TableExporter exporter;
+
+    @BeforeEach
+    void setUp() {
+        dynamoDbClient = mock(DynamoDbClient.class);
+        exporter = new TableExporter(dynamoDbClient);
+        // Segment s, page p holds ids s*100 + p*10 + i; the last evaluated key is the page number.
+        when(dynamoDbClient.scan(any(ScanRequest.class))).thenAnswer(invocation -> {
+            ScanRequest request = invocation.getArgument(0);
+            int segment = request.segment();
+            int page = request.hasExclusiveStartKey() ? Integer.parseInt(request.exclusiveStartKey().get("page").n()) + 1 : 0;
+            ScanResponse.Builder response = ScanResponse.builder().items(IntStream.range(0, ITEMS_PER_PAGE)
+                    .mapToObj(i -> item(segment * 100 + page * 10 + i))
+                    .toList());
+            if (page < PAGES_PER_SEGMENT - 1) {
+                response.lastEvaluatedKey(Map.of("page", AttributeValue.fromN(Integer.toString(page))));
+            }
+            return response.build();
+        });
+    }
+
+    @Test
+    void export_roundTripsNdjsonThroughReader() throws Exception {
+        assertRoundTrip(ExportFormat.NDJSON, ExportCompression.GZIP);
+    }
+
+    @Test
+    void export_roundTripsBinaryThroughReader() throws Exception {
+        assertRoundTrip(ExportFormat.BINARY, ExportCompression.NONE);
+    }
+
+    @Test
+    void export_rollsSegmentsOverToNewFiles() throws Exception {
+        ExportManifest manifest = exporter.export("table", ExportOptions.builder()
+                .directory(tempDir)
+                .totalSegments(SEGMENTS)
+                .maxFileBytes(512)
+                .build());
+
+        assertTrue(manifest.files().size() > SEGMENTS);
+        assertEquals(TOTAL_ITEMS, manifest.files().stream().mapToLong(ExportFile::itemCount).sum());
+        for (ExportFile file : manifest.files()) {
+            assertTrue(file.name().startsWith(String.format("segment-%04d-part-%05d", file.segment(), file.part())));
+            assertTrue(file.name().endsWith(".ndjson.gz"));
+            assertTrue(file.encodedBytes() <= 512);
+            assertEquals(Files.size(tempDir.resolve(file.name())), file.sizeBytes());
+        }
+        try (Stream<Map<String, AttributeValue>> items = ExportReader.items(tempDir)) {
+            assertEquals(TOTAL_ITEMS, items.count());
+        }
+    }
+
+    @Test
+    void export_writesManifestThatReadsBack() throws Exception {
+        ExportManifest manifest = exporter.export("table", ExportOptions.builder()
+                .directory(tempDir)
+                .totalSegments(SEGMENTS)
+                .build());
+
+        assertEquals(manifest, ExportManifest.read(tempDir));
+        assertEquals(SEGMENTS, manifest.files().size());
+        assertEquals(List.of(0, 1, 2), manifest.files().stream().map(ExportFile::segment).toList());
+    }
+
+    @Test
+    void export_failsWithoutManifestWhenScanFails() {
+        when(dynamoDbClient.scan(any(ScanRequest.class))).thenThrow(DynamoDbException.builder().message("throttled").build());
+
+        DynamoDbSdkException exception = assertThrows(DynamoDbSdkException.class,
+                () -> exporter.export("table", ExportOptions.builder().directory(tempDir).build()));
+
+        assertEquals("Failed to export table: table", exception.getMessage());
+        assertFalse(Files.exists(tempDir.resolve(ExportManifest.FILE_NAME)));
+    }
+
+    @Test
+    void export_removesEarlierManifestBeforeOverwritingItsFiles() throws Exception {
+        exporter.export("table", ExportOptions.builder().directory(tempDir).build());
+        when(dynamoDbClient.scan(any(ScanRequest.class))).thenThrow(DynamoDbException.builder().message("throttled").build());
+
+        assertThrows(DynamoDbSdkException.class, () -> exporter.export("table", ExportOptions.builder().directory(tempDir).build()));
+
+        assertFalse(Files.exists(tempDir.resolve(ExportManifest.FILE_NAME)));
+    }
+
+    private void assertRoundTrip(ExportFormat format, ExportCompression compression) throws DynamoDbSdkException, IOException {
+        ExportManifest manifest = exporter.export("table", ExportOptions.builder()
+                .directory(tempDir)
+                .format(format)
+                .compression(compression)
+                .totalSegments(SEGMENTS)
+                .maxConcurrency(2)
+                .build());
+
+        assertEquals(TOTAL_ITEMS, manifest.itemCount());
+        Set<Map<String, AttributeValue>> expected = IntStream.range(0, SEGMENTS)
+                .flatMap(s -> IntStream.range(0, PAGES_PER_SEGMENT * ITEMS_PER_PAGE).map(i -> s * 100 + i))
+                .mapToObj(TableExporterTest::item)
+                .collect(Collectors.toSet());
+        try (Stream<Map<String, AttributeValue>> items = ExportReader.items(tempDir)) {
+            assertEquals(expected, items.collect(Collectors.toSet()));
+        }
+    }
+
+    private static Map<String, AttributeValue> item(int id) {
+        return Map.of(
+                "id", AttributeValue.fromN(Integer.toString(id)),
+                "name", AttributeValue.fromS("item" + id),
+                "tags", AttributeValue.fromSs(List.of("a", "b")),
+                "data", AttributeValue.fromB(SdkBytes.fromByteArray(new byte[]{(byte) id})));
+    }
+}
@@ -0,0 +1,145 @@
+package com.deloitte.sdk.dynamodb.mapping;
+
+import com.deloitte.sdk.dynamodb.exceptions.DynamoDbSdkUncheckedException;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ItemCodecTest {
+
+    enum Status { ACTIVE, CLOSED }
+
+    record Address(String city, int zip) {
+    }
+
+    record Order(String id, long total, boolean paid, BigDecimal rate, Status status, Instant createdAt, Address address,
+                 List<Address> history, Set<String> tags, Set<Integer> scores, Map<String, Integer> counters, byte[] payload) {
+    }
+
+    record Node(String name, List<Node> children) {
+    }
+
+    public static class Customer {
+        private String name;
+        private int visits;
+        private boolean vip;
+        private Address address;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getVisits() {
+            return visits;
+        }
+
+        public void setVisits(int visits) {
+            this.visits = visits;
+        }
+
+        public boolean isVip() {
+            return vip;
+        }
+
+        public void setVip(boolean vip) {
+            this.vip = vip;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+
+        public void setAddress(Address address) {
+            this.address = address;
+        }
+    }
+
+    @Test
+    void record_roundTripsScalarsNestedObjectsAndCollections() {
+        Order order = new Order("o-1", 1250L, true, new BigDecimal("0.125"), Status.ACTIVE, Instant.parse("2024-05-01T10:15:30Z"),
+                new Address("Austin", 73301), List.of(new Address("Dallas", 75001)), Set.of("a", "b"), Set.of(1, 2),
+                Map.of("views", 3), new byte[]{1, 2, 3});
+        ItemCodec<Order> codec = ItemCodec.of(Order.class);
+
+        Map<String, AttributeValue> item = codec.encode(order);
+        Order decoded = codec.decode(item);
+
+        assertEquals("1250", item.get("total").n());
+        assertEquals("ACTIVE", item.get("status").s());
+        assertEquals(AttributeValue.fromN("73301"), item.get("address").m().get("zip"));
+        assertEquals(Set.copyOf(item.get("tags").ss()), Set.of("a", "b"));
+        assertEquals(order.id(), decoded.id());
+        assertEquals(order.rate(), decoded.rate());
+        assertEquals(order.createdAt(), decoded.createdAt());
+        assertEquals(order.address(), decoded.address());
+        assertEquals(order.history(), decoded.history());
+        assertEquals(order.tags(), decoded.tags());
+        assertEquals(order.scores(), decoded.scores());
+        assertEquals(order.counters(), decoded.counters());
+        assertArrayEquals(order.payload(), decoded.payload());
+    }
+
+    @Test
+    void record_leavesOutNullsAndEmptySetsAndDefaultsMissingPrimitives() {
+        Order order = new Order("o-2", 0, false, null, null, null, null, List.of(), Set.of(), null, null, null);
+
+        Map<String, AttributeValue> item = ItemCodec.of(Order.class).encode(order);
+        Order decoded = ItemCodec.of(Order.class).decode(Map.of("id", AttributeValue.fromS("o-2")));
+
+        assertEquals(Set.of("id", "total", "paid", "history"), item.keySet());
+        assertEquals(0, decoded.total());
+        assertFalse(decoded.paid());
+        assertNull(decoded.address());
+    }
+
+    @Test
+    void record_supportsSelfReferencingTypes() {
+        Node tree = new Node("root", List.of(new Node("leaf", List.of())));
+
+        assertEquals(tree, ItemCodec.of(Node.class).decode(ItemCodec.of(Node.class).encode(tree)));
+    }
+
+    @Test
+    void bean_roundTripsThroughGettersAndSetters() {
+        Customer customer = new Customer();
+        customer.setName("Ada");
+        customer.setVisits(7);
+        customer.setVip(true);
+        customer.setAddress(new Address("Boston", 2101));
+
+        Customer decoded = ItemCodec.of(Customer.class).decode(ItemCodec.of(Customer.class).encode(customer));
+
+        assertEquals("Ada", decoded.getName());
+        assertEquals(7, decoded.getVisits());
+        assertEquals(true, decoded.isVip());
+        assertEquals(customer.getAddress(), decoded.getAddress());
+    }
+
+    @Test
+    void of_compilesEachClassOnce() {
+        assertSame(ItemCodec.of(Address.class), ItemCodec.of(Address.class));
+    }
+
+    @Test
+    void decode_returnsNullForEmptyItemAndFailsOnBadValues() {
+        assertNull(ItemCodec.of(Address.class).decode(Map.of()));
+        assertThrows(DynamoDbSdkUncheckedException.class, () ->
+                ItemCodec.of(Address.class).decode(Map.of("zip", AttributeValue.fromN("not a number"))));
+    }
+}
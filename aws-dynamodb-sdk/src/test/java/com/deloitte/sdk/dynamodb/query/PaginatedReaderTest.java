@@ -0,0 +1,143 @@
+package com.deloitte.sdk.dynamodb.query;
+
+import com.deloitte.sdk.dynamodb.exceptions.DynamoDbSdkUncheckedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PaginatedReaderTest {
+
+    private DynamoDbClient dynamoDbClient;
+    private PaginatedReader reader;
+
+    @BeforeEach
+    void setUp() {
+        dynamoDbClient = mock(DynamoDbClient.class);
+        reader = new PaginatedReader(dynamoDbClient);
+        // Three pages of ids 0-1, 2-3 and 4, keyed by the id of the last item on the page.
+        when(dynamoDbClient.scan(any(ScanRequest.class))).thenAnswer(invocation -> {
+            ScanRequest request = invocation.getArgument(0);
+            int from = request.hasExclusiveStartKey() ? Integer.parseInt(request.exclusiveStartKey().get("id").n()) + 1 : 0;
+            int to = Math.min(from + 2, 5);
+            List<Map<String, AttributeValue>> items = new ArrayList<>();
+            for (int id = from; id < to; id++) {
+                items.add(item(id));
+            }
+            ScanResponse.Builder response = ScanResponse.builder().items(items);
+            if (to < 5) {
+                response.lastEvaluatedKey(item(to - 1));
+            }
+            return response.build();
+        });
+    }
+
+    @Test
+    void scan_followsLastEvaluatedKeyLazily() {
+        ItemIterator items = reader.scan("table", ReadOptions.defaults());
+
+        assertEquals(item(0), items.next());
+        verify(dynamoDbClient, times(1)).scan(any(ScanRequest.class));
+        assertEquals(List.of(1, 2, 3, 4), items.stream().map(PaginatedReaderTest::id).toList());
+        verify(dynamoDbClient, times(3)).scan(any(ScanRequest.class));
+        assertNull(items.cursor());
+    }
+
+    @Test
+    void scan_resumesFromCursor() {
+        ItemIterator first = reader.scan("table", ReadOptions.builder().limit(2).build());
+        first.next();
+        first.next();
+        String cursor = first.cursor();
+
+        ItemIterator resumed = reader.scan("table", ReadOptions.builder().limit(2).cursor(cursor).build());
+
+        assertEquals(List.of(2, 3, 4), resumed.stream().map(PaginatedReaderTest::id).toList());
+    }
+
+    @Test
+    void scan_cursorMidPageReplaysThatPage() {
+        ItemIterator first = reader.scan("table", ReadOptions.defaults());
+        first.next();
+        first.next();
+        first.next();
+
+        ItemIterator resumed = reader.scan("table", ReadOptions.builder().cursor(first.cursor()).build());
+
+        assertEquals(List.of(2, 3, 4), resumed.stream().map(PaginatedReaderTest::id).toList());
+    }
+
+    @Test
+    void scan_withPrefetchReturnsAllItems() {
+        try (ItemIterator items = reader.scan("table", ReadOptions.builder().prefetch(true).build())) {
+            assertEquals(List.of(0, 1, 2, 3, 4), items.stream().map(PaginatedReaderTest::id).toList());
+        }
+    }
+
+    @Test
+    void query_passesLimitAndProjection() {
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenReturn(QueryResponse.builder().items(item(7)).build());
+
+        List<Map<String, AttributeValue>> items = reader.query("table", "pk = :pk", ReadOptions.builder()
+                .limit(50)
+                .projectionExpression("id")
+                .expressionAttributeValues(Map.of(":pk", AttributeValue.fromS("a")))
+                .build()).stream().toList();
+
+        assertEquals(List.of(item(7)), items);
+        ArgumentCaptor<QueryRequest> captor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDbClient).query(captor.capture());
+        assertEquals(50, captor.getValue().limit());
+        assertEquals("id", captor.getValue().projectionExpression());
+        assertFalse(captor.getValue().hasExclusiveStartKey());
+    }
+
+    @Test
+    void query_failureIsRaisedWhileIterating() {
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenThrow(DynamoDbException.builder().message("boom").build());
+
+        ItemIterator items = reader.query("table", "pk = :pk", ReadOptions.defaults());
+
+        assertThrows(DynamoDbSdkUncheckedException.class, items::hasNext);
+    }
+
+    @Test
+    void cursors_roundTripStringNumberAndBinaryKeys() {
+        Map<String, AttributeValue> key = Map.of(
+                "pk", AttributeValue.fromS("user#1"),
+                "sk", AttributeValue.fromN("42"),
+                "b", AttributeValue.fromB(SdkBytes.fromByteArray(new byte[]{1, 2, 3})));
+
+        assertEquals(key, Cursors.decode(Cursors.encode(key)));
+        assertThrows(IllegalArgumentException.class, () -> Cursors.decode("not a cursor"));
+    }
+
+    private static Map<String, AttributeValue> item(int id) {
+        return Map.of("id", AttributeValue.fromN(Integer.toString(id)));
+    }
+
+    private static int id(Map<String, AttributeValue> item) {
+        return Integer.parseInt(item.get("id").n());
+    }
+}
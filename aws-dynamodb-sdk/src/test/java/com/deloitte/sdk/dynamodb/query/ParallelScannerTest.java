@@ -0,0 +1,133 @@
+package com.deloitte.sdk.dynamodb.query;
+
+import com.deloitte.sdk.dynamodb.exceptions.DynamoDbSdkException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ParallelScannerTest {
+
+    private static final int SEGMENTS = 4;
+    private static final int PAGES_PER_SEGMENT = 3;
+    private static final int ITEMS_PER_PAGE = 5;
+
+    @TempDir
+    Path tempDir;
+
+    private DynamoDbClient dynamoDbClient;
+    private ParallelScanner scanner;
+    private AtomicBoolean failSegmentTwoPageTwo;
+
+    @BeforeEach
+    void setUp() {
+        dynamoDbClient = mock(DynamoDbClient.class);
+        scanner = new ParallelScanner(dynamoDbClient);
+        failSegmentTwoPageTwo = new AtomicBoolean();
+        // Segment s, page p holds ids s*100 + p*10 + i; the last evaluated key is the page number.
+        when(dynamoDbClient.scan(any(ScanRequest.class))).thenAnswer(invocation -> {
+            ScanRequest request = invocation.getArgument(0);
+            int segment = request.segment();
+            int page = request.hasExclusiveStartKey() ? Integer.parseInt(request.exclusiveStartKey().get("page").n()) + 1 : 0;
+            if (segment == 2 && page == 2 && failSegmentTwoPageTwo.get()) {
+                throw DynamoDbException.builder().message("throttled").build();
+            }
+            ScanResponse.Builder response = ScanResponse.builder().items(IntStream.range(0, ITEMS_PER_PAGE)
+                    .mapToObj(i -> Map.of("id", AttributeValue.fromN(Integer.toString(segment * 100 + page * 10 + i))))
+                    .toList());
+            if (page < PAGES_PER_SEGMENT - 1) {
+                response.lastEvaluatedKey(Map.of("page", AttributeValue.fromN(Integer.toString(page))));
+            }
+            return response.build();
+        });
+    }
+
+    @Test
+    void scan_deliversEverySegment() throws DynamoDbSdkException {
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ScanCheckpoint checkpoint = new ScanCheckpoint(SEGMENTS);
+
+        long count = scanner.scan("table", ParallelScanOptions.builder()
+                .totalSegments(SEGMENTS)
+                .maxConcurrency(2)
+                .checkpoint(checkpoint)
+                .build(), item -> ids.add(item.get("id").n()));
+
+        assertEquals(SEGMENTS * PAGES_PER_SEGMENT * ITEMS_PER_PAGE, count);
+        assertEquals(count, ids.size());
+        assertTrue(checkpoint.isComplete());
+    }
+
+    @Test
+    void scan_resumesFailedScanFromCheckpointFile() throws Exception {
+        Path checkpointFile = tempDir.resolve("scan.checkpoint");
+        ParallelScanOptions options = ParallelScanOptions.builder()
+                .totalSegments(SEGMENTS)
+                .maxConcurrency(1)
+                .checkpointFile(checkpointFile)
+                .build();
+        Set<String> firstRun = ConcurrentHashMap.newKeySet();
+        failSegmentTwoPageTwo.set(true);
+
+        assertThrows(DynamoDbSdkException.class, () -> scanner.scan("table", options, item -> firstRun.add(item.get("id").n())));
+
+        ScanCheckpoint saved = ScanCheckpoint.load(checkpointFile);
+        assertTrue(saved.isSegmentComplete(0));
+        assertTrue(saved.isSegmentComplete(1));
+        assertFalse(saved.isSegmentComplete(2));
+        assertFalse(saved.isComplete());
+
+        failSegmentTwoPageTwo.set(false);
+        Set<String> secondRun = ConcurrentHashMap.newKeySet();
+        scanner.scan("table", options, item -> secondRun.add(item.get("id").n()));
+
+        assertEquals(Set.of("220", "221", "222", "223", "224"),
+                secondRun.stream().filter(id -> id.startsWith("2")).collect(Collectors.toSet()));
+        assertEquals(List.of(), secondRun.stream().filter(firstRun::contains).toList());
+        assertEquals(SEGMENTS * PAGES_PER_SEGMENT * ITEMS_PER_PAGE, firstRun.size() + secondRun.size());
+        assertTrue(ScanCheckpoint.load(checkpointFile).isComplete());
+    }
+
+    @Test
+    void scan_rejectsCheckpointFileSavedByAnotherScan() throws Exception {
+        Path checkpointFile = tempDir.resolve("scan.checkpoint");
+        failSegmentTwoPageTwo.set(true);
+        assertThrows(DynamoDbSdkException.class, () -> scanner.scan("table", ParallelScanOptions.builder()
+                .totalSegments(SEGMENTS)
+                .maxConcurrency(1)
+                .checkpointFile(checkpointFile)
+                .build(), item -> { }));
+        assertEquals("table", ScanCheckpoint.load(checkpointFile).tableName());
+        failSegmentTwoPageTwo.set(false);
+
+        DynamoDbSdkException otherTable = assertThrows(DynamoDbSdkException.class, () -> scanner.scan("other",
+                ParallelScanOptions.builder().checkpointFile(checkpointFile).build(), item -> { }));
+        DynamoDbSdkException otherIndex = assertThrows(DynamoDbSdkException.class, () -> scanner.scan("table",
+                ParallelScanOptions.builder().indexName("byName").checkpointFile(checkpointFile).build(), item -> { }));
+
+        assertEquals("Scan checkpoint does not match table: other", otherTable.getMessage());
+        assertEquals("Scan checkpoint does not match table: table", otherIndex.getMessage());
+        assertFalse(ScanCheckpoint.load(checkpointFile).isComplete());
+    }
+}
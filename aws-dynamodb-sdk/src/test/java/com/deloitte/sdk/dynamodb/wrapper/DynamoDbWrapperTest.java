@@ -1,5 +1,8 @@
 package com.deloitte.sdk.dynamodb.wrapper;
 
+import com.deloitte.sdk.dynamodb.batch.BatchConfig;
+import com.deloitte.sdk.dynamodb.batch.Retries;
+import com.deloitte.sdk.dynamodb.cache.CacheConfig;
 import com.deloitte.sdk.dynamodb.exceptions.DynamoDbSdkException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +15,7 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValueUpdate;
 import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
@@ -41,6 +45,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -171,6 +176,17 @@ public class DynamoDbWrapperTest {
         assertEquals(response.items(), dynamoDbWrapper.query("testTable", "key = :value", Collections.emptyMap(), Collections.emptyMap()));
     }
 
+    @Test
+    void query_followsAllPages() throws DynamoDbSdkException {
+        Map<String, AttributeValue> first = Collections.singletonMap("key", AttributeValue.builder().s("first").build());
+        Map<String, AttributeValue> second = Collections.singletonMap("key", AttributeValue.builder().s("second").build());
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder().items(first).lastEvaluatedKey(first).build())
+                .thenReturn(QueryResponse.builder().items(second).build());
+
+        assertEquals(List.of(first, second), dynamoDbWrapper.query("testTable", "key = :value", Collections.emptyMap(), Collections.emptyMap()));
+    }
+
     @Test
     void scan_returnsItems() throws DynamoDbSdkException {
         ScanResponse response = ScanResponse.builder()
@@ -187,8 +203,11 @@ public class DynamoDbWrapperTest {
         requestItems.put("testTable", Collections.singletonList(WriteRequest.builder().build()));
         BatchWriteItemRequest request = BatchWriteItemRequest.builder()
                 .requestItems(requestItems)
+                .overrideConfiguration(override -> override.addPlugin(Retries.NO_SDK_RETRIES))
                 .build();
 
+        when(dynamoDbClient.batchWriteItem(request)).thenReturn(BatchWriteItemResponse.builder().build());
+
         dynamoDbWrapper.batchWriteItems(requestItems);
 
         verify(dynamoDbClient).batchWriteItem(request);
@@ -206,6 +225,41 @@ public class DynamoDbWrapperTest {
         assertEquals(response.responses(), dynamoDbWrapper.batchGetItems(requestItems));
     }
 
+    @Test
+    void getItem_withCacheServesRepeatsAndInvalidatesOnWrite() throws DynamoDbSdkException {
+        DynamoDbWrapper cached = new DynamoDbWrapper(dynamoDbClient, BatchConfig.defaults(), CacheConfig.defaults());
+        Map<String, AttributeValue> key = Collections.singletonMap("id", AttributeValue.builder().s("1").build());
+        Map<String, AttributeValue> item = new HashMap<>(key);
+        item.put("name", AttributeValue.builder().s("first").build());
+        when(dynamoDbClient.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().item(item).build());
+
+        assertEquals(item, cached.getItem("testTable", key));
+        assertEquals(item, cached.getItem("testTable", key));
+        verify(dynamoDbClient, times(1)).getItem(any(GetItemRequest.class));
+
+        cached.putItem("testTable", item);
+        cached.getItem("testTable", key);
+        verify(dynamoDbClient, times(2)).getItem(any(GetItemRequest.class));
+
+        Map<String, List<Map<String, AttributeValue>>> batch = cached.batchGetItems(
+                Collections.singletonMap("testTable", KeysAndAttributes.builder().keys(key).build()));
+        assertEquals(List.of(item), batch.get("testTable"));
+        verify(dynamoDbClient, times(0)).batchGetItem(any(BatchGetItemRequest.class));
+    }
+
+    record Person(String id, int age) {
+    }
+
+    @Test
+    void getItem_decodesIntoRecord() throws DynamoDbSdkException {
+        Map<String, AttributeValue> key = Collections.singletonMap("id", AttributeValue.builder().s("1").build());
+        Map<String, AttributeValue> item = new HashMap<>(key);
+        item.put("age", AttributeValue.builder().n("42").build());
+        when(dynamoDbClient.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().item(item).build());
+
+        assertEquals(new Person("1", 42), dynamoDbWrapper.getItem("testTable", key, Person.class));
+    }
+
     @Test
     void createTable_throwsException() {
         CreateTableRequest request = CreateTableRequest.builder()
@@ -353,6 +407,7 @@ public class DynamoDbWrapperTest {
         requestItems.put("testTable", Collections.singletonList(WriteRequest.builder().build()));
         BatchWriteItemRequest request = BatchWriteItemRequest.builder()
                 .requestItems(requestItems)
+                .overrideConfiguration(override -> override.addPlugin(Retries.NO_SDK_RETRIES))
                 .build();
         doThrow(DynamoDbException.class).when(dynamoDbClient).batchWriteItem(request);
 
@@ -367,6 +422,7 @@ public class DynamoDbWrapperTest {
         requestItems.put("testTable", KeysAndAttributes.builder().build());
         BatchGetItemRequest request = BatchGetItemRequest.builder()
                 .requestItems(requestItems)
+                .overrideConfiguration(override -> override.addPlugin(Retries.NO_SDK_RETRIES))
                 .build();
         doThrow(DynamoDbException.class).when(dynamoDbClient).batchGetItem(request);
 
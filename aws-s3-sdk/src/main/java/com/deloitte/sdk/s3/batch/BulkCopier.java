@@ -0,0 +1,106 @@
+package com.deloitte.sdk.s3.batch;
+
+import com.deloitte.sdk.s3.exceptions.S3SdkException;
+import com.deloitte.sdk.s3.exceptions.S3SdkUncheckedException;
+import com.deloitte.sdk.s3.listing.ListingOptions;
+import com.deloitte.sdk.s3.listing.S3ObjectLister;
+import com.deloitte.sdk.s3.listing.S3ObjectSummary;
+import com.deloitte.sdk.s3.transfer.MultipartCopier;
+import com.deloitte.sdk.s3.transfer.S3TransferConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Copies every object under a prefix to another prefix, running up to the configured concurrency of
+ * object copies at once. Keys are pulled from the listing as copies are submitted, and a failed object
+ * is reported in the {@link CopyReport} without stopping the rest. Sizes come from the listing, so objects
+ * below the multipart copy threshold are copied without a HeadObject.
+ * <p>
+ * When the destination prefix lies inside the source prefix of the same bucket, keys already under the
+ * destination are skipped, so copies written during the listing are not copied again.
+ */
+public class BulkCopier {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkCopier.class);
+
+    private final S3ObjectLister objectLister;
+    private final MultipartCopier copier;
+    private final S3TransferConfig config;
+
+    public BulkCopier(S3ObjectLister objectLister, MultipartCopier copier, S3TransferConfig config) {
+        this.objectLister = objectLister;
+        this.copier = copier;
+        this.config = config;
+    }
+
+    public CopyReport copyPrefix(String sourceBucketName, String sourcePrefix,
+                                 String destinationBucketName, String destinationPrefix) throws S3SdkException {
+        String fromPrefix = sourcePrefix != null ? sourcePrefix : "";
+        String toPrefix = destinationPrefix != null ? destinationPrefix : "";
+        boolean sameBucket = sourceBucketName.equals(destinationBucketName);
+        if (sameBucket && fromPrefix.equals(toPrefix)) {
+            throw new S3SdkException("Source and destination are the same prefix: " + sourceBucketName + "/" + fromPrefix);
+        }
+        boolean nested = sameBucket && toPrefix.startsWith(fromPrefix);
+        LongAdder copied = new LongAdder();
+        LongAdder copiedBytes = new LongAdder();
+        List<KeyError> errors = Collections.synchronizedList(new ArrayList<>());
+        Semaphore inFlight = new Semaphore(Math.max(1, config.getMaxConcurrency()));
+
+        ListingOptions options = ListingOptions.builder().prefix(fromPrefix).prefetch(true).build();
+        try (Stream<S3ObjectSummary> objects = objectLister.stream(sourceBucketName, options);
+             ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            Iterator<S3ObjectSummary> iterator = objects.iterator();
+            while (iterator.hasNext()) {
+                S3ObjectSummary object = iterator.next();
+                String sourceKey = object.key();
+                if (nested && sourceKey.startsWith(toPrefix)) {
+                    continue;
+                }
+                String destinationKey = toPrefix + sourceKey.substring(fromPrefix.length());
+                inFlight.acquire();
+                workers.execute(() -> {
+                    try {
+                        copiedBytes.add(copier.copy(sourceBucketName, sourceKey, destinationBucketName, destinationKey, object.size()));
+                        copied.increment();
+                    } catch (S3SdkException e) {
+                        errors.add(new KeyError(sourceKey, errorCode(e), e.getMessage()));
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new S3SdkException("Interrupted while copying objects from bucket: " + sourceBucketName, e);
+        } catch (S3SdkUncheckedException e) {
+            throw new S3SdkException("Failed to list objects in bucket: " + sourceBucketName, e.getCause());
+        }
+
+        logger.debug("Copied {} objects ({} bytes) from {}/{} to {}/{} with {} errors", copied.sum(), copiedBytes.sum(),
+                sourceBucketName, fromPrefix, destinationBucketName, toPrefix, errors.size());
+        return new CopyReport(copied.sum(), copiedBytes.sum(), List.copyOf(errors));
+    }
+
+    private static String errorCode(S3SdkException e) {
+        Throwable cause = e.getCause();
+        while (cause instanceof S3SdkException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof AwsServiceException serviceException && serviceException.awsErrorDetails() != null) {
+            return serviceException.awsErrorDetails().errorCode();
+        }
+        return cause != null ? cause.getClass().getSimpleName() : e.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,114 @@
+package com.deloitte.sdk.s3.batch;
+
+import com.deloitte.sdk.s3.exceptions.S3SdkException;
+import com.deloitte.sdk.s3.exceptions.S3SdkUncheckedException;
+import com.deloitte.sdk.s3.listing.ListingOptions;
+import com.deloitte.sdk.s3.listing.S3ObjectLister;
+import com.deloitte.sdk.s3.listing.S3ObjectSummary;
+import com.deloitte.sdk.s3.transfer.Retries;
+import com.deloitte.sdk.s3.transfer.S3TransferConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Deletes keys in 1000-key DeleteObjects requests, running up to the configured concurrency at once.
+ * Keys are pulled from the source as chunks are submitted, so only the chunks in flight are held in memory.
+ */
+public class BulkDeleter {
+
+    public static final int MAX_KEYS_PER_REQUEST = 1000;
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkDeleter.class);
+
+    private final S3Client s3Client;
+    private final S3ObjectLister objectLister;
+    private final S3TransferConfig config;
+
+    public BulkDeleter(S3Client s3Client, S3ObjectLister objectLister, S3TransferConfig config) {
+        this.s3Client = s3Client;
+        this.objectLister = objectLister;
+        this.config = config;
+    }
+
+    public DeleteReport deleteByPrefix(String bucketName, String prefix) throws S3SdkException {
+        ListingOptions options = ListingOptions.builder().prefix(prefix).prefetch(true).build();
+        try (Stream<S3ObjectSummary> objects = objectLister.stream(bucketName, options)) {
+            return deleteObjects(bucketName, objects.map(S3ObjectSummary::key).iterator());
+        }
+    }
+
+    public DeleteReport deleteObjects(String bucketName, Iterator<String> keys) throws S3SdkException {
+        LongAdder deleted = new LongAdder();
+        List<KeyError> errors = Collections.synchronizedList(new ArrayList<>());
+        Semaphore inFlight = new Semaphore(Math.max(1, config.getMaxConcurrency()));
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<ObjectIdentifier> chunk = new ArrayList<>(MAX_KEYS_PER_REQUEST);
+            while (keys.hasNext()) {
+                chunk.add(ObjectIdentifier.builder().key(keys.next()).build());
+                if (chunk.size() == MAX_KEYS_PER_REQUEST) {
+                    submit(workers, inFlight, bucketName, chunk, deleted, errors);
+                    chunk = new ArrayList<>(MAX_KEYS_PER_REQUEST);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                submit(workers, inFlight, bucketName, chunk, deleted, errors);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new S3SdkException("Interrupted while deleting objects from bucket: " + bucketName, e);
+        } catch (S3SdkUncheckedException e) {
+            throw new S3SdkException("Failed to delete objects from bucket: " + bucketName, e.getCause());
+        }
+
+        logger.debug("Deleted {} objects from {} with {} errors", deleted.sum(), bucketName, errors.size());
+        return new DeleteReport(deleted.sum(), List.copyOf(errors));
+    }
+
+    private void submit(ExecutorService workers, Semaphore inFlight, String bucketName, List<ObjectIdentifier> chunk,
+                        LongAdder deleted, List<KeyError> errors) throws InterruptedException {
+        inFlight.acquire();
+        workers.execute(() -> {
+            try {
+                deleteChunk(bucketName, chunk, deleted, errors);
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    private void deleteChunk(String bucketName, List<ObjectIdentifier> chunk, LongAdder deleted, List<KeyError> errors) {
+        DeleteObjectsRequest request = DeleteObjectsRequest.builder()
+                .bucket(bucketName)
+                .delete(Delete.builder().objects(chunk).quiet(true).build())
+                .overrideConfiguration(override -> override.addPlugin(Retries.NO_SDK_RETRIES))
+                .build();
+        try {
+            DeleteObjectsResponse response = Retries.withRetries(config.getMaxRetries(), config.getRetryBaseDelayMillis(),
+                    () -> s3Client.deleteObjects(request));
+            response.errors().forEach(error -> errors.add(new KeyError(error.key(), error.code(), error.message())));
+            deleted.add(chunk.size() - response.errors().size());
+        } catch (Exception e) {
+            String code = e instanceof AwsServiceException serviceException && serviceException.awsErrorDetails() != null
+                    ? serviceException.awsErrorDetails().errorCode()
+                    : e.getClass().getSimpleName();
+            chunk.forEach(object -> errors.add(new KeyError(object.key(), code, e.getMessage())));
+        }
+    }
+}
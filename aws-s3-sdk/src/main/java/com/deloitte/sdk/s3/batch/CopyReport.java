@@ -0,0 +1,13 @@
+package com.deloitte.sdk.s3.batch;
+
+import java.util.List;
+
+/**
+ * The outcome of a bulk copy: how many objects and bytes were copied and which source keys failed and why.
+ */
+public record CopyReport(long copiedCount, long copiedBytes, List<KeyError> errors) {
+
+    public boolean isSuccessful() {
+        return errors.isEmpty();
+    }
+}
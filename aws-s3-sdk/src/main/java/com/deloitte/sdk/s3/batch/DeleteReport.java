@@ -0,0 +1,13 @@
+package com.deloitte.sdk.s3.batch;
+
+import java.util.List;
+
+/**
+ * The outcome of a bulk delete: how many keys were deleted and which keys failed and why.
+ */
+public record DeleteReport(long deletedCount, List<KeyError> errors) {
+
+    public boolean isSuccessful() {
+        return errors.isEmpty();
+    }
+}
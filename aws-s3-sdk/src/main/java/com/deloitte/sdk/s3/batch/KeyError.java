@@ -0,0 +1,7 @@
+package com.deloitte.sdk.s3.batch;
+
+/**
+ * A key that a bulk operation could not process, with the S3 error code (or exception type) and message.
+ */
+public record KeyError(String key, String code, String message) {
+}
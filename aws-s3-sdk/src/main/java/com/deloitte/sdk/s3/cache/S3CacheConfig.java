@@ -0,0 +1,24 @@
+package com.deloitte.sdk.s3.cache;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings for the local object cache.
+ */
+@Builder
+@Getter
+public class S3CacheConfig {
+
+    /** Directory the cached objects are stored in; created if missing and owned by the cache. */
+    private final Path directory;
+    /** Total size of cached objects in bytes before least recently used entries are evicted. */
+    @Builder.Default
+    private final long maxBytes = 512L * 1024 * 1024;
+    /** How long a cached object is served without asking S3 whether it changed; zero revalidates every read. */
+    @Builder.Default
+    private final Duration revalidateAfter = Duration.ZERO;
+}
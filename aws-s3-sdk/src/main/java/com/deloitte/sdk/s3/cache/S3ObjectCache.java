@@ -0,0 +1,293 @@
+package com.deloitte.sdk.s3.cache;
+
+import com.deloitte.sdk.s3.exceptions.S3SdkException;
+import com.deloitte.sdk.s3.transfer.ByteBufferInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-through cache of S3 objects in a local directory.
+ * Hits are served from memory-mapped files after a conditional GET (If-None-Match) confirms the
+ * cached ETag is still current, so an unchanged object costs a 304 instead of a transfer.
+ * Concurrent reads of the same key share one request, and the least recently used objects are
+ * evicted once the cached bytes exceed the configured budget. Every stored version gets its own file, so a
+ * refresh never rewrites a file another reader is about to map; a file evicted in that window is refetched.
+ * The index lives in memory; files left in the directory by a previous process are removed on start.
+ */
+public class S3ObjectCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(S3ObjectCache.class);
+    private static final String SUFFIX = ".s3cache";
+    private static final int NOT_MODIFIED = 304;
+    private static final int NOT_FOUND = 404;
+
+    private final S3Client s3Client;
+    private final S3CacheConfig config;
+    private final Clock clock;
+    private final Map<CacheKey, Entry> index = new LinkedHashMap<>(16, 0.75f, true);
+    private final ConcurrentMap<CacheKey, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong versions = new AtomicLong();
+    private long cachedBytes;
+
+    public S3ObjectCache(S3Client s3Client, S3CacheConfig config) throws S3SdkException {
+        this(s3Client, config, Clock.systemUTC());
+    }
+
+    S3ObjectCache(S3Client s3Client, S3CacheConfig config, Clock clock) throws S3SdkException {
+        this.s3Client = s3Client;
+        this.config = config;
+        this.clock = clock;
+        try {
+            Files.createDirectories(config.getDirectory());
+            try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(config.getDirectory(), "*" + SUFFIX + "*")) {
+                for (Path leftover : leftovers) {
+                    Files.deleteIfExists(leftover);
+                }
+            }
+        } catch (IOException e) {
+            throw new S3SdkException("Failed to prepare cache directory: " + config.getDirectory(), e);
+        }
+    }
+
+    /**
+     * Returns the object's bytes as a read-only memory-mapped buffer, fetching or revalidating as needed.
+     */
+    public ByteBuffer get(String bucketName, String key) throws S3SdkException {
+        CacheKey cacheKey = new CacheKey(bucketName, key);
+        Entry cached = lookup(cacheKey);
+        Entry entry = cached != null && isFresh(cached) ? cached : fetchCoalesced(cacheKey);
+        ByteBuffer mapped = map(entry);
+        if (mapped == null) {
+            // Evicted or invalidated between the lookup and the mapping; drop the stale entry and fetch again.
+            remove(cacheKey, entry);
+            entry = fetchCoalesced(cacheKey);
+            mapped = map(entry);
+            if (mapped == null) {
+                throw new S3SdkException("Cached object was removed while reading: " + entry.file());
+            }
+        }
+        return mapped;
+    }
+
+    public InputStream openStream(String bucketName, String key) throws S3SdkException {
+        return new ByteBufferInputStream(get(bucketName, key));
+    }
+
+    public void invalidate(String bucketName, String key) {
+        Entry removed;
+        synchronized (this) {
+            removed = index.remove(new CacheKey(bucketName, key));
+            if (removed != null) {
+                cachedBytes -= removed.size();
+            }
+        }
+        if (removed != null) {
+            deleteQuietly(removed.file());
+        }
+    }
+
+    public synchronized long cachedBytes() {
+        return cachedBytes;
+    }
+
+    public synchronized int size() {
+        return index.size();
+    }
+
+    private void remove(CacheKey cacheKey, Entry expected) {
+        synchronized (this) {
+            if (!index.remove(cacheKey, expected)) {
+                return;
+            }
+            cachedBytes -= expected.size();
+        }
+        deleteQuietly(expected.file());
+    }
+
+    private synchronized Entry lookup(CacheKey cacheKey) {
+        return index.get(cacheKey);
+    }
+
+    private boolean isFresh(Entry entry) {
+        return !config.getRevalidateAfter().isZero()
+                && entry.validatedAt().plus(config.getRevalidateAfter()).isAfter(clock.instant());
+    }
+
+    private Entry fetchCoalesced(CacheKey cacheKey) throws S3SdkException {
+        CompletableFuture<Entry> mine = new CompletableFuture<>();
+        CompletableFuture<Entry> existing = inFlight.putIfAbsent(cacheKey, mine);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof S3SdkException cause) {
+                    throw cause;
+                }
+                throw new S3SdkException("Failed to download object from bucket: " + cacheKey.bucketName(), e.getCause());
+            }
+        }
+        try {
+            Entry entry = fetch(cacheKey);
+            mine.complete(entry);
+            return entry;
+        } catch (S3SdkException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, mine);
+        }
+    }
+
+    private Entry fetch(CacheKey cacheKey) throws S3SdkException {
+        Entry cached = lookup(cacheKey);
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(cacheKey.bucketName())
+                .key(cacheKey.key())
+                .ifNoneMatch(cached != null ? cached.eTag() : null)
+                .build();
+        try (ResponseInputStream<GetObjectResponse> in = s3Client.getObject(request)) {
+            return store(cacheKey, in, in.response().eTag());
+        } catch (S3Exception e) {
+            if (e.statusCode() == NOT_MODIFIED && cached != null) {
+                Entry revalidated = new Entry(cached.file(), cached.eTag(), cached.size(), clock.instant());
+                replace(cacheKey, cached, revalidated);
+                return revalidated;
+            }
+            if (e.statusCode() == NOT_FOUND) {
+                invalidate(cacheKey.bucketName(), cacheKey.key());
+            }
+            throw new S3SdkException("Failed to download object from bucket: " + cacheKey.bucketName(), e);
+        } catch (SdkException e) {
+            if (cached != null) {
+                logger.warn("Serving cached {}/{} because revalidation failed", cacheKey.bucketName(), cacheKey.key(), e);
+                return cached;
+            }
+            throw new S3SdkException("Failed to download object from bucket: " + cacheKey.bucketName(), e);
+        } catch (IOException e) {
+            throw new S3SdkException("Failed to cache object: " + cacheKey.key(), e);
+        }
+    }
+
+    private Entry store(CacheKey cacheKey, InputStream in, String eTag) throws IOException {
+        Path file = config.getDirectory().resolve(fileName(cacheKey) + "-" + versions.incrementAndGet() + SUFFIX);
+        Path temp = Files.createTempFile(config.getDirectory(), fileName(cacheKey), SUFFIX + ".tmp");
+        try {
+            long size = Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+            Entry entry = new Entry(file, eTag, size, clock.instant());
+            Entry previous;
+            synchronized (this) {
+                previous = index.put(cacheKey, entry);
+                cachedBytes += size - (previous != null ? previous.size() : 0);
+            }
+            if (previous != null) {
+                deleteQuietly(previous.file());
+            }
+            evict(cacheKey);
+            return entry;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private synchronized void replace(CacheKey cacheKey, Entry expected, Entry replacement) {
+        index.computeIfPresent(cacheKey, (ignored, current) -> current == expected ? replacement : current);
+    }
+
+    /**
+     * Evicts least recently used entries until the budget is met, never evicting the entry just stored.
+     */
+    private void evict(CacheKey justStored) {
+        Map<CacheKey, Entry> evicted = new LinkedHashMap<>();
+        synchronized (this) {
+            Iterator<Map.Entry<CacheKey, Entry>> eldest = index.entrySet().iterator();
+            while (cachedBytes > config.getMaxBytes() && eldest.hasNext()) {
+                Map.Entry<CacheKey, Entry> candidate = eldest.next();
+                if (candidate.getKey().equals(justStored)) {
+                    continue;
+                }
+                eldest.remove();
+                cachedBytes -= candidate.getValue().size();
+                evicted.put(candidate.getKey(), candidate.getValue());
+            }
+        }
+        evicted.values().forEach(entry -> deleteQuietly(entry.file()));
+    }
+
+    /**
+     * Maps the entry's file, or returns null when the file is gone or no longer matches the entry.
+     * Once mapped, the buffer stays readable even if the file is deleted afterwards.
+     */
+    private ByteBuffer map(Entry entry) throws S3SdkException {
+        if (entry.size() > Integer.MAX_VALUE) {
+            throw new S3SdkException("Object too large to map from cache: " + entry.file());
+        }
+        try (FileChannel channel = FileChannel.open(entry.file(), StandardOpenOption.READ)) {
+            if (channel.size() != entry.size()) {
+                return null;
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, entry.size());
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new S3SdkException("Failed to read cached object: " + entry.file(), e);
+        }
+    }
+
+    private static String fileName(CacheKey cacheKey) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(cacheKey.bucketName().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(cacheKey.key().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Failed to delete cached file {}", file, e);
+        }
+    }
+
+    private record CacheKey(String bucketName, String key) {
+    }
+
+    private record Entry(Path file, String eTag, long size, Instant validatedAt) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.deloitte.sdk.s3.exceptions;
+
+/**
+ * Raised from lazily evaluated results, such as listing streams, where a checked
+ * {@link S3SdkException} cannot be thrown.
+ */
+public class S3SdkUncheckedException extends RuntimeException {
+
+    public S3SdkUncheckedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,25 @@
+package com.deloitte.sdk.s3.listing;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Optional parameters for listing a bucket.
+ */
+@Builder
+@Getter
+public class ListingOptions {
+
+    private final String prefix;
+    /** Listing starts after this key, in lexicographic order. */
+    private final String startAfter;
+    /** Keys per page, at most 1000; null for the S3 default. */
+    private final Integer pageSize;
+    /** Whether the next page is requested while the current one is being consumed. */
+    @Builder.Default
+    private final boolean prefetch = false;
+
+    public static ListingOptions defaults() {
+        return ListingOptions.builder().build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.deloitte.sdk.s3.listing;
+
+import com.deloitte.sdk.s3.exceptions.S3SdkUncheckedException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Walks a ListObjectsV2 listing one page at a time, following continuation tokens only as
+ * the caller consumes keys. With prefetch enabled the next page is requested on a virtual
+ * thread as soon as the current page arrives.
+ */
+class ObjectListingIterator implements Iterator<S3ObjectSummary> {
+
+    private final S3Client s3Client;
+    private final ListObjectsV2Request request;
+    private final boolean prefetch;
+
+    private Iterator<S3Object> page = Collections.emptyIterator();
+    private CompletableFuture<ListObjectsV2Response> nextPage;
+    private String continuationToken;
+    private boolean started;
+
+    ObjectListingIterator(S3Client s3Client, ListObjectsV2Request request, boolean prefetch) {
+        this.s3Client = s3Client;
+        this.request = request;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!page.hasNext()) {
+            if (!advance()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public S3ObjectSummary next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return S3ObjectSummary.from(page.next());
+    }
+
+    private boolean advance() {
+        if (started && continuationToken == null) {
+            return false;
+        }
+        ListObjectsV2Response response = nextPage != null ? await(nextPage) : fetch(continuationToken);
+        started = true;
+        nextPage = null;
+        continuationToken = Boolean.TRUE.equals(response.isTruncated()) ? response.nextContinuationToken() : null;
+        page = response.contents().iterator();
+        if (prefetch && continuationToken != null) {
+            String token = continuationToken;
+            nextPage = CompletableFuture.supplyAsync(() -> fetch(token), task -> Thread.ofVirtual().start(task));
+        }
+        return true;
+    }
+
+    private ListObjectsV2Response fetch(String token) {
+        try {
+            return s3Client.listObjectsV2(request.toBuilder().continuationToken(token).build());
+        } catch (SdkException e) {
+            throw new S3SdkUncheckedException("Failed to list objects in bucket: " + request.bucket(), e);
+        }
+    }
+
+    private static ListObjectsV2Response await(CompletableFuture<ListObjectsV2Response> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.deloitte.sdk.s3.listing;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Parameters for a sharded parallel listing.
+ * When split points are given they define the shards; otherwise shards are discovered from the
+ * common prefixes under {@code prefix} using {@code delimiter}, descending {@code discoveryDepth} levels.
+ */
+@Builder
+@Getter
+public class ParallelListingOptions {
+
+    private final String prefix;
+    @Builder.Default
+    private final String delimiter = "/";
+    @Builder.Default
+    private final int discoveryDepth = 1;
+    /** Sorted keys that end each shard, inclusive; the last shard runs to the end of the prefix. */
+    @Builder.Default
+    private final List<String> splitPoints = List.of();
+    /** Whether results are emitted in key order rather than as shards produce them. */
+    @Builder.Default
+    private final boolean ordered = false;
+    /** Number of shards listed at once. */
+    @Builder.Default
+    private final int parallelism = 8;
+
+    public static ParallelListingOptions defaults() {
+        return ParallelListingOptions.builder().build();
+    }
+}
@@ -0,0 +1,436 @@
+package com.deloitte.sdk.s3.listing;
+
+import com.deloitte.sdk.s3.exceptions.S3SdkException;
+import com.deloitte.sdk.s3.exceptions.S3SdkUncheckedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CommonPrefix;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lists a bucket as independent key-range shards on a fork-join pool.
+ * ListObjectsV2 pagination is sequential within a shard, so the shards are what run concurrently.
+ * Shards are discovered lazily, one delimiter page at a time, and only {@code parallelism} of them are
+ * started ahead of the consumer. Objects found directly under a discovered prefix are emitted a page at a
+ * time as discovery reaches them, while the prefix shards around them keep listing. Each shard hands pages
+ * to the consumer through a small bounded queue, which keeps memory bounded regardless of bucket size;
+ * closing the returned stream stops the remaining shards.
+ */
+public class ParallelObjectLister {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelObjectLister.class);
+    private static final int PAGE_SIZE = 1000;
+    private static final int PAGES_PER_SHARD = 2;
+
+    private final S3Client s3Client;
+
+    public ParallelObjectLister(S3Client s3Client) {
+        this.s3Client = s3Client;
+    }
+
+    public Stream<S3ObjectSummary> stream(String bucketName, ParallelListingOptions options) throws S3SdkException {
+        Iterator<Shard> shards;
+        if (options.getSplitPoints().isEmpty()) {
+            ShardDiscovery discovery = new ShardDiscovery(bucketName, options.getPrefix(), options.getDelimiter(),
+                    Math.max(1, options.getDiscoveryDepth()));
+            try {
+                discovery.hasNext();
+            } catch (S3SdkUncheckedException e) {
+                throw new S3SdkException(e.getMessage(), e.getCause());
+            }
+            shards = discovery;
+        } else {
+            List<Shard> split = splitShards(options.getPrefix(), options.getSplitPoints());
+            logger.debug("Listing {} in {} shards", bucketName, split.size());
+            shards = split.iterator();
+        }
+
+        ShardIterator iterator = options.isOrdered()
+                ? new OrderedShardIterator(bucketName, shards, options.getParallelism())
+                : new UnorderedShardIterator(bucketName, shards, options.getParallelism());
+        int characteristics = Spliterator.NONNULL | Spliterator.DISTINCT | (options.isOrdered() ? Spliterator.ORDERED : 0);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, characteristics), false)
+                .onClose(iterator::close);
+    }
+
+    static List<Shard> splitShards(String prefix, List<String> splitPoints) {
+        List<String> sorted = new ArrayList<>(splitPoints);
+        sorted.sort(ParallelObjectLister::compareKeys);
+        List<Shard> shards = new ArrayList<>(sorted.size() + 1);
+        String startAfter = null;
+        for (String splitPoint : sorted) {
+            shards.add(Shard.range(prefix, startAfter, splitPoint));
+            startAfter = splitPoint;
+        }
+        shards.add(Shard.range(prefix, startAfter, null));
+        return shards;
+    }
+
+    /**
+     * Compares keys by Unicode code point, which matches the UTF-8 byte order S3 lists in.
+     */
+    static int compareKeys(String left, String right) {
+        int i = 0;
+        int j = 0;
+        while (i < left.length() && j < right.length()) {
+            int a = left.codePointAt(i);
+            int b = right.codePointAt(j);
+            if (a != b) {
+                return Integer.compare(a, b);
+            }
+            i += Character.charCount(a);
+            j += Character.charCount(b);
+        }
+        return Integer.compare(left.length() - i, right.length() - j);
+    }
+
+    private static List<Object> mergeInKeyOrder(List<S3Object> objects, List<CommonPrefix> prefixes) {
+        List<Object> merged = new ArrayList<>(objects.size() + prefixes.size());
+        int i = 0;
+        int j = 0;
+        while (i < objects.size() || j < prefixes.size()) {
+            boolean takeObject = j >= prefixes.size()
+                    || (i < objects.size() && compareKeys(objects.get(i).key(), prefixes.get(j).prefix()) < 0);
+            merged.add(takeObject ? objects.get(i++) : prefixes.get(j++));
+        }
+        return merged;
+    }
+
+    /**
+     * A slice of the key space: either keys already known from discovery, or the keys under
+     * {@code prefix} after {@code startAfter} up to and including {@code endInclusive}.
+     */
+    record Shard(String prefix, String startAfter, String endInclusive, List<S3ObjectSummary> objects) {
+
+        static Shard range(String prefix, String startAfter, String endInclusive) {
+            return new Shard(prefix, startAfter, endInclusive, null);
+        }
+
+        static Shard fixed(List<S3ObjectSummary> objects) {
+            return new Shard(null, null, null, objects);
+        }
+    }
+
+    private record Chunk(List<S3ObjectSummary> objects, RuntimeException error, boolean last) {
+    }
+
+    /**
+     * Walks the delimiter listing depth-first in key order, turning each common prefix at the discovery depth
+     * into a range shard and each run of objects directly under a prefix into a fixed shard of at most one page.
+     * Only the current page of each level is held, and pages are fetched as shards are pulled.
+     */
+    private class ShardDiscovery implements Iterator<Shard> {
+
+        private final String bucketName;
+        private final String delimiter;
+        private final Deque<Level> levels = new ArrayDeque<>();
+        private Shard next;
+
+        ShardDiscovery(String bucketName, String prefix, String delimiter, int depth) {
+            this.bucketName = bucketName;
+            this.delimiter = delimiter;
+            levels.push(new Level(prefix, depth));
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && !levels.isEmpty()) {
+                Level level = levels.peek();
+                if (!level.entries.hasNext()) {
+                    if (level.started && level.continuationToken == null) {
+                        levels.pop();
+                    } else {
+                        level.fetch();
+                    }
+                    continue;
+                }
+                Object entry = level.entries.next();
+                if (entry instanceof S3Object object) {
+                    List<S3ObjectSummary> run = new ArrayList<>();
+                    run.add(S3ObjectSummary.from(object));
+                    while (level.entries.hasNext() && level.entries.peek() instanceof S3Object following) {
+                        level.entries.next();
+                        run.add(S3ObjectSummary.from(following));
+                    }
+                    next = Shard.fixed(run);
+                } else {
+                    String commonPrefix = ((CommonPrefix) entry).prefix();
+                    if (level.depth > 1) {
+                        levels.push(new Level(commonPrefix, level.depth - 1));
+                    } else {
+                        next = Shard.range(commonPrefix, null, null);
+                    }
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Shard next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Shard shard = next;
+            next = null;
+            return shard;
+        }
+
+        private final class Level {
+
+            private final ListObjectsV2Request request;
+            private final int depth;
+            private PeekingIterator entries = new PeekingIterator(List.of());
+            private String continuationToken;
+            private boolean started;
+
+            Level(String prefix, int depth) {
+                this.request = ListObjectsV2Request.builder().bucket(bucketName).prefix(prefix).delimiter(delimiter).build();
+                this.depth = depth;
+            }
+
+            void fetch() {
+                ListObjectsV2Response response;
+                try {
+                    response = s3Client.listObjectsV2(request.toBuilder().continuationToken(continuationToken).build());
+                } catch (SdkException e) {
+                    throw new S3SdkUncheckedException("Failed to list objects in bucket: " + bucketName, e);
+                }
+                started = true;
+                continuationToken = Boolean.TRUE.equals(response.isTruncated()) ? response.nextContinuationToken() : null;
+                entries = new PeekingIterator(mergeInKeyOrder(response.contents(), response.commonPrefixes()));
+            }
+        }
+    }
+
+    private static final class PeekingIterator implements Iterator<Object> {
+
+        private final List<Object> entries;
+        private int position;
+
+        PeekingIterator(List<Object> entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position < entries.size();
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return entries.get(position++);
+        }
+
+        Object peek() {
+            return entries.get(position);
+        }
+    }
+
+    private abstract class ShardIterator implements Iterator<S3ObjectSummary>, AutoCloseable {
+
+        protected final String bucketName;
+        protected final Iterator<Shard> shards;
+        protected final ForkJoinPool pool;
+        protected final int window;
+        private volatile boolean closed;
+        private Iterator<S3ObjectSummary> current = Collections.emptyIterator();
+
+        ShardIterator(String bucketName, Iterator<Shard> shards, int parallelism) {
+            this.bucketName = bucketName;
+            this.shards = shards;
+            this.window = Math.max(1, parallelism);
+            this.pool = new ForkJoinPool(window);
+        }
+
+        /**
+         * @return The next chunk of objects, or null once every shard has been drained.
+         */
+        protected abstract Chunk nextChunk() throws InterruptedException;
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                Chunk chunk;
+                try {
+                    chunk = nextChunk();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    close();
+                    throw new S3SdkUncheckedException("Interrupted while listing bucket: " + bucketName, e);
+                } catch (RuntimeException e) {
+                    close();
+                    throw e;
+                }
+                if (chunk == null) {
+                    pool.shutdown();
+                    return false;
+                }
+                if (chunk.error() != null) {
+                    close();
+                    throw chunk.error();
+                }
+                current = chunk.objects().iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public S3ObjectSummary next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            pool.shutdownNow();
+        }
+
+        protected void launch(Shard shard, BlockingQueue<Chunk> queue) {
+            pool.execute(() -> {
+                try {
+                    if (shard.objects() != null) {
+                        put(queue, new Chunk(shard.objects(), null, false));
+                    } else {
+                        listRange(shard, queue);
+                    }
+                    put(queue, new Chunk(List.of(), null, true));
+                } catch (RuntimeException e) {
+                    putQuietly(queue, new Chunk(List.of(), e, true));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        private void listRange(Shard shard, BlockingQueue<Chunk> queue) throws InterruptedException {
+            ListObjectsV2Request request = ListObjectsV2Request.builder()
+                    .bucket(bucketName)
+                    .prefix(shard.prefix())
+                    .startAfter(shard.startAfter())
+                    .build();
+            Iterator<S3ObjectSummary> objects = new ObjectListingIterator(s3Client, request, false);
+            List<S3ObjectSummary> page = new ArrayList<>(PAGE_SIZE);
+            while (!closed && objects.hasNext()) {
+                S3ObjectSummary object = objects.next();
+                if (shard.endInclusive() != null && compareKeys(object.key(), shard.endInclusive()) > 0) {
+                    break;
+                }
+                page.add(object);
+                if (page.size() == PAGE_SIZE) {
+                    put(queue, new Chunk(page, null, false));
+                    page = new ArrayList<>(PAGE_SIZE);
+                }
+            }
+            if (!page.isEmpty()) {
+                put(queue, new Chunk(page, null, false));
+            }
+        }
+
+        private void put(BlockingQueue<Chunk> queue, Chunk chunk) throws InterruptedException {
+            while (!queue.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+                if (closed) {
+                    throw new InterruptedException("Listing closed");
+                }
+            }
+        }
+
+        private void putQuietly(BlockingQueue<Chunk> queue, Chunk chunk) {
+            try {
+                put(queue, chunk);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Drains shards strictly in key order while keeping the next {@code parallelism} shards listing ahead.
+     */
+    private class OrderedShardIterator extends ShardIterator {
+
+        private final Deque<BlockingQueue<Chunk>> queues = new ArrayDeque<>();
+
+        OrderedShardIterator(String bucketName, Iterator<Shard> shards, int parallelism) {
+            super(bucketName, shards, parallelism);
+        }
+
+        @Override
+        protected Chunk nextChunk() throws InterruptedException {
+            while (true) {
+                while (queues.size() < window && shards.hasNext()) {
+                    BlockingQueue<Chunk> queue = new ArrayBlockingQueue<>(PAGES_PER_SHARD);
+                    queues.addLast(queue);
+                    launch(shards.next(), queue);
+                }
+                if (queues.isEmpty()) {
+                    return null;
+                }
+                Chunk chunk = queues.peekFirst().take();
+                if (chunk.last() && chunk.error() == null) {
+                    queues.removeFirst();
+                    continue;
+                }
+                return chunk;
+            }
+        }
+    }
+
+    /**
+     * Emits pages from whichever shard produces them first, keeping {@code parallelism} shards listing.
+     */
+    private class UnorderedShardIterator extends ShardIterator {
+
+        private final BlockingQueue<Chunk> queue;
+        private int runningShards;
+
+        UnorderedShardIterator(String bucketName, Iterator<Shard> shards, int parallelism) {
+            super(bucketName, shards, parallelism);
+            this.queue = new ArrayBlockingQueue<>(window * PAGES_PER_SHARD);
+        }
+
+        @Override
+        protected Chunk nextChunk() throws InterruptedException {
+            while (true) {
+                while (runningShards < window && shards.hasNext()) {
+                    launch(shards.next(), queue);
+                    runningShards++;
+                }
+                if (runningShards == 0) {
+                    return null;
+                }
+                Chunk chunk = queue.take();
+                if (chunk.last() && chunk.error() == null) {
+                    runningShards--;
+                    continue;
+                }
+                return chunk;
+            }
+        }
+    }
+}
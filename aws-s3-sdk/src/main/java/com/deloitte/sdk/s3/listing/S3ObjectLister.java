@@ -0,0 +1,42 @@
+package com.deloitte.sdk.s3.listing;
+
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily lists the objects of a bucket across all pages.
+ * Failures while consuming a listing surface as {@link com.deloitte.sdk.s3.exceptions.S3SdkUncheckedException}.
+ */
+public class S3ObjectLister {
+
+    private final S3Client s3Client;
+
+    public S3ObjectLister(S3Client s3Client) {
+        this.s3Client = s3Client;
+    }
+
+    public Iterator<S3ObjectSummary> iterator(String bucketName, ListingOptions options) {
+        ListObjectsV2Request request = ListObjectsV2Request.builder()
+                .bucket(bucketName)
+                .prefix(options.getPrefix())
+                .startAfter(options.getStartAfter())
+                .maxKeys(options.getPageSize())
+                .build();
+        return new ObjectListingIterator(s3Client, request, options.isPrefetch());
+    }
+
+    /**
+     * @return An ordered stream of the objects; no request is made until the stream is consumed.
+     */
+    public Stream<S3ObjectSummary> stream(String bucketName, ListingOptions options) {
+        Spliterator<S3ObjectSummary> spliterator = Spliterators.spliteratorUnknownSize(
+                iterator(bucketName, options), Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.DISTINCT);
+        return StreamSupport.stream(spliterator, false);
+    }
+}
@@ -0,0 +1,15 @@
+package com.deloitte.sdk.s3.listing;
+
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Instant;
+
+/**
+ * The listing attributes of a single object.
+ */
+public record S3ObjectSummary(String key, long size, String eTag, Instant lastModified) {
+
+    static S3ObjectSummary from(S3Object object) {
+        return new S3ObjectSummary(object.key(), object.size() == null ? 0 : object.size(), object.eTag(), object.lastModified());
+    }
+}
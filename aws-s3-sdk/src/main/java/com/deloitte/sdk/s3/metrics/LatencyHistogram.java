@@ -0,0 +1,61 @@
+package com.deloitte.sdk.s3.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram with power-of-two microsecond buckets.
+ * Recording is a few atomic increments; percentiles are reported as the upper bound of their bucket,
+ * so they are accurate to within a factor of two.
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public void record(long nanos) {
+        long micros = Math.max(0, nanos) / 1000;
+        buckets.incrementAndGet(BUCKETS - Long.numberOfLeadingZeros(micros));
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public Duration mean() {
+        long samples = count.sum();
+        return samples == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos.sum() / samples);
+    }
+
+    public Duration max() {
+        return Duration.ofNanos(maxNanos.get());
+    }
+
+    /**
+     * The latency at or below which the given fraction (0 to 1) of samples fall, rounded up to a bucket bound.
+     */
+    public Duration percentile(double fraction) {
+        long samples = count.sum();
+        if (samples == 0) {
+            return Duration.ZERO;
+        }
+        long rank = Math.max(1, (long) Math.ceil(fraction * samples));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += buckets.get(bucket);
+            if (seen >= rank) {
+                return bucket >= 53 ? max() : Duration.ofNanos(Math.min((1L << bucket) * 1000, maxNanos.get()));
+            }
+        }
+        return max();
+    }
+}
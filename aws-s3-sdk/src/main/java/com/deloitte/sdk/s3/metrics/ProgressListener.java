@@ -0,0 +1,14 @@
+package com.deloitte.sdk.s3.metrics;
+
+/**
+ * Receives progress of multipart and ranged transfers, once per completed part or range.
+ * Callbacks run on the transfer's worker threads, possibly concurrently, and should return quickly.
+ */
+@FunctionalInterface
+public interface ProgressListener {
+
+    ProgressListener NONE = progress -> {
+    };
+
+    void onProgress(TransferProgress progress);
+}
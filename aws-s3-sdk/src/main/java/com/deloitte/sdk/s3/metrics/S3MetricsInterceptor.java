@@ -0,0 +1,84 @@
+package com.deloitte.sdk.s3.metrics;
+
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+import java.util.Optional;
+
+/**
+ * Feeds the requests of an S3 client into {@link TransferMetrics}. Register it when building the client
+ * passed to the wrappers:
+ * <pre>{@code
+ * S3Client.builder()
+ *         .overrideConfiguration(c -> c.addExecutionInterceptor(new S3MetricsInterceptor(stats)))
+ *         .build();
+ * }</pre>
+ * Latency covers a whole API call; bytes come from Content-Length headers and throttling is counted per attempt.
+ * Works the same for {@code S3AsyncClient}.
+ */
+public class S3MetricsInterceptor implements ExecutionInterceptor {
+
+    private static final ExecutionAttribute<Long> START_NANOS = new ExecutionAttribute<>("S3MetricsInterceptor.startNanos");
+
+    private final TransferMetrics metrics;
+
+    public S3MetricsInterceptor(TransferMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        executionAttributes.putAttribute(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
+        contentLength(context.httpRequest().firstMatchingHeader("Content-Length"))
+                .ifPresent(bytes -> metrics.bytesSent(operation(executionAttributes), bytes));
+    }
+
+    @Override
+    public void afterTransmission(Context.AfterTransmission context, ExecutionAttributes executionAttributes) {
+        String operation = operation(executionAttributes);
+        int status = context.httpResponse().statusCode();
+        if (status == 503 || status == 429) {
+            metrics.throttled(operation, status);
+        } else if (context.httpResponse().isSuccessful()) {
+            contentLength(context.httpResponse().firstMatchingHeader("Content-Length"))
+                    .ifPresent(bytes -> metrics.bytesReceived(operation, bytes));
+        }
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        completed(executionAttributes, true);
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+        completed(executionAttributes, false);
+    }
+
+    private void completed(ExecutionAttributes executionAttributes, boolean successful) {
+        Long start = executionAttributes.getAttribute(START_NANOS);
+        if (start != null) {
+            metrics.requestCompleted(operation(executionAttributes), System.nanoTime() - start, successful);
+        }
+    }
+
+    private static String operation(ExecutionAttributes executionAttributes) {
+        String operation = executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        return operation != null ? operation : "Unknown";
+    }
+
+    private static Optional<Long> contentLength(Optional<String> header) {
+        try {
+            return header.map(Long::parseLong);
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.deloitte.sdk.s3.metrics;
+
+/**
+ * Receives measurements from {@link S3MetricsInterceptor}. Every method defaults to a no-op so
+ * implementations only handle what they export; {@link TransferStats} keeps them in memory.
+ * Methods are called on SDK request threads and must be cheap and thread-safe.
+ */
+public interface TransferMetrics {
+
+    /**
+     * An API call finished, including any retries the SDK made on its own.
+     */
+    default void requestCompleted(String operation, long latencyNanos, boolean successful) {
+    }
+
+    default void bytesSent(String operation, long bytes) {
+    }
+
+    default void bytesReceived(String operation, long bytes) {
+    }
+
+    /**
+     * An attempt was rejected with 503 Slow Down, 429 or another throttling response.
+     */
+    default void throttled(String operation, int statusCode) {
+    }
+}
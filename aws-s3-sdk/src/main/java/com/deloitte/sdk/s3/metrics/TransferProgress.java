@@ -0,0 +1,19 @@
+package com.deloitte.sdk.s3.metrics;
+
+/**
+ * How far a single upload, download or copy has got.
+ *
+ * @param totalBytes The size of the object, or -1 while it is not known (streamed uploads).
+ */
+public record TransferProgress(String bucketName, String key, long transferredBytes, long totalBytes) {
+
+    /**
+     * The completed fraction between 0 and 1, or -1 when the total size is not known.
+     */
+    public double fraction() {
+        if (totalBytes < 0) {
+            return -1;
+        }
+        return totalBytes == 0 ? 1 : (double) transferredBytes / totalBytes;
+    }
+}
@@ -0,0 +1,107 @@
+package com.deloitte.sdk.s3.metrics;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps {@link TransferMetrics} in memory: a latency histogram and failure count per operation,
+ * bytes in each direction with the average throughput since creation, and throttling responses.
+ */
+public class TransferStats implements TransferMetrics {
+
+    private final LongSupplier nanoClock;
+    private final long startNanos;
+    private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder slowDowns = new LongAdder();
+
+    public TransferStats() {
+        this(System::nanoTime);
+    }
+
+    TransferStats(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.startNanos = nanoClock.getAsLong();
+    }
+
+    @Override
+    public void requestCompleted(String operation, long latencyNanos, boolean successful) {
+        latencies.computeIfAbsent(operation, name -> new LatencyHistogram()).record(latencyNanos);
+        if (!successful) {
+            failures.computeIfAbsent(operation, name -> new LongAdder()).increment();
+        }
+    }
+
+    @Override
+    public void bytesSent(String operation, long bytes) {
+        bytesSent.add(bytes);
+    }
+
+    @Override
+    public void bytesReceived(String operation, long bytes) {
+        bytesReceived.add(bytes);
+    }
+
+    @Override
+    public void throttled(String operation, int statusCode) {
+        throttled.increment();
+        if (statusCode == 503) {
+            slowDowns.increment();
+        }
+    }
+
+    public Set<String> operations() {
+        return Set.copyOf(latencies.keySet());
+    }
+
+    /**
+     * The latency histogram of an operation such as {@code "PutObject"}, empty if it was never called.
+     */
+    public LatencyHistogram latency(String operation) {
+        LatencyHistogram histogram = latencies.get(operation);
+        return histogram != null ? histogram : new LatencyHistogram();
+    }
+
+    public long failures(String operation) {
+        LongAdder count = failures.get(operation);
+        return count != null ? count.sum() : 0;
+    }
+
+    public long bytesSent() {
+        return bytesSent.sum();
+    }
+
+    public long bytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    /**
+     * Attempts rejected by any throttling response, including 503 Slow Down.
+     */
+    public long throttledResponses() {
+        return throttled.sum();
+    }
+
+    public long slowDownResponses() {
+        return slowDowns.sum();
+    }
+
+    public double sendThroughputBytesPerSecond() {
+        return perSecond(bytesSent.sum());
+    }
+
+    public double receiveThroughputBytesPerSecond() {
+        return perSecond(bytesReceived.sum());
+    }
+
+    private double perSecond(long bytes) {
+        long elapsed = nanoClock.getAsLong() - startNanos;
+        return elapsed <= 0 ? 0 : bytes * 1_000_000_000.0 / elapsed;
+    }
+}
@@ -0,0 +1,34 @@
+package com.deloitte.sdk.s3.presign;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Settings for the presigned URL cache.
+ */
+@Builder
+@Getter
+public class PresignCacheConfig {
+
+    @Builder.Default
+    private final int maxEntries = 10_000;
+    /**
+     * Fraction of the requested expiration that must still remain for a cached URL to be handed out.
+     * With 0.5, a caller asking for a 10 minute URL gets one valid for at least 5 more minutes.
+     */
+    @Builder.Default
+    private final double minRemainingFraction = 0.5;
+    /**
+     * Requested expirations are rounded up to a multiple of this, so callers asking for slightly different
+     * expirations share one cached URL. Expirations within seven days are never rounded past seven days.
+     */
+    @Builder.Default
+    private final Duration expirationBucket = Duration.ofMinutes(1);
+    /**
+     * How often a call sweeps out entries that are no longer reusable.
+     */
+    @Builder.Default
+    private final Duration sweepInterval = Duration.ofMinutes(1);
+}
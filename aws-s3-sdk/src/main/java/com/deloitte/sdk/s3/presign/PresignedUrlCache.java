@@ -0,0 +1,171 @@
+package com.deloitte.sdk.s3.presign;
+
+import com.deloitte.sdk.s3.exceptions.S3SdkException;
+import com.deloitte.sdk.s3.exceptions.S3SdkUncheckedException;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.net.URL;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * Reuses presigned URLs for the same bucket, key, operation and expiration, rounded up to the configured
+ * bucket, while enough of their validity remains, so hot keys are signed once per reuse window instead of
+ * once per call. Entries that are no longer reusable are swept out on access every sweep interval, and the
+ * cache is trimmed when it grows past its bound, dropping the entries closest to expiry first.
+ */
+public class PresignedUrlCache {
+
+    private static final Duration MAX_EXPIRATION = Duration.ofDays(7);
+
+    private final S3Presigner s3Presigner;
+    private final PresignCacheConfig config;
+    private final Clock clock;
+    private final ConcurrentMap<CacheKey, CachedUrl> urls = new ConcurrentHashMap<>();
+    private volatile Instant nextSweep;
+
+    public PresignedUrlCache(S3Presigner s3Presigner, PresignCacheConfig config) {
+        this(s3Presigner, config, Clock.systemUTC());
+    }
+
+    PresignedUrlCache(S3Presigner s3Presigner, PresignCacheConfig config, Clock clock) {
+        this.s3Presigner = s3Presigner;
+        this.config = config;
+        this.clock = clock;
+        this.nextSweep = clock.instant().plus(config.getSweepInterval());
+    }
+
+    public URL presignDownload(String bucketName, String key, Duration expiration) throws S3SdkException {
+        return presign(new CacheKey(bucketName, key, Operation.GET, roundedSeconds(expiration)));
+    }
+
+    public URL presignUpload(String bucketName, String key, Duration expiration) throws S3SdkException {
+        return presign(new CacheKey(bucketName, key, Operation.PUT, roundedSeconds(expiration)));
+    }
+
+    /**
+     * Presigns download URLs for many keys, signing the ones not already cached in parallel.
+     *
+     * @return The URLs indexed by key.
+     */
+    public Map<String, URL> presignDownloads(String bucketName, Collection<String> keys, Duration expiration) throws S3SdkException {
+        try {
+            return keys.parallelStream().distinct().collect(Collectors.toConcurrentMap(key -> key, key -> {
+                try {
+                    return presignDownload(bucketName, key, expiration);
+                } catch (S3SdkException e) {
+                    throw new S3SdkUncheckedException(e.getMessage(), e);
+                }
+            }));
+        } catch (S3SdkUncheckedException e) {
+            throw (S3SdkException) e.getCause();
+        }
+    }
+
+    public int size() {
+        return urls.size();
+    }
+
+    public void clear() {
+        urls.clear();
+    }
+
+    private long roundedSeconds(Duration expiration) {
+        long seconds = expiration.toSeconds();
+        long bucketSeconds = Math.max(1, config.getExpirationBucket().toSeconds());
+        long rounded = Math.ceilDiv(seconds, bucketSeconds) * bucketSeconds;
+        return seconds <= MAX_EXPIRATION.toSeconds() ? Math.min(rounded, MAX_EXPIRATION.toSeconds()) : rounded;
+    }
+
+    private URL presign(CacheKey cacheKey) throws S3SdkException {
+        Instant now = clock.instant();
+        if (!now.isBefore(nextSweep)) {
+            sweep(now);
+        }
+        CachedUrl cached = urls.get(cacheKey);
+        if (cached != null && cached.reusableUntil().isAfter(now)) {
+            return cached.url();
+        }
+        try {
+            CachedUrl signed = urls.compute(cacheKey, (key, current) ->
+                    current != null && current.reusableUntil().isAfter(now) ? current : sign(key, now));
+            if (urls.size() > config.getMaxEntries()) {
+                trim(now);
+            }
+            return signed.url();
+        } catch (RuntimeException e) {
+            String operation = cacheKey.operation() == Operation.GET ? "download" : "upload";
+            throw new S3SdkException("Failed to generate presigned URL for " + operation, e);
+        }
+    }
+
+    private CachedUrl sign(CacheKey cacheKey, Instant now) {
+        Duration expiration = Duration.ofSeconds(cacheKey.expirationSeconds());
+        URL url;
+        Instant expiresAt;
+        if (cacheKey.operation() == Operation.GET) {
+            PresignedGetObjectRequest presigned = s3Presigner.presignGetObject(GetObjectPresignRequest.builder()
+                    .signatureDuration(expiration)
+                    .getObjectRequest(GetObjectRequest.builder().bucket(cacheKey.bucketName()).key(cacheKey.key()).build())
+                    .build());
+            url = presigned.url();
+            expiresAt = presigned.expiration();
+        } else {
+            PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                    .signatureDuration(expiration)
+                    .putObjectRequest(PutObjectRequest.builder().bucket(cacheKey.bucketName()).key(cacheKey.key()).build())
+                    .build());
+            url = presigned.url();
+            expiresAt = presigned.expiration();
+        }
+        if (expiresAt == null) {
+            expiresAt = now.plus(expiration);
+        }
+        long minRemainingMillis = (long) (expiration.toMillis() * config.getMinRemainingFraction());
+        return new CachedUrl(url, expiresAt.minusMillis(minRemainingMillis));
+    }
+
+    private synchronized void sweep(Instant now) {
+        if (now.isBefore(nextSweep)) {
+            return;
+        }
+        nextSweep = now.plus(config.getSweepInterval());
+        urls.entrySet().removeIf(entry -> !entry.getValue().reusableUntil().isAfter(now));
+    }
+
+    private synchronized void trim(Instant now) {
+        urls.entrySet().removeIf(entry -> !entry.getValue().reusableUntil().isAfter(now));
+        int excess = urls.size() - config.getMaxEntries() * 9 / 10;
+        if (excess > 0) {
+            urls.entrySet().stream()
+                    .sorted(Comparator.comparing(entry -> entry.getValue().reusableUntil()))
+                    .limit(excess)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(urls::remove);
+        }
+    }
+
+    private enum Operation {
+        GET, PUT
+    }
+
+    private record CacheKey(String bucketName, String key, Operation operation, long expirationSeconds) {
+    }
+
+    private record CachedUrl(URL url, Instant reusableUntil) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.deloitte.sdk.s3.records;
+
+import com.deloitte.sdk.s3.exceptions.S3SdkUncheckedException;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.IntFunction;
+
+/**
+ * Yields the records of each range in order while keeping up to {@code prefetch} later ranges
+ * being fetched on virtual threads. Ranges are only requested as the caller advances, so memory
+ * stays bounded by the window rather than the object size.
+ */
+class RangePrefetchIterator implements Iterator<List<String>> {
+
+    private final int rangeCount;
+    private final int window;
+    private final IntFunction<List<String>> fetch;
+    private final Deque<CompletableFuture<List<String>>> inFlight = new ArrayDeque<>();
+    private int nextRange;
+
+    RangePrefetchIterator(int rangeCount, int prefetch, IntFunction<List<String>> fetch) {
+        this.rangeCount = rangeCount;
+        this.window = Math.max(0, prefetch) + 1;
+        this.fetch = fetch;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (inFlight.size() < window && nextRange < rangeCount) {
+            int index = nextRange++;
+            inFlight.add(CompletableFuture.supplyAsync(() -> fetch.apply(index), task -> Thread.ofVirtual().start(task)));
+        }
+        return !inFlight.isEmpty();
+    }
+
+    @Override
+    public List<String> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            return inFlight.poll().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new S3SdkUncheckedException("Failed to read records", e.getCause());
+        }
+    }
+
+    /**
+     * Abandons ranges that were prefetched but not consumed.
+     */
+    void close() {
+        inFlight.forEach(future -> future.cancel(true));
+        inFlight.clear();
+        nextRange = rangeCount;
+    }
+}
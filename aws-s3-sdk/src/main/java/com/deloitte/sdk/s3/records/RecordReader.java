@@ -0,0 +1,179 @@
+package com.deloitte.sdk.s3.records;
+
+import com.deloitte.sdk.s3.exceptions.S3SdkException;
+import com.deloitte.sdk.s3.exceptions.S3SdkUncheckedException;
+import com.deloitte.sdk.s3.transfer.Retries;
+import com.deloitte.sdk.s3.transfer.S3TransferConfig;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads a newline-delimited object as a stream of records using byte-range GETs.
+ * <p>
+ * The object is cut into fixed ranges, and each range owns the records that start inside it: a range
+ * skips the partial record it begins in (unless the byte before it is a newline) and reads past its end
+ * to finish its last record. Ranges can therefore be fetched and decoded independently, in order with
+ * prefetch or in parallel, and each is retried on its own. Every range is pinned to the object's ETag.
+ * A trailing {@code \r} is stripped from each record; quoted line breaks inside CSV fields are not supported.
+ */
+public class RecordReader {
+
+    private static final byte NEWLINE = '\n';
+    private static final int TAIL_CHUNK_SIZE = 64 * 1024;
+
+    private final S3Client s3Client;
+    private final S3TransferConfig config;
+
+    public RecordReader(S3Client s3Client, S3TransferConfig config) {
+        this.s3Client = s3Client;
+        this.config = config;
+    }
+
+    /**
+     * Streams the records of an object. Range failures are raised as {@link S3SdkUncheckedException}
+     * while the stream is consumed; close the stream to stop prefetching early.
+     */
+    public Stream<String> records(String bucketName, String key, RecordReaderOptions options) throws S3SdkException {
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(HeadObjectRequest.builder().bucket(bucketName).key(key).build());
+        } catch (SdkException e) {
+            throw new S3SdkException("Failed to read records from bucket: " + bucketName, e);
+        }
+        long size = head.contentLength() != null ? head.contentLength() : 0;
+        if (size == 0) {
+            return Stream.empty();
+        }
+
+        RecordSource object = new RecordSource(bucketName, key, head.eTag(), size, Math.max(1, options.getRangeSize()), options);
+        int rangeCount = (int) ((size + object.rangeSize() - 1) / object.rangeSize());
+        if (options.isParallel()) {
+            return IntStream.range(0, rangeCount).parallel()
+                    .mapToObj(index -> readRange(object, index))
+                    .flatMap(List::stream);
+        }
+
+        RangePrefetchIterator ranges = new RangePrefetchIterator(rangeCount, options.getPrefetch(), index -> readRange(object, index));
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(ranges, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(ranges::close)
+                .flatMap(List::stream);
+    }
+
+    private List<String> readRange(RecordSource object, int index) {
+        long start = index * object.rangeSize();
+        long end = Math.min(start + object.rangeSize(), object.size());
+        // Starting one byte early shows whether the range begins on a record boundary.
+        long from = start == 0 ? 0 : start - 1;
+        byte[] bytes = fetch(object, from, end - 1);
+
+        int first = 0;
+        if (start > 0) {
+            int newline = indexOf(bytes, 0, bytes.length);
+            if (newline < 0) {
+                return List.of();
+            }
+            first = newline + 1;
+        }
+        if (first < bytes.length && bytes[bytes.length - 1] != NEWLINE && end < object.size()) {
+            bytes = concat(bytes, readTail(object, end));
+        }
+
+        List<String> records = split(bytes, first, object.options());
+        if (index == 0 && object.options().isSkipHeader() && !records.isEmpty()) {
+            records.removeFirst();
+        }
+        return records;
+    }
+
+    /**
+     * Reads from {@code position} up to and including the next newline, or to the end of the object.
+     */
+    private byte[] readTail(RecordSource object, long position) {
+        ByteArrayOutputStream tail = new ByteArrayOutputStream();
+        while (position < object.size()) {
+            long last = Math.min(position + TAIL_CHUNK_SIZE, object.size()) - 1;
+            byte[] chunk = fetch(object, position, last);
+            int newline = indexOf(chunk, 0, chunk.length);
+            if (newline >= 0) {
+                tail.write(chunk, 0, newline + 1);
+                break;
+            }
+            tail.write(chunk, 0, chunk.length);
+            position = last + 1;
+        }
+        return tail.toByteArray();
+    }
+
+    private byte[] fetch(RecordSource object, long first, long last) {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(object.bucketName())
+                .key(object.key())
+                .ifMatch(object.eTag())
+                .range("bytes=" + first + "-" + last)
+                .overrideConfiguration(override -> override.addPlugin(Retries.NO_SDK_RETRIES))
+                .build();
+        try {
+            return Retries.withRetries(config.getMaxRetries(), config.getRetryBaseDelayMillis(), () -> {
+                try (ResponseInputStream<GetObjectResponse> in = s3Client.getObject(request)) {
+                    return in.readAllBytes();
+                } catch (IOException e) {
+                    throw SdkClientException.create("Failed to read object range", e);
+                }
+            });
+        } catch (Exception e) {
+            throw new S3SdkUncheckedException("Failed to read records from bucket: " + object.bucketName(), e);
+        }
+    }
+
+    private static List<String> split(byte[] bytes, int from, RecordReaderOptions options) {
+        List<String> records = new ArrayList<>();
+        int start = from;
+        while (start < bytes.length) {
+            int newline = indexOf(bytes, start, bytes.length);
+            int end = newline < 0 ? bytes.length : newline;
+            int length = end - start;
+            if (length > 0 && bytes[end - 1] == '\r') {
+                length--;
+            }
+            records.add(new String(bytes, start, length, options.getCharset()));
+            start = end + 1;
+        }
+        return records;
+    }
+
+    private static int indexOf(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == NEWLINE) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static byte[] concat(byte[] head, byte[] tail) {
+        byte[] joined = new byte[head.length + tail.length];
+        System.arraycopy(head, 0, joined, 0, head.length);
+        System.arraycopy(tail, 0, joined, head.length, tail.length);
+        return joined;
+    }
+
+    private record RecordSource(String bucketName, String key, String eTag, long size, long rangeSize,
+                               RecordReaderOptions options) {
+    }
+}
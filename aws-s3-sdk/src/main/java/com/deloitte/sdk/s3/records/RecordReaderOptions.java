@@ -0,0 +1,34 @@
+package com.deloitte.sdk.s3.records;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Options for reading newline-delimited records (NDJSON, CSV without quoted line breaks) from an object.
+ */
+@Builder
+@Getter
+public class RecordReaderOptions {
+
+    /** Bytes fetched per ranged GET; every range is held in memory while its records are consumed. */
+    @Builder.Default
+    private final long rangeSize = 8L * 1024 * 1024;
+    /** Ranges fetched ahead of the one being consumed by a sequential stream. */
+    @Builder.Default
+    private final int prefetch = 2;
+    /** Whether ranges are fetched and decoded on the common fork-join pool instead of in order with prefetch. */
+    @Builder.Default
+    private final boolean parallel = false;
+    /** Whether the first record of the object (a CSV header) is dropped. */
+    @Builder.Default
+    private final boolean skipHeader = false;
+    @Builder.Default
+    private final Charset charset = StandardCharsets.UTF_8;
+
+    public static RecordReaderOptions defaults() {
+        return RecordReaderOptions.builder().build();
+    }
+}
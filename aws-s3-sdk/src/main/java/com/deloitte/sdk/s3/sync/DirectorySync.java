@@ -0,0 +1,253 @@
+package com.deloitte.sdk.s3.sync;
+
+import com.deloitte.sdk.s3.batch.DeleteReport;
+import com.deloitte.sdk.s3.exceptions.S3SdkException;
+import com.deloitte.sdk.s3.exceptions.S3SdkUncheckedException;
+import com.deloitte.sdk.s3.listing.ListingOptions;
+import com.deloitte.sdk.s3.listing.S3ObjectSummary;
+import com.deloitte.sdk.s3.transfer.S3TransferConfig;
+import com.deloitte.sdk.s3.wrapper.S3ClientWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Incrementally syncs a local directory with an S3 prefix in either direction.
+ * The local tree is walked while the prefix is listed on another thread, unchanged files are skipped
+ * according to {@link SyncOptions.CompareMode}, and the remaining transfers run with bounded concurrency
+ * through the wrapper, so large files still use multipart uploads and ranged downloads.
+ */
+public class DirectorySync {
+
+    private static final Logger logger = LoggerFactory.getLogger(DirectorySync.class);
+
+    private final S3ClientWrapper s3ClientWrapper;
+    private final S3TransferConfig transferConfig;
+
+    public DirectorySync(S3ClientWrapper s3ClientWrapper, S3TransferConfig transferConfig) {
+        this.s3ClientWrapper = s3ClientWrapper;
+        this.transferConfig = transferConfig;
+    }
+
+    /**
+     * Uploads new and changed files under {@code directory} to {@code prefix}.
+     */
+    public SyncReport syncUp(Path directory, String bucketName, String prefix, SyncOptions options) throws S3SdkException {
+        String keyPrefix = normalizePrefix(prefix);
+        CompletableFuture<Map<String, S3ObjectSummary>> remote = listRemote(bucketName, keyPrefix);
+        Map<String, LocalFile> local = walkLocal(directory);
+        Map<String, S3ObjectSummary> remoteObjects = await(remote, bucketName);
+
+        Counters counters = new Counters();
+        runBounded(options, local.entrySet(), (relative, file) -> {
+            String key = keyPrefix + relative;
+            S3ObjectSummary object = remoteObjects.get(key);
+            if (object != null && isUnchanged(file, object, options, true)) {
+                counters.skipped.increment();
+                return;
+            }
+            s3ClientWrapper.uploadObject(bucketName, key, file.path());
+            counters.transferred(file.size());
+        }, counters);
+
+        if (options.isDeleteExtraneous()) {
+            List<String> extraneous = remoteObjects.keySet().stream()
+                    .filter(key -> !local.containsKey(key.substring(keyPrefix.length())))
+                    .toList();
+            DeleteReport report = s3ClientWrapper.deleteObjects(bucketName, extraneous);
+            counters.deleted.add(report.deletedCount());
+            report.errors().forEach(error -> counters.failures.put(error.key(), error.code() + ": " + error.message()));
+        }
+        return counters.report();
+    }
+
+    /**
+     * Downloads new and changed objects under {@code prefix} into {@code directory}.
+     */
+    public SyncReport syncDown(String bucketName, String prefix, Path directory, SyncOptions options) throws S3SdkException {
+        String keyPrefix = normalizePrefix(prefix);
+        Path root = directory.toAbsolutePath().normalize();
+        CompletableFuture<Map<String, S3ObjectSummary>> remote = listRemote(bucketName, keyPrefix);
+        Map<String, LocalFile> local = Files.isDirectory(root) ? walkLocal(root) : Map.of();
+        Map<String, S3ObjectSummary> remoteObjects = await(remote, bucketName);
+
+        Map<String, S3ObjectSummary> byRelativePath = new HashMap<>();
+        remoteObjects.forEach((key, object) -> {
+            String relative = key.substring(keyPrefix.length());
+            if (!relative.isEmpty() && !relative.endsWith("/")) {
+                byRelativePath.put(relative, object);
+            }
+        });
+
+        Counters counters = new Counters();
+        runBounded(options, byRelativePath.entrySet(), (relative, object) -> {
+            Path target = root.resolve(relative).normalize();
+            if (!target.startsWith(root)) {
+                throw new S3SdkException("Key resolves outside the target directory: " + object.key());
+            }
+            LocalFile file = local.get(relative);
+            if (file != null && isUnchanged(file, object, options, false)) {
+                counters.skipped.increment();
+                return;
+            }
+            try {
+                Files.createDirectories(target.getParent());
+                s3ClientWrapper.downloadObject(bucketName, object.key(), target);
+                if (object.lastModified() != null) {
+                    Files.setLastModifiedTime(target, FileTime.from(object.lastModified()));
+                }
+            } catch (IOException e) {
+                throw new S3SdkException("Failed to write " + target, e);
+            }
+            counters.transferred(object.size());
+        }, counters);
+
+        if (options.isDeleteExtraneous()) {
+            for (Map.Entry<String, LocalFile> entry : local.entrySet()) {
+                if (byRelativePath.containsKey(entry.getKey())) {
+                    continue;
+                }
+                try {
+                    Files.deleteIfExists(entry.getValue().path());
+                    counters.deleted.increment();
+                } catch (IOException e) {
+                    counters.failures.put(entry.getKey(), e.toString());
+                }
+            }
+        }
+        return counters.report();
+    }
+
+    private boolean isUnchanged(LocalFile file, S3ObjectSummary object, SyncOptions options, boolean localIsSource) throws S3SdkException {
+        if (file.size() != object.size()) {
+            return false;
+        }
+        return switch (options.getCompareMode()) {
+            case SIZE -> true;
+            case SIZE_AND_MTIME -> object.lastModified() != null && (localIsSource
+                    ? !file.lastModified().toInstant().isAfter(object.lastModified())
+                    : !object.lastModified().isAfter(file.lastModified().toInstant()));
+            case CHECKSUM -> {
+                try {
+                    yield ETags.matches(file.path(), file.size(), object.eTag(), transferConfig);
+                } catch (IOException e) {
+                    throw new S3SdkException("Failed to checksum " + file.path(), e);
+                }
+            }
+        };
+    }
+
+    private <V> void runBounded(SyncOptions options, Iterable<Map.Entry<String, V>> entries,
+                                SyncTask<V> task, Counters counters) throws S3SdkException {
+        Semaphore permits = new Semaphore(Math.max(1, options.getMaxConcurrency()));
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Map.Entry<String, V> entry : entries) {
+                permits.acquire();
+                workers.execute(() -> {
+                    try {
+                        task.run(entry.getKey(), entry.getValue());
+                    } catch (S3SdkException | RuntimeException e) {
+                        logger.warn("Failed to sync {}", entry.getKey(), e);
+                        counters.failures.put(entry.getKey(), e.getMessage() != null ? e.getMessage() : e.toString());
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new S3SdkException("Interrupted during sync", e);
+        }
+    }
+
+    private CompletableFuture<Map<String, S3ObjectSummary>> listRemote(String bucketName, String keyPrefix) {
+        return CompletableFuture.supplyAsync(() -> {
+            Map<String, S3ObjectSummary> objects = new HashMap<>();
+            ListingOptions listing = ListingOptions.builder().prefix(keyPrefix.isEmpty() ? null : keyPrefix).prefetch(true).build();
+            try (Stream<S3ObjectSummary> stream = s3ClientWrapper.streamObjects(bucketName, listing)) {
+                stream.forEach(object -> objects.put(object.key(), object));
+            }
+            return objects;
+        }, task -> Thread.ofVirtual().start(task));
+    }
+
+    private static Map<String, S3ObjectSummary> await(CompletableFuture<Map<String, S3ObjectSummary>> remote, String bucketName) throws S3SdkException {
+        try {
+            return remote.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() instanceof S3SdkUncheckedException unchecked ? unchecked.getCause() : e.getCause();
+            throw new S3SdkException("Failed to list objects in bucket: " + bucketName, cause);
+        }
+    }
+
+    private static Map<String, LocalFile> walkLocal(Path directory) throws S3SdkException {
+        Path root = directory.toAbsolutePath().normalize();
+        Map<String, LocalFile> files = new ConcurrentHashMap<>();
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.parallel().forEach(path -> {
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                    if (attributes.isRegularFile()) {
+                        String relative = root.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/");
+                        files.put(relative, new LocalFile(path, attributes.size(), attributes.lastModifiedTime()));
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException | UncheckedIOException e) {
+            throw new S3SdkException("Failed to walk directory: " + directory, e);
+        }
+        return files;
+    }
+
+    private static String normalizePrefix(String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return "";
+        }
+        return prefix.endsWith("/") ? prefix : prefix + "/";
+    }
+
+    @FunctionalInterface
+    private interface SyncTask<V> {
+        void run(String relativePath, V value) throws S3SdkException;
+    }
+
+    private record LocalFile(Path path, long size, FileTime lastModified) {
+    }
+
+    private static class Counters {
+        private final LongAdder transferred = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+        private final LongAdder deleted = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final Map<String, String> failures = new ConcurrentHashMap<>();
+
+        void transferred(long size) {
+            transferred.increment();
+            bytes.add(size);
+        }
+
+        SyncReport report() {
+            return new SyncReport(transferred.sum(), skipped.sum(), deleted.sum(), bytes.sum(), Map.copyOf(failures));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.deloitte.sdk.s3.sync;
+
+import com.deloitte.sdk.s3.transfer.MultipartUploader;
+import com.deloitte.sdk.s3.transfer.S3TransferConfig;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Compares local files with S3 ETags. Single-part ETags are the MD5 of the content; multipart ETags
+ * are the MD5 of the concatenated part MD5s plus a part count, so the part size has to be guessed.
+ * The sizes tried are the one this SDK would use and the common 8 and 16 MiB defaults of other tools.
+ */
+final class ETags {
+
+    private static final long MIB = 1024 * 1024;
+    private static final int READ_BUFFER = 256 * 1024;
+
+    private ETags() {
+    }
+
+    static boolean matches(Path file, long size, String eTag, S3TransferConfig config) throws IOException {
+        if (eTag == null) {
+            return false;
+        }
+        String expected = eTag.replace("\"", "");
+        int dash = expected.indexOf('-');
+        if (dash < 0) {
+            return expected.equalsIgnoreCase(multipartETag(file, Long.MAX_VALUE, false));
+        }
+        int partCount;
+        try {
+            partCount = Integer.parseInt(expected.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        Set<Long> candidates = new LinkedHashSet<>();
+        candidates.add(MultipartUploader.partSizeFor(size, config));
+        candidates.add(8 * MIB);
+        candidates.add(16 * MIB);
+        candidates.add(((size + partCount - 1) / partCount + MIB - 1) / MIB * MIB);
+        for (long partSize : candidates) {
+            if (partSize > 0 && (size + partSize - 1) / partSize == partCount
+                    && expected.equalsIgnoreCase(multipartETag(file, partSize, true))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param multipart Whether to produce the multipart form; otherwise the plain MD5 of the whole file.
+     */
+    static String multipartETag(Path file, long partSize, boolean multipart) throws IOException {
+        MessageDigest whole = md5();
+        MessageDigest part = md5();
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER);
+        int parts = 0;
+        long partRemaining = partSize;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (true) {
+                buffer.clear().limit((int) Math.min(buffer.capacity(), partRemaining));
+                int read = channel.read(buffer);
+                if (read == -1) {
+                    break;
+                }
+                buffer.flip();
+                part.update(buffer);
+                partRemaining -= read;
+                if (partRemaining == 0) {
+                    whole.update(part.digest());
+                    parts++;
+                    partRemaining = partSize;
+                }
+            }
+        }
+        if (!multipart) {
+            return HexFormat.of().formatHex(part.digest());
+        }
+        if (partRemaining != partSize || parts == 0) {
+            whole.update(part.digest());
+            parts++;
+        }
+        return HexFormat.of().formatHex(whole.digest()) + "-" + parts;
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is not available", e);
+        }
+    }
+}
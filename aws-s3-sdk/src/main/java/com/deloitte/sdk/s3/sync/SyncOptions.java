@@ -0,0 +1,34 @@
+package com.deloitte.sdk.s3.sync;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Options for directory sync.
+ */
+@Builder
+@Getter
+public class SyncOptions {
+
+    @Builder.Default
+    private final CompareMode compareMode = CompareMode.SIZE_AND_MTIME;
+    /** Whether files or objects missing from the source side are deleted from the destination. */
+    @Builder.Default
+    private final boolean deleteExtraneous = false;
+    /** Number of files transferred at once. */
+    @Builder.Default
+    private final int maxConcurrency = 16;
+
+    public static SyncOptions defaults() {
+        return SyncOptions.builder().build();
+    }
+
+    public enum CompareMode {
+        /** Transfer when sizes differ. */
+        SIZE,
+        /** Transfer when sizes differ or the source is newer than the destination. */
+        SIZE_AND_MTIME,
+        /** Transfer when sizes differ or the local MD5, or multipart ETag, does not match the object's ETag. */
+        CHECKSUM
+    }
+}
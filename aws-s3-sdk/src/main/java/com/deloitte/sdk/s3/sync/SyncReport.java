@@ -0,0 +1,13 @@
+package com.deloitte.sdk.s3.sync;
+
+import java.util.Map;
+
+/**
+ * The outcome of a sync. Failures map the key or path that failed to the reason.
+ */
+public record SyncReport(long transferred, long skipped, long deleted, long bytesTransferred, Map<String, String> failures) {
+
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+}
@@ -0,0 +1,211 @@
+package com.deloitte.sdk.s3.transfer;
+
+import com.deloitte.sdk.s3.exceptions.S3SdkException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectTaggingRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.Tag;
+import software.amazon.awssdk.services.s3.model.UploadPartCopyRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartCopyResponse;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Copies objects server-side, splitting large objects into byte-range UploadPartCopy requests
+ * that run in parallel. Each part is pinned to the source ETag so a source overwritten mid-copy fails
+ * the copy instead of producing a mixed object, and the upload is aborted if any part runs out of retries.
+ * <p>
+ * Objects below the multipart copy threshold are copied with one CopyObject; when the caller already knows
+ * the size, as from a listing, that path sends no HeadObject. The multipart copy carries over the source's
+ * content headers, user metadata, tags (read with GetObjectTagging), storage class and SSE-S3 or SSE-KMS
+ * settings, which CopyObject keeps by itself. Keys of objects encrypted with a customer-provided key (SSE-C)
+ * and ACLs are not carried over.
+ */
+public class MultipartCopier {
+
+    private static final Logger logger = LoggerFactory.getLogger(MultipartCopier.class);
+
+    private final S3Client s3Client;
+    private final S3TransferConfig config;
+
+    public MultipartCopier(S3Client s3Client, S3TransferConfig config) {
+        this.s3Client = s3Client;
+        this.config = config;
+    }
+
+    /**
+     * Copies an object and returns its size in bytes.
+     */
+    public long copy(String sourceBucketName, String sourceKey, String destinationBucketName, String destinationKey)
+            throws S3SdkException {
+        HeadObjectResponse source = headSource(sourceBucketName, sourceKey);
+        long size = source.contentLength() != null ? source.contentLength() : 0;
+        if (size < config.getMultipartCopyThreshold()) {
+            copySingle(sourceBucketName, sourceKey, destinationBucketName, destinationKey);
+        } else {
+            copyParts(sourceBucketName, sourceKey, destinationBucketName, destinationKey, source, size);
+        }
+        return size;
+    }
+
+    /**
+     * Copies an object whose size is already known, such as from a listing, and returns its size in bytes.
+     * Only objects at or above the multipart copy threshold are looked up first.
+     */
+    public long copy(String sourceBucketName, String sourceKey, String destinationBucketName, String destinationKey,
+                     long knownSize) throws S3SdkException {
+        if (knownSize < config.getMultipartCopyThreshold()) {
+            copySingle(sourceBucketName, sourceKey, destinationBucketName, destinationKey);
+            return knownSize;
+        }
+        return copy(sourceBucketName, sourceKey, destinationBucketName, destinationKey);
+    }
+
+    private HeadObjectResponse headSource(String sourceBucketName, String sourceKey) throws S3SdkException {
+        try {
+            return s3Client.headObject(HeadObjectRequest.builder().bucket(sourceBucketName).key(sourceKey).build());
+        } catch (SdkException e) {
+            throw new S3SdkException("Failed to copy object", e);
+        }
+    }
+
+    private void copySingle(String sourceBucketName, String sourceKey, String destinationBucketName, String destinationKey)
+            throws S3SdkException {
+        try {
+            s3Client.copyObject(CopyObjectRequest.builder()
+                    .sourceBucket(sourceBucketName)
+                    .sourceKey(sourceKey)
+                    .destinationBucket(destinationBucketName)
+                    .destinationKey(destinationKey)
+                    .build());
+        } catch (SdkException e) {
+            throw new S3SdkException("Failed to copy object", e);
+        }
+    }
+
+    private void copyParts(String sourceBucketName, String sourceKey, String destinationBucketName, String destinationKey,
+                           HeadObjectResponse source, long size) throws S3SdkException {
+        long partSize = Parts.sizeFor(size, config.getCopyPartSize());
+        int partCount = (int) ((size + partSize - 1) / partSize);
+
+        String uploadId = createUpload(sourceBucketName, sourceKey, destinationBucketName, destinationKey, source);
+        try {
+            CompletedPart[] completed = new CompletedPart[partCount];
+            ProgressTracker progress = new ProgressTracker(config, destinationBucketName, destinationKey, size);
+            Parts.forEach(partCount, config.getMaxConcurrency(), index -> {
+                long offset = index * partSize;
+                long last = Math.min(offset + partSize, size) - 1;
+                UploadPartCopyRequest request = UploadPartCopyRequest.builder()
+                        .sourceBucket(sourceBucketName)
+                        .sourceKey(sourceKey)
+                        .destinationBucket(destinationBucketName)
+                        .destinationKey(destinationKey)
+                        .uploadId(uploadId)
+                        .partNumber(index + 1)
+                        .copySourceRange("bytes=" + offset + "-" + last)
+                        .copySourceIfMatch(source.eTag())
+                        .overrideConfiguration(override -> override.addPlugin(Retries.NO_SDK_RETRIES))
+                        .build();
+                UploadPartCopyResponse response = Retries.withRetries(config.getMaxRetries(), config.getRetryBaseDelayMillis(),
+                        () -> s3Client.uploadPartCopy(request));
+                completed[index] = CompletedPart.builder()
+                        .partNumber(index + 1)
+                        .eTag(response.copyPartResult().eTag())
+                        .build();
+                progress.add(last - offset + 1);
+            });
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(destinationBucketName)
+                    .key(destinationKey)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(Arrays.asList(completed)).build())
+                    .build());
+            logger.debug("Copied {}/{} to {}/{} in {} parts", sourceBucketName, sourceKey,
+                    destinationBucketName, destinationKey, partCount);
+        } catch (Exception e) {
+            abortUpload(destinationBucketName, destinationKey, uploadId);
+            throw new S3SdkException("Failed to copy object", e);
+        }
+    }
+
+    private String createUpload(String sourceBucketName, String sourceKey, String bucketName, String key,
+                                HeadObjectResponse source) throws S3SdkException {
+        try {
+            return s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .contentType(source.contentType())
+                    .contentEncoding(source.contentEncoding())
+                    .contentDisposition(source.contentDisposition())
+                    .contentLanguage(source.contentLanguage())
+                    .cacheControl(source.cacheControl())
+                    .metadata(source.metadata())
+                    .tagging(tagging(sourceBucketName, sourceKey, source))
+                    .storageClass(source.storageClassAsString())
+                    .serverSideEncryption(source.serverSideEncryptionAsString())
+                    .ssekmsKeyId(source.ssekmsKeyId())
+                    .bucketKeyEnabled(source.bucketKeyEnabled())
+                    .build()).uploadId();
+        } catch (SdkException e) {
+            throw new S3SdkException("Failed to start multipart copy to bucket: " + bucketName, e);
+        }
+    }
+
+    /**
+     * The source's tags as a tagging header, or null when it has none. Without permission to read the tags
+     * the copy goes ahead untagged, with a warning.
+     */
+    private String tagging(String sourceBucketName, String sourceKey, HeadObjectResponse source) {
+        List<Tag> tags;
+        try {
+            tags = s3Client.getObjectTagging(GetObjectTaggingRequest.builder()
+                    .bucket(sourceBucketName)
+                    .key(sourceKey)
+                    .versionId(source.versionId())
+                    .build()).tagSet();
+        } catch (S3Exception e) {
+            if (e.statusCode() != 403) {
+                throw e;
+            }
+            logger.warn("Not allowed to read tags of {}/{}; copying it without tags", sourceBucketName, sourceKey);
+            return null;
+        }
+        if (tags.isEmpty()) {
+            return null;
+        }
+        return tags.stream()
+                .map(tag -> encode(tag.key()) + "=" + encode(tag.value()))
+                .collect(Collectors.joining("&"));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    private void abortUpload(String bucketName, String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (SdkException e) {
+            logger.warn("Failed to abort multipart copy {} for {}/{}", uploadId, bucketName, key, e);
+        }
+    }
+}
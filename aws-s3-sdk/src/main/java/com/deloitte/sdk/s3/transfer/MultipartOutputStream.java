@@ -0,0 +1,268 @@
+package com.deloitte.sdk.s3.transfer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Uploads everything written to it as an object of unknown length.
+ * Bytes are collected into part-sized direct buffers; each full buffer is uploaded as a part on its
+ * own virtual thread while the writer fills the next one. At most {@code maxConcurrency + 1} buffers
+ * are held at a time, and writers block when all of them are busy.
+ * Objects smaller than one part are sent with a single PutObject on {@link #close()}.
+ * {@link #close()} completes the upload; call {@link #abort()} instead to discard it.
+ */
+public class MultipartOutputStream extends OutputStream {
+
+    private static final Logger logger = LoggerFactory.getLogger(MultipartOutputStream.class);
+    private static final String CONTENT_TYPE = "application/octet-stream";
+    /** How long an abort waits for interrupted part uploads to stop before aborting the upload. */
+    private static final long ABORT_WAIT_SECONDS = 30;
+
+    private final S3Client s3Client;
+    private final S3TransferConfig config;
+    private final BufferPool bufferPool;
+    private final String bucketName;
+    private final String key;
+    private final Semaphore buffers;
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private final ConcurrentSkipListMap<Integer, CompletedPart> completedParts = new ConcurrentSkipListMap<>();
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+    private final ProgressTracker progress;
+
+    private ByteBuffer current;
+    private String uploadId;
+    private int partCount;
+    private boolean closed;
+
+    MultipartOutputStream(S3Client s3Client, S3TransferConfig config, BufferPool bufferPool, String bucketName, String key) {
+        this.s3Client = s3Client;
+        this.config = config;
+        this.bufferPool = bufferPool;
+        this.bucketName = bucketName;
+        this.key = key;
+        this.progress = new ProgressTracker(config, bucketName, key, -1);
+        this.buffers = new Semaphore(Math.max(1, config.getMaxConcurrency()) + 1);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        ensureOpen();
+        while (length > 0) {
+            if (current == null) {
+                current = acquireBuffer();
+            }
+            int count = Math.min(length, current.remaining());
+            current.put(bytes, offset, count);
+            offset += count;
+            length -= count;
+            if (!current.hasRemaining()) {
+                submitPart();
+            }
+        }
+    }
+
+    /**
+     * Uploads the last part and completes the upload, waiting for every part in flight.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (uploadId == null) {
+                putSingleObject();
+                return;
+            }
+            if (current != null && current.position() > 0) {
+                submitPart();
+            }
+            workers.close();
+            rethrowFailure();
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(new ArrayList<>(completedParts.values())).build())
+                    .build());
+            logger.debug("Streamed {} parts to {}/{}", partCount, bucketName, key);
+        } catch (IOException | SdkException e) {
+            stopWorkers();
+            abortUpload();
+            throw e instanceof IOException io ? io : new IOException("Failed to upload object to bucket: " + bucketName, e);
+        } finally {
+            releaseCurrent();
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Discards everything written so far and aborts the multipart upload, if one was started.
+     * Part uploads in flight are interrupted and awaited first, since a part that lands after the abort
+     * would be stored, and billed, until it is aborted again.
+     */
+    public void abort() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        stopWorkers();
+        releaseCurrent();
+        abortUpload();
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        rethrowFailure();
+    }
+
+    private void rethrowFailure() throws IOException {
+        Exception error = failure.get();
+        if (error != null) {
+            throw new IOException("Failed to upload part to bucket: " + bucketName, error);
+        }
+    }
+
+    private ByteBuffer acquireBuffer() throws IOException {
+        try {
+            buffers.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a free part buffer");
+        }
+        rethrowFailure();
+        return bufferPool.acquire();
+    }
+
+    private void releaseCurrent() {
+        if (current != null) {
+            release(current);
+            current = null;
+        }
+    }
+
+    private void release(ByteBuffer buffer) {
+        bufferPool.release(buffer);
+        buffers.release();
+    }
+
+    private void submitPart() throws IOException {
+        if (partCount == S3TransferConfig.MAX_PARTS) {
+            throw new IOException("Object exceeds " + S3TransferConfig.MAX_PARTS + " parts; increase the part size");
+        }
+        if (uploadId == null) {
+            try {
+                uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .build()).uploadId();
+            } catch (SdkException e) {
+                throw new IOException("Failed to start multipart upload to bucket: " + bucketName, e);
+            }
+        }
+        ByteBuffer part = current.flip();
+        current = null;
+        int partNumber = ++partCount;
+        workers.execute(() -> {
+            try {
+                completedParts.put(partNumber, uploadPart(part, partNumber));
+            } catch (Exception e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                release(part);
+            }
+        });
+    }
+
+    private CompletedPart uploadPart(ByteBuffer part, int partNumber) throws Exception {
+        long length = part.remaining();
+        UploadPartRequest request = UploadPartRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength(length)
+                .overrideConfiguration(override -> override.addPlugin(Retries.NO_SDK_RETRIES))
+                .build();
+        RequestBody body = RequestBody.fromContentProvider(() -> new ByteBufferInputStream(part.duplicate()), length, CONTENT_TYPE);
+        UploadPartResponse response = Retries.withRetries(config.getMaxRetries(), config.getRetryBaseDelayMillis(),
+                () -> s3Client.uploadPart(request, body));
+        progress.add(length);
+        return CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build();
+    }
+
+    private void putSingleObject() throws IOException {
+        ByteBuffer body = current != null ? current.flip() : ByteBuffer.allocate(0);
+        long length = body.remaining();
+        try {
+            Retries.withRetries(config.getMaxRetries(), config.getRetryBaseDelayMillis(), () -> s3Client.putObject(
+                    PutObjectRequest.builder().bucket(bucketName).key(key).contentLength(length)
+                            .overrideConfiguration(override -> override.addPlugin(Retries.NO_SDK_RETRIES))
+                            .build(),
+                    RequestBody.fromContentProvider(() -> new ByteBufferInputStream(body.duplicate()), length, CONTENT_TYPE)));
+            progress.add(length);
+        } catch (Exception e) {
+            throw new IOException("Failed to upload object to bucket: " + bucketName, e);
+        } finally {
+            releaseCurrent();
+        }
+    }
+
+    private void stopWorkers() {
+        workers.shutdownNow();
+        try {
+            if (!workers.awaitTermination(ABORT_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("Part uploads to {}/{} still running after {}s, aborting upload {} anyway",
+                        bucketName, key, ABORT_WAIT_SECONDS, uploadId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void abortUpload() {
+        if (uploadId == null) {
+            return;
+        }
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (SdkException e) {
+            logger.warn("Failed to abort multipart upload {} for {}/{}", uploadId, bucketName, key, e);
+        }
+    }
+}
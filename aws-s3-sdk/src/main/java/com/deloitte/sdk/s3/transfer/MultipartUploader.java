@@ -0,0 +1,128 @@
+package com.deloitte.sdk.s3.transfer;
+
+import com.deloitte.sdk.s3.exceptions.S3SdkException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Uploads a file as an S3 multipart upload with several parts in flight at once.
+ * Parts are streamed straight from the file with positional {@link FileChannel} reads, each failed part
+ * is retried on its own, and the upload is aborted if any part runs out of retries.
+ */
+public class MultipartUploader {
+
+    private static final Logger logger = LoggerFactory.getLogger(MultipartUploader.class);
+    private static final String CONTENT_TYPE = "application/octet-stream";
+
+    private final S3Client s3Client;
+    private final S3TransferConfig config;
+
+    public MultipartUploader(S3Client s3Client, S3TransferConfig config) {
+        this.s3Client = s3Client;
+        this.config = config;
+    }
+
+    public void upload(String bucketName, String key, Path filePath) throws S3SdkException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long partSize = partSizeFor(size, config);
+            int partCount = (int) Math.max(1, (size + partSize - 1) / partSize);
+
+            String uploadId = createUpload(bucketName, key);
+            try {
+                List<CompletedPart> parts = uploadParts(channel, bucketName, key, uploadId, size, partSize, partCount);
+                s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                        .build());
+                logger.debug("Uploaded {} in {} parts to {}/{}", filePath, partCount, bucketName, key);
+            } catch (Exception e) {
+                abortUpload(bucketName, key, uploadId);
+                throw new S3SdkException("Failed to upload object to bucket: " + bucketName, e);
+            }
+        } catch (IOException e) {
+            throw new S3SdkException("Failed to read file for upload: " + filePath, e);
+        }
+    }
+
+    /**
+     * Picks a part size no smaller than the configured one or the S3 minimum,
+     * growing it if needed so the object fits within the 10,000 part limit.
+     */
+    public static long partSizeFor(long objectSize, S3TransferConfig config) {
+        return Parts.sizeFor(objectSize, config.getPartSize());
+    }
+
+    private String createUpload(String bucketName, String key) throws S3SdkException {
+        try {
+            return s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build()).uploadId();
+        } catch (SdkException e) {
+            throw new S3SdkException("Failed to start multipart upload to bucket: " + bucketName, e);
+        }
+    }
+
+    private List<CompletedPart> uploadParts(FileChannel channel, String bucketName, String key, String uploadId,
+                                            long size, long partSize, int partCount) throws Exception {
+        CompletedPart[] completed = new CompletedPart[partCount];
+        ProgressTracker progress = new ProgressTracker(config, bucketName, key, size);
+        Parts.forEach(partCount, config.getMaxConcurrency(), index -> {
+            long offset = index * partSize;
+            long length = Math.min(partSize, size - offset);
+            completed[index] = uploadPart(channel, bucketName, key, uploadId, index + 1, offset, length);
+            progress.add(length);
+        });
+        return Arrays.asList(completed);
+    }
+
+    private CompletedPart uploadPart(FileChannel channel, String bucketName, String key, String uploadId,
+                                     int partNumber, long offset, long length) throws Exception {
+        UploadPartRequest request = UploadPartRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength(length)
+                .overrideConfiguration(override -> override.addPlugin(Retries.NO_SDK_RETRIES))
+                .build();
+        RequestBody body = RequestBody.fromContentProvider(
+                () -> new FileRangeInputStream(channel, offset, length), length, CONTENT_TYPE);
+
+        UploadPartResponse response = Retries.withRetries(config.getMaxRetries(), config.getRetryBaseDelayMillis(),
+                () -> s3Client.uploadPart(request, body));
+        return CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build();
+    }
+
+    private void abortUpload(String bucketName, String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (SdkException e) {
+            logger.warn("Failed to abort multipart upload {} for {}/{}", uploadId, bucketName, key, e);
+        }
+    }
+}
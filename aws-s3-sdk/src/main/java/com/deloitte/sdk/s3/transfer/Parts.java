@@ -0,0 +1,52 @@
+package com.deloitte.sdk.s3.transfer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs a task for each part index on a fixed number of virtual-thread workers.
+ * Workers stop claiming new parts after the first failure, which is rethrown once all workers are done.
+ */
+final class Parts {
+
+    private Parts() {
+    }
+
+    static long sizeFor(long objectSize, long preferredPartSize) {
+        long partSize = Math.max(preferredPartSize, S3TransferConfig.MIN_PART_SIZE);
+        long minimumForSize = (objectSize + S3TransferConfig.MAX_PARTS - 1) / S3TransferConfig.MAX_PARTS;
+        return Math.max(partSize, minimumForSize);
+    }
+
+    static void forEach(int partCount, int maxConcurrency, PartTask task) throws Exception {
+        AtomicInteger nextPart = new AtomicInteger();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            int workerCount = Math.min(Math.max(1, maxConcurrency), partCount);
+            for (int i = 0; i < workerCount; i++) {
+                workers.execute(() -> {
+                    int index;
+                    while (failure.get() == null && (index = nextPart.getAndIncrement()) < partCount) {
+                        try {
+                            task.run(index);
+                        } catch (Exception e) {
+                            failure.compareAndSet(null, e);
+                        }
+                    }
+                });
+            }
+        }
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    @FunctionalInterface
+    interface PartTask {
+        void run(int index) throws Exception;
+    }
+}
@@ -0,0 +1,32 @@
+package com.deloitte.sdk.s3.transfer;
+
+import com.deloitte.sdk.s3.metrics.ProgressListener;
+import com.deloitte.sdk.s3.metrics.TransferProgress;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the bytes of one transfer as its parts complete and reports them to the configured listener.
+ */
+final class ProgressTracker {
+
+    private final ProgressListener listener;
+    private final String bucketName;
+    private final String key;
+    private final long totalBytes;
+    private final AtomicLong transferred = new AtomicLong();
+
+    ProgressTracker(S3TransferConfig config, String bucketName, String key, long totalBytes) {
+        this.listener = config.getProgressListener() != null ? config.getProgressListener() : ProgressListener.NONE;
+        this.bucketName = bucketName;
+        this.key = key;
+        this.totalBytes = totalBytes;
+    }
+
+    void add(long bytes) {
+        if (listener == ProgressListener.NONE) {
+            return;
+        }
+        listener.onProgress(new TransferProgress(bucketName, key, transferred.addAndGet(bytes), totalBytes));
+    }
+}
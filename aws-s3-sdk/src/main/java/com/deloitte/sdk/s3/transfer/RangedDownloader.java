@@ -0,0 +1,274 @@
+package com.deloitte.sdk.s3.transfer;
+
+import com.deloitte.sdk.s3.exceptions.S3SdkException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Downloads an object as concurrent byte-range GETs written straight to their offsets in the target.
+ * Each range is read from the response through a channel into its place in the sink (a file channel via
+ * {@link FileChannel#transferFrom}, a slice of a caller's buffer, or a mapped region), so nothing is
+ * buffered per range. Heap slices are read into directly; other sinks are filled through one 64 KB chunk
+ * per worker, reused across its ranges and retries, and a file channel's transferFrom copies through its
+ * own temporary buffer on top of that.
+ * Every range is pinned to the ETag seen up front with If-Match, so an object replaced mid-download
+ * fails the download instead of producing a mix of versions. A range that breaks off is retried
+ * from the last byte it wrote.
+ */
+public class RangedDownloader {
+
+    private static final Logger logger = LoggerFactory.getLogger(RangedDownloader.class);
+    private static final int CHUNK_SIZE = 64 * 1024;
+    /** Bytes per transferFrom call, which bounds how much of a broken range is fetched again. */
+    private static final long TRANSFER_SIZE = 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final S3TransferConfig config;
+
+    public RangedDownloader(S3Client s3Client, S3TransferConfig config) {
+        this.s3Client = s3Client;
+        this.config = config;
+    }
+
+    /**
+     * Downloads an object into a channel using positional writes.
+     *
+     * @return The size of the object in bytes.
+     */
+    public long download(String bucketName, String key, FileChannel target) throws S3SdkException {
+        return download(bucketName, key, headObject(bucketName, key), target);
+    }
+
+    private long download(String bucketName, String key, HeadObjectResponse head, FileChannel target) throws S3SdkException {
+        try {
+            // transferFrom writes nothing past the end of the file, so extend it before ranges land out of order
+            if (head.contentLength() > 0 && target.size() < head.contentLength()) {
+                target.write(ByteBuffer.allocate(1), head.contentLength() - 1);
+            }
+        } catch (IOException e) {
+            throw new S3SdkException("Failed to write downloaded object: " + key, e);
+        }
+        fetchRanges(bucketName, key, head.eTag(), head.contentLength(),
+                (offset, length) -> (source, relative, remaining) ->
+                        target.transferFrom(source, offset + relative, Math.min(remaining, TRANSFER_SIZE)));
+        return head.contentLength();
+    }
+
+    /**
+     * Downloads an object into a buffer, typically a direct one, starting at its position.
+     * Ranges are written into slices of the buffer, and its position is advanced past the object on success.
+     *
+     * @return The size of the object in bytes.
+     */
+    public long download(String bucketName, String key, ByteBuffer target) throws S3SdkException {
+        HeadObjectResponse head = headObject(bucketName, key);
+        long size = head.contentLength();
+        if (size > target.remaining()) {
+            throw new S3SdkException("Object " + key + " of " + size + " bytes does not fit in buffer with "
+                    + target.remaining() + " bytes remaining");
+        }
+        int start = target.position();
+        fetchRanges(bucketName, key, head.eTag(), size,
+                (offset, length) -> sliceWriter(target.slice(start + (int) offset, (int) length)));
+        target.position(start + (int) size);
+        return size;
+    }
+
+    /**
+     * Downloads an object into a file, creating or replacing it. The object is written to a temporary file
+     * next to the target and moved into place once complete, so a failed download leaves an existing file untouched.
+     *
+     * @param memoryMapped Whether each range is written through a memory-mapped region instead of channel writes.
+     * @return The size of the object in bytes.
+     */
+    public long download(String bucketName, String key, Path target, boolean memoryMapped) throws S3SdkException {
+        HeadObjectResponse head = headObject(bucketName, key);
+        Path temp = null;
+        try {
+            Path directory = target.toAbsolutePath().getParent();
+            temp = Files.createTempFile(directory, target.getFileName().toString(), ".part");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                if (memoryMapped) {
+                    fetchRanges(bucketName, key, head.eTag(), head.contentLength(), (offset, length) -> {
+                        MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_WRITE, offset, length);
+                        return sliceWriter(region);
+                    });
+                } else {
+                    download(bucketName, key, head, channel);
+                }
+            }
+            moveIntoPlace(temp, target);
+            temp = null;
+            return head.contentLength();
+        } catch (IOException e) {
+            throw new S3SdkException("Failed to write downloaded object to: " + target, e);
+        } finally {
+            if (temp != null) {
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    private static void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Failed to delete partial download {}", file, e);
+        }
+    }
+
+    private HeadObjectResponse headObject(String bucketName, String key) throws S3SdkException {
+        try {
+            return s3Client.headObject(HeadObjectRequest.builder().bucket(bucketName).key(key).build());
+        } catch (SdkException e) {
+            throw new S3SdkException("Failed to download object from bucket: " + bucketName, e);
+        }
+    }
+
+    private void fetchRanges(String bucketName, String key, String eTag, long size, RangeTarget target) throws S3SdkException {
+        if (size == 0) {
+            return;
+        }
+        long rangeSize = size >= config.getMultipartThreshold() ? MultipartUploader.partSizeFor(size, config) : size;
+        int rangeCount = (int) ((size + rangeSize - 1) / rangeSize);
+        ProgressTracker progress = new ProgressTracker(config, bucketName, key, size);
+        // Each worker runs on its own thread, so this gives every worker one chunk for all of its ranges
+        ThreadLocal<byte[]> chunks = ThreadLocal.withInitial(() -> new byte[CHUNK_SIZE]);
+        try {
+            Parts.forEach(rangeCount, config.getMaxConcurrency(), index -> {
+                long offset = index * rangeSize;
+                long length = Math.min(rangeSize, size - offset);
+                fetchRange(bucketName, key, eTag, offset, length, target.open(offset, length), chunks);
+                progress.add(length);
+            });
+        } catch (Exception e) {
+            throw new S3SdkException("Failed to download object from bucket: " + bucketName, e);
+        }
+        logger.debug("Downloaded {}/{} in {} ranges", bucketName, key, rangeCount);
+    }
+
+    private void fetchRange(String bucketName, String key, String eTag, long offset, long length, RangeWriter writer,
+                            ThreadLocal<byte[]> chunks) throws Exception {
+        long[] written = {0};
+        Retries.withRetries(config.getMaxRetries(), config.getRetryBaseDelayMillis(), () -> {
+            GetObjectRequest request = GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .ifMatch(eTag)
+                    .range("bytes=" + (offset + written[0]) + "-" + (offset + length - 1))
+                    .overrideConfiguration(override -> override.addPlugin(Retries.NO_SDK_RETRIES))
+                    .build();
+            try (ResponseInputStream<GetObjectResponse> in = s3Client.getObject(request)) {
+                if (eTag != null && in.response().eTag() != null && !eTag.equals(in.response().eTag())) {
+                    throw new S3SdkException("Object " + key + " changed during download: expected ETag " + eTag
+                            + " but got " + in.response().eTag());
+                }
+                ResponseChannel source = new ResponseChannel(in, chunks);
+                while (written[0] < length) {
+                    long count = writer.transfer(source, written[0], length - written[0]);
+                    if (count <= 0) {
+                        throw SdkClientException.create("Range of " + key + " ended after " + written[0] + " of " + length + " bytes");
+                    }
+                    written[0] += count;
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Fills the unwritten tail of a slice from the response, one read at a time.
+     */
+    private static RangeWriter sliceWriter(ByteBuffer slice) {
+        return (source, relative, remaining) -> source.read(slice.position((int) relative));
+    }
+
+    @FunctionalInterface
+    private interface RangeTarget {
+        RangeWriter open(long offset, long length) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface RangeWriter {
+        /**
+         * Moves up to {@code remaining} bytes of the range from the source into the sink at {@code relativePosition}.
+         *
+         * @return The number of bytes moved, zero or less once the source is exhausted.
+         */
+        long transfer(ReadableByteChannel source, long relativePosition, long remaining) throws IOException;
+    }
+
+    /**
+     * Exposes a response body as a channel. Network failures surface as retryable client exceptions
+     * so they are told apart from failures writing the sink. Heap buffers are read into directly;
+     * other buffers go through the calling worker's chunk.
+     */
+    private static final class ResponseChannel implements ReadableByteChannel {
+
+        private final InputStream in;
+        private final ThreadLocal<byte[]> chunks;
+
+        ResponseChannel(InputStream in, ThreadLocal<byte[]> chunks) {
+            this.in = in;
+            this.chunks = chunks;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) {
+            try {
+                if (dst.hasArray()) {
+                    int count = in.read(dst.array(), dst.arrayOffset() + dst.position(), dst.remaining());
+                    if (count > 0) {
+                        dst.position(dst.position() + count);
+                    }
+                    return count;
+                }
+                byte[] chunk = chunks.get();
+                int count = in.read(chunk, 0, Math.min(chunk.length, dst.remaining()));
+                if (count > 0) {
+                    dst.put(chunk, 0, count);
+                }
+                return count;
+            } catch (IOException e) {
+                throw SdkClientException.create("Failed to read object range", e);
+            }
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
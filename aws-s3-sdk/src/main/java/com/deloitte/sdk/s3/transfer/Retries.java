@@ -0,0 +1,63 @@
+package com.deloitte.sdk.s3.transfer;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.awscore.retry.AwsRetryStrategy;
+import software.amazon.awssdk.core.SdkPlugin;
+import software.amazon.awssdk.core.exception.SdkException;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retries a single transfer step with exponential backoff and full jitter.
+ * Client-side failures, throttling and 5xx responses are retried; other service errors
+ * (such as a 412 from a failed If-Match) and non-SDK exceptions fail immediately.
+ * Requests retried here should carry {@link #NO_SDK_RETRIES}, so each attempt is a single call
+ * instead of a full round of the client's own retries.
+ */
+public final class Retries {
+
+    private static final long MAX_DELAY_MILLIS = 10_000;
+
+    /**
+     * Request plugin that turns off the client's retry strategy for that request.
+     */
+    public static final SdkPlugin NO_SDK_RETRIES =
+            config -> config.overrideConfiguration(override -> override.retryStrategy(AwsRetryStrategy.doNotRetry()));
+
+    private Retries() {
+    }
+
+    public static <T> T withRetries(int maxRetries, long baseDelayMillis, Callable<T> step) throws Exception {
+        int attempt = 0;
+        while (true) {
+            try {
+                return step.call();
+            } catch (SdkException e) {
+                if (attempt >= maxRetries || !isRetryable(e)) {
+                    throw e;
+                }
+                sleep(backoffMillis(attempt++, baseDelayMillis));
+            }
+        }
+    }
+
+    public static boolean isRetryable(SdkException e) {
+        if (e instanceof AwsServiceException serviceException) {
+            int status = serviceException.statusCode();
+            return status >= 500 || status == 429 || status == 408 || serviceException.isThrottlingException();
+        }
+        return true;
+    }
+
+    public static long backoffMillis(int attempt, long baseDelayMillis) {
+        long cap = Math.min(MAX_DELAY_MILLIS, baseDelayMillis << Math.min(attempt, 20));
+        return ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    private static void sleep(long millis) throws InterruptedException {
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.deloitte.sdk.s3.transfer;
+
+import com.deloitte.sdk.s3.metrics.ProgressListener;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Tuning knobs for the multipart and ranged transfer engines.
+ * Sizes are in bytes.
+ */
+@Builder
+@Getter
+public class S3TransferConfig {
+
+    public static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+    public static final int MAX_PARTS = 10_000;
+
+    /** Objects at least this large are transferred in parts. */
+    @Builder.Default
+    private final long multipartThreshold = 16L * 1024 * 1024;
+    @Builder.Default
+    private final long partSize = 8L * 1024 * 1024;
+    /** Maximum number of parts in flight for a single transfer. */
+    @Builder.Default
+    private final int maxConcurrency = 8;
+    /** Retries per part after the first attempt. */
+    @Builder.Default
+    private final int maxRetries = 3;
+    @Builder.Default
+    private final long retryBaseDelayMillis = 100;
+    /** Server-side copies of objects at least this large are split into UploadPartCopy requests. */
+    @Builder.Default
+    private final long multipartCopyThreshold = 64L * 1024 * 1024;
+    /** Byte range copied by each UploadPartCopy request. */
+    @Builder.Default
+    private final long copyPartSize = 64L * 1024 * 1024;
+    /** Notified as each part or range of a multipart or ranged transfer completes. */
+    @Builder.Default
+    private final ProgressListener progressListener = ProgressListener.NONE;
+
+    public static S3TransferConfig defaults() {
+        return S3TransferConfig.builder().build();
+    }
+}
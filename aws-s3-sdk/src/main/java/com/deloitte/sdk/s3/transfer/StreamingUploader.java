@@ -0,0 +1,48 @@
+package com.deloitte.sdk.s3.transfer;
+
+import com.deloitte.sdk.s3.exceptions.S3SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Uploads data of unknown length from an {@link InputStream} or through a {@link MultipartOutputStream},
+ * without staging it in a temporary file. Memory per upload stays around part size times concurrency,
+ * and part buffers are reused across uploads.
+ */
+public class StreamingUploader {
+
+    private final S3Client s3Client;
+    private final S3TransferConfig config;
+    private final BufferPool bufferPool;
+
+    public StreamingUploader(S3Client s3Client, S3TransferConfig config) {
+        this.s3Client = s3Client;
+        this.config = config;
+        long partSize = Math.max(config.getPartSize(), S3TransferConfig.MIN_PART_SIZE);
+        if (partSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Part size for streaming uploads must fit in a buffer: " + partSize);
+        }
+        this.bufferPool = new BufferPool((int) partSize, Math.max(1, config.getMaxConcurrency()) + 1);
+    }
+
+    public MultipartOutputStream openStream(String bucketName, String key) {
+        return new MultipartOutputStream(s3Client, config, bufferPool, bucketName, key);
+    }
+
+    public void upload(String bucketName, String key, InputStream in) throws S3SdkException {
+        MultipartOutputStream out = openStream(bucketName, key);
+        try {
+            in.transferTo(out);
+        } catch (IOException | RuntimeException e) {
+            out.abort();
+            throw new S3SdkException("Failed to upload object to bucket: " + bucketName, e);
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            throw new S3SdkException("Failed to upload object to bucket: " + bucketName, e);
+        }
+    }
+}
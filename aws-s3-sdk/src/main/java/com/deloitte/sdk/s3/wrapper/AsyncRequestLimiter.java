@@ -0,0 +1,93 @@
+package com.deloitte.sdk.s3.wrapper;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Caps the number of async requests in flight without blocking any thread.
+ * Requests over the limit are queued and started from the completion callback of an earlier request.
+ * Queued requests are started in a loop by whichever thread is already draining the queue, so requests whose
+ * futures complete synchronously do not recurse through one another's callbacks.
+ */
+class AsyncRequestLimiter {
+
+    private final int maxConcurrency;
+    private final Queue<Runnable> waiting = new ArrayDeque<>();
+    private int running;
+    private int pendingReleases;
+    private boolean draining;
+
+    AsyncRequestLimiter(int maxConcurrency) {
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+    }
+
+    <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> request) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable start = () -> {
+            CompletableFuture<T> response;
+            try {
+                response = request.get();
+            } catch (Throwable t) {
+                response = CompletableFuture.failedFuture(t);
+            }
+            response.whenComplete((value, error) -> {
+                release();
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(value);
+                }
+            });
+        };
+
+        boolean startNow;
+        synchronized (this) {
+            startNow = running < maxConcurrency;
+            if (startNow) {
+                running++;
+            } else {
+                waiting.add(start);
+            }
+        }
+        if (startNow) {
+            start.run();
+        }
+        return result;
+    }
+
+    synchronized int inFlight() {
+        return running;
+    }
+
+    synchronized int queued() {
+        return waiting.size();
+    }
+
+    private void release() {
+        synchronized (this) {
+            pendingReleases++;
+            if (draining) {
+                return;
+            }
+            draining = true;
+        }
+        while (true) {
+            Runnable next;
+            synchronized (this) {
+                if (pendingReleases == 0) {
+                    draining = false;
+                    return;
+                }
+                pendingReleases--;
+                next = waiting.poll();
+                if (next == null) {
+                    running--;
+                    continue;
+                }
+            }
+            next.run();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.deloitte.sdk.s3.wrapper;
+
+import com.deloitte.sdk.s3.exceptions.S3SdkException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.FileTransformerConfiguration;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking counterpart of {@link S3ClientWrapper} for workloads with many concurrent small transfers.
+ * Bodies are streamed through {@link AsyncRequestBody} and {@link AsyncResponseTransformer}, so the number of
+ * transfers in flight is bounded by the limit given here rather than by a thread pool; the event-loop
+ * threads are whatever the {@link S3AsyncClient}'s HTTP client was built with.
+ * Failed futures complete with an {@link S3SdkException}.
+ */
+public class S3AsyncClientWrapper {
+
+    public static final int DEFAULT_MAX_CONCURRENCY = 256;
+
+    private static final Logger logger = LoggerFactory.getLogger(S3AsyncClientWrapper.class);
+
+    private final S3AsyncClient s3AsyncClient;
+    private final AsyncRequestLimiter limiter;
+
+    public S3AsyncClientWrapper(S3AsyncClient s3AsyncClient) {
+        this(s3AsyncClient, DEFAULT_MAX_CONCURRENCY);
+    }
+
+    public S3AsyncClientWrapper(S3AsyncClient s3AsyncClient, int maxConcurrency) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.limiter = new AsyncRequestLimiter(maxConcurrency);
+    }
+
+    // Object Operations
+
+    public CompletableFuture<Void> uploadObject(String bucketName, String key, Path filePath) {
+        return uploadObject(bucketName, key, AsyncRequestBody.fromFile(filePath));
+    }
+
+    public CompletableFuture<Void> uploadObject(String bucketName, String key, byte[] content) {
+        return uploadObject(bucketName, key, AsyncRequestBody.fromBytes(content));
+    }
+
+    public CompletableFuture<Void> uploadObject(String bucketName, String key, AsyncRequestBody body) {
+        PutObjectRequest request = PutObjectRequest.builder().bucket(bucketName).key(key).build();
+        return execute("Failed to upload object to bucket: " + bucketName,
+                () -> s3AsyncClient.putObject(request, body).thenApply(response -> null));
+    }
+
+    public CompletableFuture<byte[]> downloadObject(String bucketName, String key) {
+        return downloadObject(bucketName, key, AsyncResponseTransformer.toBytes()).thenApply(ResponseBytes::asByteArray);
+    }
+
+    /**
+     * Downloads an object into a file, replacing the file if it already exists.
+     */
+    public CompletableFuture<Void> downloadObject(String bucketName, String key, Path target) {
+        return downloadObject(bucketName, key,
+                AsyncResponseTransformer.<GetObjectResponse>toFile(target, FileTransformerConfiguration.defaultCreateOrReplaceExisting()))
+                .thenApply(response -> null);
+    }
+
+    /**
+     * Downloads an object through a caller-supplied transformer, for example one that publishes the body
+     * to a reactive subscriber.
+     */
+    public <T> CompletableFuture<T> downloadObject(String bucketName, String key,
+                                                   AsyncResponseTransformer<GetObjectResponse, T> transformer) {
+        GetObjectRequest request = GetObjectRequest.builder().bucket(bucketName).key(key).build();
+        return execute("Failed to download object from bucket: " + bucketName,
+                () -> s3AsyncClient.getObject(request, transformer));
+    }
+
+    public CompletableFuture<HeadObjectResponse> headObject(String bucketName, String key) {
+        HeadObjectRequest request = HeadObjectRequest.builder().bucket(bucketName).key(key).build();
+        return execute("Failed to head object in bucket: " + bucketName, () -> s3AsyncClient.headObject(request));
+    }
+
+    public CompletableFuture<Void> deleteObject(String bucketName, String key) {
+        DeleteObjectRequest request = DeleteObjectRequest.builder().bucket(bucketName).key(key).build();
+        return execute("Failed to delete object from bucket: " + bucketName,
+                () -> s3AsyncClient.deleteObject(request).thenApply(response -> null));
+    }
+
+    public CompletableFuture<Void> copyObject(String sourceBucketName, String sourceKey,
+                                              String destinationBucketName, String destinationKey) {
+        CopyObjectRequest request = CopyObjectRequest.builder()
+                .sourceBucket(sourceBucketName)
+                .sourceKey(sourceKey)
+                .destinationBucket(destinationBucketName)
+                .destinationKey(destinationKey)
+                .build();
+        return execute("Failed to copy object", () -> s3AsyncClient.copyObject(request).thenApply(response -> null));
+    }
+
+    /**
+     * Number of requests currently sent and not yet completed.
+     */
+    public int inFlightRequests() {
+        return limiter.inFlight();
+    }
+
+    /**
+     * Number of requests waiting for a free slot under the concurrency limit.
+     */
+    public int queuedRequests() {
+        return limiter.queued();
+    }
+
+    private <T> CompletableFuture<T> execute(String errorMessage, Supplier<CompletableFuture<T>> request) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        limiter.submit(request).whenComplete((value, error) -> {
+            if (error == null) {
+                result.complete(value);
+                return;
+            }
+            Throwable cause = error instanceof CompletionException || error instanceof ExecutionException
+                    ? error.getCause() : error;
+            logger.debug(errorMessage, cause);
+            result.completeExceptionally(new S3SdkException(errorMessage, cause));
+        });
+        return result;
+    }
+}
@@ -1,21 +1,42 @@
 package com.deloitte.sdk.s3.wrapper;
 
+import com.deloitte.sdk.s3.batch.BulkCopier;
+import com.deloitte.sdk.s3.batch.BulkDeleter;
+import com.deloitte.sdk.s3.batch.CopyReport;
+import com.deloitte.sdk.s3.batch.DeleteReport;
+import com.deloitte.sdk.s3.cache.S3CacheConfig;
+import com.deloitte.sdk.s3.cache.S3ObjectCache;
 import com.deloitte.sdk.s3.exceptions.S3SdkException;
+import com.deloitte.sdk.s3.exceptions.S3SdkUncheckedException;
+import com.deloitte.sdk.s3.listing.ListingOptions;
+import com.deloitte.sdk.s3.listing.ParallelListingOptions;
+import com.deloitte.sdk.s3.listing.ParallelObjectLister;
+import com.deloitte.sdk.s3.listing.S3ObjectLister;
+import com.deloitte.sdk.s3.listing.S3ObjectSummary;
+import com.deloitte.sdk.s3.presign.PresignCacheConfig;
+import com.deloitte.sdk.s3.presign.PresignedUrlCache;
+import com.deloitte.sdk.s3.records.RecordReader;
+import com.deloitte.sdk.s3.records.RecordReaderOptions;
+import com.deloitte.sdk.s3.sync.DirectorySync;
+import com.deloitte.sdk.s3.sync.SyncOptions;
+import com.deloitte.sdk.s3.sync.SyncReport;
+import com.deloitte.sdk.s3.transfer.MultipartCopier;
+import com.deloitte.sdk.s3.transfer.MultipartOutputStream;
+import com.deloitte.sdk.s3.transfer.MultipartUploader;
+import com.deloitte.sdk.s3.transfer.RangedDownloader;
+import com.deloitte.sdk.s3.transfer.S3TransferConfig;
+import com.deloitte.sdk.s3.transfer.StreamingUploader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.Bucket;
-import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
 import software.amazon.awssdk.services.s3.model.DeleteBucketRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.ListBucketsResponse;
-import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
-import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
-import software.amazon.awssdk.services.s3.model.S3Object;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
@@ -24,10 +45,13 @@ import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignReques
 
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class S3ClientWrapper {
 
@@ -35,10 +59,34 @@ public class S3ClientWrapper {
 
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
+    private final S3TransferConfig transferConfig;
+    private final MultipartUploader multipartUploader;
+    private final StreamingUploader streamingUploader;
+    private final RangedDownloader rangedDownloader;
+    private final MultipartCopier multipartCopier;
+    private final RecordReader recordReader;
+    private final S3ObjectLister objectLister;
+    private final ParallelObjectLister parallelObjectLister;
+    private final BulkDeleter bulkDeleter;
+    private final BulkCopier bulkCopier;
 
     public S3ClientWrapper(S3Client s3Client, S3Presigner s3Presigner) {
+        this(s3Client, s3Presigner, S3TransferConfig.defaults());
+    }
+
+    public S3ClientWrapper(S3Client s3Client, S3Presigner s3Presigner, S3TransferConfig transferConfig) {
         this.s3Client = s3Client;
         this.s3Presigner = s3Presigner;
+        this.transferConfig = transferConfig != null ? transferConfig : S3TransferConfig.defaults();
+        this.multipartUploader = new MultipartUploader(s3Client, this.transferConfig);
+        this.streamingUploader = new StreamingUploader(s3Client, this.transferConfig);
+        this.rangedDownloader = new RangedDownloader(s3Client, this.transferConfig);
+        this.multipartCopier = new MultipartCopier(s3Client, this.transferConfig);
+        this.recordReader = new RecordReader(s3Client, this.transferConfig);
+        this.objectLister = new S3ObjectLister(s3Client);
+        this.parallelObjectLister = new ParallelObjectLister(s3Client);
+        this.bulkDeleter = new BulkDeleter(s3Client, objectLister, this.transferConfig);
+        this.bulkCopier = new BulkCopier(objectLister, multipartCopier, this.transferConfig);
     }
 
     public void createBucket(String bucketName) throws S3SdkException {
@@ -68,7 +116,15 @@ public class S3ClientWrapper {
 
     // Object Operations
 
+    /**
+     * Uploads a file, switching to a parallel multipart upload once the file reaches
+     * the configured multipart threshold.
+     */
     public void uploadObject(String bucketName, String key, Path filePath) throws S3SdkException {
+        if (filePath.toFile().length() >= transferConfig.getMultipartThreshold()) {
+            multipartUploader.upload(bucketName, key, filePath);
+            return;
+        }
         try {
             s3Client.putObject(PutObjectRequest.builder().bucket(bucketName).key(key).build(), filePath);
         } catch (S3Exception e) {
@@ -76,6 +132,21 @@ public class S3ClientWrapper {
         }
     }
 
+    /**
+     * Uploads a stream of unknown length, cutting it into parts that are uploaded while the stream is still being read.
+     */
+    public void uploadObject(String bucketName, String key, InputStream inputStream) throws S3SdkException {
+        streamingUploader.upload(bucketName, key, inputStream);
+    }
+
+    /**
+     * Opens a stream whose contents are uploaded as they are written.
+     * Closing the stream completes the upload; {@link MultipartOutputStream#abort()} discards it.
+     */
+    public MultipartOutputStream openUploadStream(String bucketName, String key) {
+        return streamingUploader.openStream(bucketName, key);
+    }
+
     public InputStream downloadObject(String bucketName, String key) throws S3SdkException {
         try {
             GetObjectRequest getObjectRequest = GetObjectRequest.builder().bucket(bucketName).key(key).build();
@@ -85,6 +156,58 @@ public class S3ClientWrapper {
         }
     }
 
+    /**
+     * Downloads an object into a file with concurrent byte-range requests.
+     *
+     * @return The size of the object in bytes.
+     */
+    public long downloadObject(String bucketName, String key, Path target) throws S3SdkException {
+        return rangedDownloader.download(bucketName, key, target, false);
+    }
+
+    /**
+     * Downloads an object into a channel with concurrent byte-range requests written at their offsets.
+     *
+     * @return The size of the object in bytes.
+     */
+    public long downloadObject(String bucketName, String key, FileChannel target) throws S3SdkException {
+        return rangedDownloader.download(bucketName, key, target);
+    }
+
+    /**
+     * Downloads an object into a buffer at its position with concurrent byte-range requests.
+     * A direct buffer keeps the object off the heap entirely.
+     *
+     * @return The size of the object in bytes.
+     */
+    public long downloadObject(String bucketName, String key, ByteBuffer target) throws S3SdkException {
+        return rangedDownloader.download(bucketName, key, target);
+    }
+
+    /**
+     * Downloads an object into a file with concurrent byte-range requests, each written through a memory-mapped region.
+     *
+     * @return The size of the object in bytes.
+     */
+    public long downloadObjectMapped(String bucketName, String key, Path target) throws S3SdkException {
+        return rangedDownloader.download(bucketName, key, target, true);
+    }
+
+    /**
+     * Streams the newline-delimited records of an object, fetching record-aligned byte ranges
+     * ahead of consumption or in parallel. Close the stream to stop prefetching early.
+     */
+    public Stream<String> streamRecords(String bucketName, String key, RecordReaderOptions options) throws S3SdkException {
+        return recordReader.records(bucketName, key, options);
+    }
+
+    /**
+     * Creates an opt-in read-through cache of objects on local disk that shares this wrapper's client.
+     */
+    public S3ObjectCache createObjectCache(S3CacheConfig cacheConfig) throws S3SdkException {
+        return new S3ObjectCache(s3Client, cacheConfig);
+    }
+
     public void deleteObject(String bucketName, String key) throws S3SdkException {
         try {
             s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucketName).key(key).build());
@@ -93,30 +216,87 @@ public class S3ClientWrapper {
         }
     }
 
+    /**
+     * Deletes the given keys in 1000-key batches with bounded parallelism.
+     * Per-key failures are collected in the returned report rather than thrown.
+     */
+    public DeleteReport deleteObjects(String bucketName, Iterable<String> keys) throws S3SdkException {
+        return bulkDeleter.deleteObjects(bucketName, keys.iterator());
+    }
+
+    public DeleteReport deleteObjects(String bucketName, Stream<String> keys) throws S3SdkException {
+        return bulkDeleter.deleteObjects(bucketName, keys.iterator());
+    }
+
+    /**
+     * Deletes every object under the prefix, streaming keys from the listing as they are deleted.
+     */
+    public DeleteReport deleteByPrefix(String bucketName, String prefix) throws S3SdkException {
+        return bulkDeleter.deleteByPrefix(bucketName, prefix);
+    }
+
+    /**
+     * Lists every key in the bucket, following continuation tokens across all pages.
+     * Prefer {@link #streamObjects(String, ListingOptions)} for large buckets.
+     */
     public List<String> listObjects(String bucketName) throws S3SdkException {
-        try {
-            ListObjectsV2Request request = ListObjectsV2Request.builder().bucket(bucketName).build();
-            ListObjectsV2Response response = s3Client.listObjectsV2(request);
-            return response.contents().stream().map(S3Object::key).collect(Collectors.toList());
-        } catch (S3Exception e) {
-            throw new S3SdkException("Failed to list objects in bucket: " + bucketName, e);
+        try (Stream<S3ObjectSummary> objects = streamObjects(bucketName, ListingOptions.defaults())) {
+            return objects.map(S3ObjectSummary::key).collect(Collectors.toList());
+        } catch (S3SdkUncheckedException e) {
+            throw new S3SdkException("Failed to list objects in bucket: " + bucketName, e.getCause());
         }
     }
 
+    public Stream<S3ObjectSummary> streamObjects(String bucketName) {
+        return streamObjects(bucketName, ListingOptions.defaults());
+    }
+
+    /**
+     * Streams the objects of a bucket lazily, one ListObjectsV2 page at a time.
+     * Listing failures are raised as {@link S3SdkUncheckedException} while the stream is consumed.
+     */
+    public Stream<S3ObjectSummary> streamObjects(String bucketName, ListingOptions options) {
+        return objectLister.stream(bucketName, options);
+    }
+
+    /**
+     * Streams the objects of a bucket by listing key-range shards concurrently.
+     * Shards come from the split points in the options or are discovered from common prefixes.
+     * Close the stream to stop shards that are still listing.
+     */
+    public Stream<S3ObjectSummary> streamObjectsParallel(String bucketName, ParallelListingOptions options) throws S3SdkException {
+        return parallelObjectLister.stream(bucketName, options);
+    }
+
+    /**
+     * Uploads the files under a local directory that are missing or changed under the prefix.
+     */
+    public SyncReport syncUp(Path directory, String bucketName, String prefix, SyncOptions options) throws S3SdkException {
+        return directorySync().syncUp(directory, bucketName, prefix, options);
+    }
+
+    /**
+     * Downloads the objects under the prefix that are missing or changed in a local directory.
+     */
+    public SyncReport syncDown(String bucketName, String prefix, Path directory, SyncOptions options) throws S3SdkException {
+        return directorySync().syncDown(bucketName, prefix, directory, options);
+    }
+
+    /**
+     * Copies an object server-side, switching to parallel UploadPartCopy requests once the source
+     * reaches the configured multipart copy threshold.
+     */
     public void copyObject(String sourceBucketName, String sourceKey, String destinationBucketName, String destinationKey) throws S3SdkException {
-        try {
-            CopyObjectRequest copyRequest = CopyObjectRequest.builder()
-                    .sourceBucket(sourceBucketName)
-                    .sourceKey(sourceKey)
-                    .destinationBucket(destinationBucketName)
-                    .destinationKey(destinationKey)
-                    .build();
+        multipartCopier.copy(sourceBucketName, sourceKey, destinationBucketName, destinationKey);
+        logger.info("Object copied successfully");
+    }
 
-            s3Client.copyObject(copyRequest);
-            logger.info("Object copied successfully");
-        } catch (S3Exception e) {
-            throw new S3SdkException("Failed to copy object", e);
-        }
+    /**
+     * Copies every object under {@code sourcePrefix} to the same relative key under {@code destinationPrefix}.
+     */
+    public CopyReport copyPrefix(String sourceBucketName, String sourcePrefix,
+                                 String destinationBucketName, String destinationPrefix) throws S3SdkException {
+        return bulkCopier.copyPrefix(sourceBucketName, sourcePrefix, destinationBucketName, destinationPrefix);
     }
 
     // Presigned URL Methods
@@ -160,4 +340,18 @@ public class S3ClientWrapper {
             throw new S3SdkException("Failed to generate presigned URL for upload", e);
         }
     }
+
+    /**
+     * Creates a cache that reuses presigned URLs for hot keys instead of signing on every call.
+     */
+    public PresignedUrlCache createPresignedUrlCache(PresignCacheConfig cacheConfig) {
+        return new PresignedUrlCache(s3Presigner, cacheConfig);
+    }
+
+    /**
+     * Sync runs its transfers through this wrapper, so it is created per call rather than from the constructor.
+     */
+    private DirectorySync directorySync() {
+        return new DirectorySync(this, transferConfig);
+    }
 }
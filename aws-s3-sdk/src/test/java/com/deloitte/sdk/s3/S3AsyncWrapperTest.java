@@ -0,0 +1,120 @@
+package com.deloitte.sdk.s3;
+
+import com.deloitte.sdk.s3.exceptions.S3SdkException;
+import com.deloitte.sdk.s3.wrapper.S3AsyncClientWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class S3AsyncWrapperTest {
+
+    private S3AsyncClient s3AsyncClient;
+    private S3AsyncClientWrapper wrapper;
+
+    @BeforeEach
+    public void setUp() {
+        s3AsyncClient = mock(S3AsyncClient.class);
+        wrapper = new S3AsyncClientWrapper(s3AsyncClient, 2);
+    }
+
+    @Test
+    public void testUploadObject() throws Exception {
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+
+        wrapper.uploadObject("bucketName", "key", new byte[]{1, 2, 3}).get();
+
+        verify(s3AsyncClient, times(1)).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+        assertEquals(0, wrapper.inFlightRequests());
+    }
+
+    @Test
+    public void testDownloadObjectFailsWithS3SdkException() {
+        when(s3AsyncClient.getObject(any(GetObjectRequest.class),
+                ArgumentMatchers.<AsyncResponseTransformer<GetObjectResponse, ResponseBytes<GetObjectResponse>>>any()))
+                .thenReturn(CompletableFuture.failedFuture(S3Exception.builder().statusCode(404).message("Not Found").build()));
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> wrapper.downloadObject("bucketName", "key").get());
+
+        assertInstanceOf(S3SdkException.class, e.getCause());
+        assertInstanceOf(S3Exception.class, e.getCause().getCause());
+    }
+
+    @Test
+    public void testRequestsOverLimitAreQueuedUntilSlotFrees() throws Exception {
+        List<CompletableFuture<DeleteObjectResponse>> responses = new ArrayList<>();
+        when(s3AsyncClient.deleteObject(any(DeleteObjectRequest.class))).thenAnswer(invocation -> {
+            CompletableFuture<DeleteObjectResponse> response = new CompletableFuture<>();
+            responses.add(response);
+            return response;
+        });
+
+        List<CompletableFuture<Void>> deletes = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            deletes.add(wrapper.deleteObject("bucketName", "key-" + i));
+        }
+
+        assertEquals(2, responses.size());
+        assertEquals(2, wrapper.inFlightRequests());
+        assertEquals(3, wrapper.queuedRequests());
+
+        responses.get(0).complete(DeleteObjectResponse.builder().build());
+        assertEquals(3, responses.size());
+        assertTrue(deletes.get(0).isDone());
+
+        for (int i = 1; i < 5; i++) {
+            responses.get(i).complete(DeleteObjectResponse.builder().build());
+        }
+        CompletableFuture.allOf(deletes.toArray(new CompletableFuture<?>[0])).get();
+        assertEquals(0, wrapper.inFlightRequests());
+        assertEquals(0, wrapper.queuedRequests());
+    }
+
+    @Test
+    public void testLongQueueOfSynchronousCompletionsDoesNotRecurse() throws Exception {
+        CompletableFuture<DeleteObjectResponse> first = new CompletableFuture<>();
+        CompletableFuture<DeleteObjectResponse> second = new CompletableFuture<>();
+        when(s3AsyncClient.deleteObject(any(DeleteObjectRequest.class)))
+                .thenReturn(first)
+                .thenReturn(second)
+                .thenReturn(CompletableFuture.completedFuture(DeleteObjectResponse.builder().build()));
+
+        List<CompletableFuture<Void>> deletes = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            deletes.add(wrapper.deleteObject("bucketName", "key-" + i));
+        }
+        first.complete(DeleteObjectResponse.builder().build());
+        second.complete(DeleteObjectResponse.builder().build());
+
+        CompletableFuture.allOf(deletes.toArray(new CompletableFuture<?>[0])).get(30, TimeUnit.SECONDS);
+        assertEquals(0, wrapper.inFlightRequests());
+        assertEquals(0, wrapper.queuedRequests());
+    }
+}
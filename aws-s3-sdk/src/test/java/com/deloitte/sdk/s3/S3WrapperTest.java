@@ -20,6 +20,8 @@ import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.ListBucketsResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
@@ -163,6 +165,7 @@ public class S3WrapperTest {
 
     @Test
     public void testCopyObject() throws S3SdkException {
+        doReturn(HeadObjectResponse.builder().contentLength(1024L).build()).when(s3Client).headObject(any(HeadObjectRequest.class));
         doReturn(CopyObjectResponse.builder().build()).when(s3Client).copyObject(any(CopyObjectRequest.class));
         s3ClientWrapper.copyObject("sourceBucket", "sourceKey", "destBucket", "destKey");
         verify(s3Client, times(1)).copyObject(any(CopyObjectRequest.class));
@@ -170,6 +173,7 @@ public class S3WrapperTest {
 
     @Test
     public void testCopyObjectThrowsException() {
+        doReturn(HeadObjectResponse.builder().contentLength(1024L).build()).when(s3Client).headObject(any(HeadObjectRequest.class));
         doThrow(S3Exception.class).when(s3Client).copyObject(any(CopyObjectRequest.class));
         assertThrows(S3SdkException.class, () -> s3ClientWrapper.copyObject("sourceBucket", "sourceKey", "destBucket", "destKey"));
     }
@@ -0,0 +1,125 @@
+package com.deloitte.sdk.s3.batch;
+
+import com.deloitte.sdk.s3.exceptions.S3SdkException;
+import com.deloitte.sdk.s3.listing.S3ObjectLister;
+import com.deloitte.sdk.s3.transfer.MultipartCopier;
+import com.deloitte.sdk.s3.transfer.S3TransferConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BulkCopierTest {
+
+    private S3Client s3Client;
+    private BulkCopier copier;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = mock(S3Client.class);
+        S3TransferConfig config = S3TransferConfig.builder().maxConcurrency(2).retryBaseDelayMillis(1).build();
+        copier = new BulkCopier(new S3ObjectLister(s3Client), new MultipartCopier(s3Client, config), config);
+        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenReturn(ListObjectsV2Response.builder()
+                .contents(object("logs/2024/a.log"), object("logs/2024/b.log"), object("logs/2025/c.log"))
+                .isTruncated(false)
+                .build());
+    }
+
+    @Test
+    void copyPrefix_rewritesKeysUnderDestinationPrefix() throws S3SdkException {
+        Set<String> destinations = ConcurrentHashMap.newKeySet();
+        when(s3Client.copyObject(any(CopyObjectRequest.class))).thenAnswer(invocation -> {
+            CopyObjectRequest request = invocation.getArgument(0);
+            destinations.add(request.destinationBucket() + "/" + request.destinationKey());
+            return CopyObjectResponse.builder().build();
+        });
+
+        CopyReport report = copier.copyPrefix("src", "logs/", "dst", "archive/logs/");
+
+        assertTrue(report.isSuccessful());
+        assertEquals(3, report.copiedCount());
+        assertEquals(300, report.copiedBytes());
+        assertEquals(Set.of("dst/archive/logs/2024/a.log", "dst/archive/logs/2024/b.log", "dst/archive/logs/2025/c.log"),
+                destinations);
+        verify(s3Client, never()).headObject(any(HeadObjectRequest.class));
+    }
+
+    @Test
+    void copyPrefix_reportsFailedKeysAndContinues() throws S3SdkException {
+        when(s3Client.copyObject(any(CopyObjectRequest.class))).thenAnswer(invocation -> {
+            CopyObjectRequest request = invocation.getArgument(0);
+            if (request.sourceKey().endsWith("b.log")) {
+                throw S3Exception.builder()
+                        .statusCode(403)
+                        .awsErrorDetails(AwsErrorDetails.builder().errorCode("AccessDenied").build())
+                        .build();
+            }
+            return CopyObjectResponse.builder().build();
+        });
+
+        CopyReport report = copier.copyPrefix("src", "logs/", "dst", "copy/");
+
+        assertFalse(report.isSuccessful());
+        assertEquals(2, report.copiedCount());
+        assertEquals(List.of("logs/2024/b.log"), report.errors().stream().map(KeyError::key).toList());
+        assertEquals("AccessDenied", report.errors().getFirst().code());
+    }
+
+    @Test
+    void copyPrefix_skipsKeysUnderNestedDestination() throws S3SdkException {
+        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenReturn(ListObjectsV2Response.builder()
+                .contents(object("logs/2024/a.log"), object("logs/backup/2024/a.log"), object("logs/2025/c.log"))
+                .isTruncated(false)
+                .build());
+        Set<String> destinations = ConcurrentHashMap.newKeySet();
+        when(s3Client.copyObject(any(CopyObjectRequest.class))).thenAnswer(invocation -> {
+            destinations.add(((CopyObjectRequest) invocation.getArgument(0)).destinationKey());
+            return CopyObjectResponse.builder().build();
+        });
+
+        CopyReport report = copier.copyPrefix("src", "logs/", "src", "logs/backup/");
+
+        assertEquals(2, report.copiedCount());
+        assertEquals(Set.of("logs/backup/2024/a.log", "logs/backup/2025/c.log"), destinations);
+    }
+
+    @Test
+    void copyPrefix_treatsNullPrefixesAsEmpty() throws S3SdkException {
+        Set<String> destinations = ConcurrentHashMap.newKeySet();
+        when(s3Client.copyObject(any(CopyObjectRequest.class))).thenAnswer(invocation -> {
+            destinations.add(((CopyObjectRequest) invocation.getArgument(0)).destinationKey());
+            return CopyObjectResponse.builder().build();
+        });
+
+        CopyReport report = copier.copyPrefix("src", null, "dst", null);
+
+        assertEquals(3, report.copiedCount());
+        assertEquals(Set.of("logs/2024/a.log", "logs/2024/b.log", "logs/2025/c.log"), destinations);
+        assertThrows(S3SdkException.class, () -> copier.copyPrefix("src", null, "src", ""));
+    }
+
+    private static S3Object object(String key) {
+        return S3Object.builder().key(key).size(100L).build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.deloitte.sdk.s3.batch;
+
+import com.deloitte.sdk.s3.exceptions.S3SdkException;
+import com.deloitte.sdk.s3.listing.S3ObjectLister;
+import com.deloitte.sdk.s3.transfer.S3TransferConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BulkDeleterTest {
+
+    private S3Client s3Client;
+    private BulkDeleter deleter;
+    private List<Integer> chunkSizes;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = mock(S3Client.class);
+        deleter = new BulkDeleter(s3Client, new S3ObjectLister(s3Client), S3TransferConfig.builder().maxConcurrency(2).retryBaseDelayMillis(1).build());
+        chunkSizes = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @Test
+    void deleteObjects_chunksKeysIntoThousands() throws S3SdkException {
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenAnswer(invocation -> {
+            DeleteObjectsRequest request = invocation.getArgument(0);
+            chunkSizes.add(request.delete().objects().size());
+            return DeleteObjectsResponse.builder().build();
+        });
+
+        DeleteReport report = deleter.deleteObjects("bucket", keys(2500).iterator());
+
+        assertTrue(report.isSuccessful());
+        assertEquals(2500, report.deletedCount());
+        assertEquals(List.of(500, 1000, 1000), chunkSizes.stream().sorted().toList());
+    }
+
+    @Test
+    void deleteObjects_reportsPerKeyErrors() throws S3SdkException {
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenReturn(DeleteObjectsResponse.builder()
+                .errors(S3Error.builder().key("key-3").code("AccessDenied").message("Access Denied").build())
+                .build());
+
+        DeleteReport report = deleter.deleteObjects("bucket", keys(10).iterator());
+
+        assertFalse(report.isSuccessful());
+        assertEquals(9, report.deletedCount());
+        assertEquals(new KeyError("key-3", "AccessDenied", "Access Denied"), report.errors().getFirst());
+    }
+
+    @Test
+    void deleteObjects_reportsWholeChunkWhenRequestFails() throws S3SdkException {
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenThrow(S3Exception.builder()
+                .statusCode(403)
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("AccessDenied").build())
+                .build());
+
+        DeleteReport report = deleter.deleteObjects("bucket", keys(3).iterator());
+
+        assertEquals(0, report.deletedCount());
+        assertEquals(3, report.errors().size());
+        assertEquals("AccessDenied", report.errors().getFirst().code());
+        verify(s3Client, times(1)).deleteObjects(any(DeleteObjectsRequest.class));
+    }
+
+    @Test
+    void deleteByPrefix_deletesListedKeys() throws S3SdkException {
+        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenReturn(ListObjectsV2Response.builder()
+                .contents(S3Object.builder().key("logs/a").build(), S3Object.builder().key("logs/b").build())
+                .build());
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenReturn(DeleteObjectsResponse.builder().build());
+
+        DeleteReport report = deleter.deleteByPrefix("bucket", "logs/");
+
+        assertEquals(2, report.deletedCount());
+    }
+
+    @Test
+    void deleteByPrefix_throwsWhenListingFails() {
+        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenThrow(S3Exception.builder().message("denied").build());
+
+        assertThrows(S3SdkException.class, () -> deleter.deleteByPrefix("bucket", "logs/"));
+    }
+
+    private static List<String> keys(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "key-" + i).toList();
+    }
+}
@@ -0,0 +1,199 @@
+package com.deloitte.sdk.s3.cache;
+
+import com.deloitte.sdk.s3.exceptions.S3SdkException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class S3ObjectCacheTest {
+
+    @TempDir
+    Path cacheDir;
+
+    private S3Client s3Client;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = mock(S3Client.class);
+    }
+
+    @Test
+    void get_revalidatesWithIfNoneMatch() throws Exception {
+        when(s3Client.getObject(any(GetObjectRequest.class)))
+                .thenReturn(response("config-v1", "\"v1\""))
+                .thenThrow(S3Exception.builder().statusCode(304).build());
+        S3ObjectCache cache = new S3ObjectCache(s3Client, S3CacheConfig.builder().directory(cacheDir).build());
+
+        assertEquals("config-v1", text(cache.get("bucket", "config.json")));
+        assertEquals("config-v1", text(cache.get("bucket", "config.json")));
+
+        ArgumentCaptor<GetObjectRequest> captor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3Client, times(2)).getObject(captor.capture());
+        assertNull(captor.getAllValues().get(0).ifNoneMatch());
+        assertEquals("\"v1\"", captor.getAllValues().get(1).ifNoneMatch());
+    }
+
+    @Test
+    void get_replacesChangedObject() throws Exception {
+        when(s3Client.getObject(any(GetObjectRequest.class)))
+                .thenReturn(response("config-v1", "\"v1\""))
+                .thenReturn(response("config-v2", "\"v2\""));
+        S3ObjectCache cache = new S3ObjectCache(s3Client, S3CacheConfig.builder().directory(cacheDir).build());
+
+        cache.get("bucket", "config.json");
+
+        assertEquals("config-v2", text(cache.get("bucket", "config.json")));
+        assertEquals(9, cache.cachedBytes());
+    }
+
+    @Test
+    void get_skipsRevalidationWhileFresh() throws Exception {
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(response("model", "\"m\""));
+        Clock clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+        S3ObjectCache cache = new S3ObjectCache(s3Client, S3CacheConfig.builder()
+                .directory(cacheDir)
+                .revalidateAfter(Duration.ofMinutes(5))
+                .build(), clock);
+
+        cache.get("bucket", "model.bin");
+        cache.get("bucket", "model.bin");
+
+        verify(s3Client, times(1)).getObject(any(GetObjectRequest.class));
+    }
+
+    @Test
+    void get_refetchesWhenCachedFileDisappears() throws Exception {
+        when(s3Client.getObject(any(GetObjectRequest.class)))
+                .thenReturn(response("model-v1", "\"m1\""))
+                .thenReturn(response("model-v2", "\"m2\""));
+        Clock clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+        S3ObjectCache cache = new S3ObjectCache(s3Client, S3CacheConfig.builder()
+                .directory(cacheDir)
+                .revalidateAfter(Duration.ofMinutes(5))
+                .build(), clock);
+        cache.get("bucket", "model.bin");
+        try (var files = Files.list(cacheDir)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+
+        assertEquals("model-v2", text(cache.get("bucket", "model.bin")));
+        assertEquals(1, cache.size());
+        assertEquals(8, cache.cachedBytes());
+        verify(s3Client, times(2)).getObject(any(GetObjectRequest.class));
+    }
+
+    @Test
+    void get_keepsEarlierBufferReadableAfterRefresh() throws Exception {
+        when(s3Client.getObject(any(GetObjectRequest.class)))
+                .thenReturn(response("config-v1", "\"v1\""))
+                .thenReturn(response("config-v2", "\"v2\""));
+        S3ObjectCache cache = new S3ObjectCache(s3Client, S3CacheConfig.builder().directory(cacheDir).build());
+
+        ByteBuffer first = cache.get("bucket", "config.json");
+        ByteBuffer second = cache.get("bucket", "config.json");
+
+        assertEquals("config-v1", text(first));
+        assertEquals("config-v2", text(second));
+        try (var files = Files.list(cacheDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void get_evictsLeastRecentlyUsed() throws Exception {
+        when(s3Client.getObject(any(GetObjectRequest.class)))
+                .thenAnswer(invocation -> response("123456", "\"" + ((GetObjectRequest) invocation.getArgument(0)).key() + "\""));
+        S3ObjectCache cache = new S3ObjectCache(s3Client, S3CacheConfig.builder().directory(cacheDir).maxBytes(10).build());
+
+        cache.get("bucket", "a");
+        cache.get("bucket", "b");
+
+        assertEquals(1, cache.size());
+        assertEquals(6, cache.cachedBytes());
+        try (var files = Files.list(cacheDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void get_coalescesConcurrentFetches() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> {
+            release.await();
+            return response("shared", "\"s\"");
+        });
+        S3ObjectCache cache = new S3ObjectCache(s3Client, S3CacheConfig.builder().directory(cacheDir).build());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ByteBuffer>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> cache.get("bucket", "hot")));
+            }
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<ByteBuffer> result : results) {
+                assertEquals("shared", text(result.get()));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(s3Client, times(1)).getObject(any(GetObjectRequest.class));
+    }
+
+    @Test
+    void get_throwsAndForgetsMissingObject() throws Exception {
+        when(s3Client.getObject(any(GetObjectRequest.class)))
+                .thenReturn(response("gone soon", "\"g\""))
+                .thenThrow(S3Exception.builder().statusCode(404).build());
+        S3ObjectCache cache = new S3ObjectCache(s3Client, S3CacheConfig.builder().directory(cacheDir).build());
+
+        cache.get("bucket", "key");
+
+        assertThrows(S3SdkException.class, () -> cache.get("bucket", "key"));
+        assertEquals(0, cache.size());
+    }
+
+    private static ResponseInputStream<GetObjectResponse> response(String body, String eTag) {
+        InputStream in = new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+        return new ResponseInputStream<>(GetObjectResponse.builder().eTag(eTag).build(), AbortableInputStream.create(in));
+    }
+
+    private static String text(ByteBuffer buffer) {
+        return StandardCharsets.UTF_8.decode(buffer).toString();
+    }
+}
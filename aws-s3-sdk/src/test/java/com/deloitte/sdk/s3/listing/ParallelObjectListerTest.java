@@ -0,0 +1,151 @@
+package com.deloitte.sdk.s3.listing;
+
+import com.deloitte.sdk.s3.exceptions.S3SdkException;
+import com.deloitte.sdk.s3.exceptions.S3SdkUncheckedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CommonPrefix;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ParallelObjectListerTest {
+
+    private final TreeSet<String> bucket = new TreeSet<>(ParallelObjectLister::compareKeys);
+    private S3Client s3Client;
+    private ParallelObjectLister lister;
+
+    @BeforeEach
+    void setUp() {
+        for (String dir : List.of("a/", "b/", "c/")) {
+            IntStream.range(0, 2500).forEach(i -> bucket.add(dir + String.format("%05d", i)));
+        }
+        bucket.add("a-top");
+        bucket.add("z-top");
+        s3Client = mock(S3Client.class);
+        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenAnswer(invocation -> list(invocation.getArgument(0)));
+        lister = new ParallelObjectLister(s3Client);
+    }
+
+    @Test
+    void stream_discoversPrefixShardsInOrder() throws S3SdkException {
+        try (Stream<S3ObjectSummary> objects = lister.stream("bucket", ParallelListingOptions.builder().ordered(true).parallelism(2).build())) {
+            assertEquals(new ArrayList<>(bucket), objects.map(S3ObjectSummary::key).toList());
+        }
+    }
+
+    @Test
+    void stream_unorderedReturnsEveryKey() throws S3SdkException {
+        try (Stream<S3ObjectSummary> objects = lister.stream("bucket", ParallelListingOptions.builder().parallelism(3).build())) {
+            List<String> keys = objects.map(S3ObjectSummary::key).toList();
+            assertEquals(bucket.size(), keys.size());
+            assertEquals(bucket, new TreeSet<>(keys));
+        }
+    }
+
+    @Test
+    void stream_usesSplitPoints() throws S3SdkException {
+        ParallelListingOptions options = ParallelListingOptions.builder()
+                .splitPoints(List.of("b/01000", "a/02000"))
+                .ordered(true)
+                .build();
+        try (Stream<S3ObjectSummary> objects = lister.stream("bucket", options)) {
+            assertEquals(new ArrayList<>(bucket), objects.map(S3ObjectSummary::key).toList());
+        }
+    }
+
+    @Test
+    void stream_closeStopsShards() throws S3SdkException {
+        try (Stream<S3ObjectSummary> objects = lister.stream("bucket", ParallelListingOptions.builder().ordered(true).parallelism(1).build())) {
+            assertEquals("a-top", objects.findFirst().orElseThrow().key());
+        }
+    }
+
+    @Test
+    void stream_listsDirectObjectsLazily() throws S3SdkException {
+        IntStream.range(0, 5000).forEach(i -> bucket.add(String.format("flat-%05d", i)));
+
+        try (Stream<S3ObjectSummary> objects = lister.stream("bucket", ParallelListingOptions.builder().ordered(true).parallelism(1).build())) {
+            assertEquals("a-top", objects.findFirst().orElseThrow().key());
+        }
+        verify(s3Client, times(1)).listObjectsV2(any(ListObjectsV2Request.class));
+
+        try (Stream<S3ObjectSummary> objects = lister.stream("bucket", ParallelListingOptions.builder().ordered(true).parallelism(3).build())) {
+            assertEquals(new ArrayList<>(bucket), objects.map(S3ObjectSummary::key).toList());
+        }
+    }
+
+    @Test
+    void stream_surfacesShardFailures() throws S3SdkException {
+        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenAnswer(invocation -> {
+            ListObjectsV2Request request = invocation.getArgument(0);
+            if ("b/".equals(request.prefix())) {
+                throw S3Exception.builder().statusCode(403).message("denied").build();
+            }
+            return list(request);
+        });
+
+        try (Stream<S3ObjectSummary> objects = lister.stream("bucket", ParallelListingOptions.builder().ordered(true).build())) {
+            assertThrows(S3SdkUncheckedException.class, objects::count);
+        }
+    }
+
+    @Test
+    void compareKeys_followsCodePointOrder() {
+        assertTrue(ParallelObjectLister.compareKeys("a-b", "a/") < 0);
+        assertTrue(ParallelObjectLister.compareKeys("\uFFFD", "\uD83D\uDE00") < 0);
+        assertTrue(ParallelObjectLister.compareKeys("a", "a/") < 0);
+    }
+
+    private ListObjectsV2Response list(ListObjectsV2Request request) {
+        String prefix = request.prefix() == null ? "" : request.prefix();
+        String from = request.continuationToken() != null ? request.continuationToken() : request.startAfter();
+        List<S3Object> contents = new ArrayList<>();
+        List<CommonPrefix> prefixes = new ArrayList<>();
+        String last = null;
+        boolean truncated = false;
+        for (String key : from == null ? bucket : bucket.tailSet(from, false)) {
+            if (!key.startsWith(prefix)) {
+                continue;
+            }
+            if (contents.size() + prefixes.size() == 1000) {
+                truncated = true;
+                break;
+            }
+            int slash = request.delimiter() == null ? -1 : key.indexOf(request.delimiter(), prefix.length());
+            if (slash >= 0) {
+                String commonPrefix = key.substring(0, slash + 1);
+                if (prefixes.isEmpty() || !prefixes.getLast().prefix().equals(commonPrefix)) {
+                    prefixes.add(CommonPrefix.builder().prefix(commonPrefix).build());
+                }
+                last = bucket.lower(commonPrefix + "\uFFFF");
+            } else {
+                contents.add(S3Object.builder().key(key).size(1L).build());
+                last = key;
+            }
+        }
+        return ListObjectsV2Response.builder()
+                .contents(contents)
+                .commonPrefixes(prefixes)
+                .isTruncated(truncated)
+                .nextContinuationToken(truncated ? last : null)
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+package com.deloitte.sdk.s3.listing;
+
+import com.deloitte.sdk.s3.exceptions.S3SdkUncheckedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class S3ObjectListerTest {
+
+    private S3Client s3Client;
+    private S3ObjectLister lister;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = mock(S3Client.class);
+        lister = new S3ObjectLister(s3Client);
+        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenAnswer(invocation -> {
+            ListObjectsV2Request request = invocation.getArgument(0);
+            if (request.continuationToken() == null) {
+                return page(true, "token-1", "a", "b");
+            }
+            if (request.continuationToken().equals("token-1")) {
+                return page(true, "token-2", "c");
+            }
+            return page(false, null, "d");
+        });
+    }
+
+    @Test
+    void stream_followsContinuationTokens() {
+        List<S3ObjectSummary> objects = lister.stream("bucket", ListingOptions.defaults()).collect(Collectors.toList());
+
+        assertEquals(List.of("a", "b", "c", "d"), objects.stream().map(S3ObjectSummary::key).toList());
+        assertEquals(1L, objects.getFirst().size());
+        assertEquals("\"a\"", objects.getFirst().eTag());
+        verify(s3Client, times(3)).listObjectsV2(any(ListObjectsV2Request.class));
+    }
+
+    @Test
+    void stream_isLazy() {
+        List<String> firstTwo = lister.stream("bucket", ListingOptions.defaults()).limit(2).map(S3ObjectSummary::key).toList();
+
+        assertEquals(List.of("a", "b"), firstTwo);
+        verify(s3Client, times(1)).listObjectsV2(any(ListObjectsV2Request.class));
+    }
+
+    @Test
+    void stream_prefetchesNextPage() {
+        Iterator<S3ObjectSummary> iterator = lister.iterator("bucket", ListingOptions.builder().prefetch(true).build());
+
+        assertTrue(iterator.hasNext());
+        assertEquals("a", iterator.next().key());
+        verify(s3Client, timeout(1000).times(2)).listObjectsV2(any(ListObjectsV2Request.class));
+        List<String> rest = List.of(iterator.next().key(), iterator.next().key(), iterator.next().key());
+        assertEquals(List.of("b", "c", "d"), rest);
+    }
+
+    @Test
+    void stream_passesListingOptions() {
+        lister.stream("bucket", ListingOptions.builder().prefix("logs/").startAfter("logs/2024").pageSize(10).build()).findFirst();
+
+        ArgumentCaptor<ListObjectsV2Request> captor = ArgumentCaptor.forClass(ListObjectsV2Request.class);
+        verify(s3Client).listObjectsV2(captor.capture());
+        assertEquals("logs/", captor.getValue().prefix());
+        assertEquals("logs/2024", captor.getValue().startAfter());
+        assertEquals(10, captor.getValue().maxKeys());
+        assertNull(captor.getValue().continuationToken());
+    }
+
+    @Test
+    void stream_wrapsListingFailures() {
+        S3Client failing = mock(S3Client.class);
+        when(failing.listObjectsV2(any(ListObjectsV2Request.class))).thenThrow(S3Exception.builder().message("denied").build());
+
+        assertThrows(S3SdkUncheckedException.class, () -> new S3ObjectLister(failing).stream("bucket", ListingOptions.defaults()).count());
+        verify(s3Client, never()).listObjectsV2(any(ListObjectsV2Request.class));
+    }
+
+    private static ListObjectsV2Response page(boolean truncated, String nextToken, String... keys) {
+        List<S3Object> contents = Arrays.stream(keys)
+                .map(key -> S3Object.builder().key(key).size(1L).eTag("\"" + key + "\"").lastModified(Instant.EPOCH).build())
+                .toList();
+        return ListObjectsV2Response.builder().isTruncated(truncated).nextContinuationToken(nextToken).contents(contents).build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.deloitte.sdk.s3.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.InterceptorContext;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+public class S3MetricsInterceptorTest {
+
+    private TransferStats stats;
+    private S3MetricsInterceptor interceptor;
+    private ExecutionAttributes attributes;
+
+    @BeforeEach
+    void setUp() {
+        stats = new TransferStats();
+        interceptor = new S3MetricsInterceptor(stats);
+        attributes = new ExecutionAttributes().putAttribute(SdkExecutionAttribute.OPERATION_NAME, "PutObject");
+    }
+
+    @Test
+    void recordsBytesThrottlingAndLatencyPerCall() {
+        InterceptorContext request = context(200);
+        interceptor.beforeExecution(request, attributes);
+
+        interceptor.beforeTransmission(request, attributes);
+        interceptor.afterTransmission(context(503), attributes);
+        interceptor.beforeTransmission(request, attributes);
+        interceptor.afterTransmission(context(200), attributes);
+        interceptor.afterExecution(context(200), attributes);
+
+        assertEquals(2048, stats.bytesSent());
+        assertEquals(1, stats.slowDownResponses());
+        assertEquals(1, stats.latency("PutObject").count());
+        assertEquals(0, stats.failures("PutObject"));
+    }
+
+    @Test
+    void countsFailedCalls() {
+        interceptor.beforeExecution(context(200), attributes);
+        interceptor.onExecutionFailure(mock(Context.FailedExecution.class), attributes);
+
+        assertEquals(1, stats.failures("PutObject"));
+    }
+
+    private static InterceptorContext context(int status) {
+        return InterceptorContext.builder()
+                .request(PutObjectRequest.builder().bucket("bucket").key("key").build())
+                .httpRequest(SdkHttpFullRequest.builder()
+                        .method(SdkHttpMethod.PUT)
+                        .uri(URI.create("https://bucket.s3.amazonaws.com/key"))
+                        .putHeader("Content-Length", "1024")
+                        .build())
+                .httpResponse(SdkHttpFullResponse.builder().statusCode(status).build())
+                .build();
+    }
+}
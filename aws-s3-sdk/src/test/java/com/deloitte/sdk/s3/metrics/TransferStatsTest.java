@@ -0,0 +1,55 @@
+package com.deloitte.sdk.s3.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TransferStatsTest {
+
+    @Test
+    void requestCompleted_buildsPerOperationHistograms() {
+        TransferStats stats = new TransferStats();
+        for (int i = 1; i <= 100; i++) {
+            stats.requestCompleted("GetObject", i * 1_000_000L, i != 100);
+        }
+        stats.requestCompleted("PutObject", 5_000_000L, true);
+
+        LatencyHistogram latency = stats.latency("GetObject");
+        assertEquals(Set.of("GetObject", "PutObject"), stats.operations());
+        assertEquals(100, latency.count());
+        assertEquals(1, stats.failures("GetObject"));
+        assertEquals(Duration.ofNanos(50_500_000), latency.mean());
+        assertEquals(Duration.ofMillis(100), latency.max());
+        // 50 ms falls in the 32.768-65.536 ms bucket
+        assertEquals(Duration.ofNanos(65_536_000), latency.percentile(0.5));
+        assertEquals(Duration.ofMillis(100), latency.percentile(0.99));
+        assertEquals(0, stats.latency("DeleteObject").count());
+    }
+
+    @Test
+    void throughputIsBytesPerSecondSinceCreation() {
+        AtomicLong now = new AtomicLong();
+        TransferStats stats = new TransferStats(now::get);
+        stats.bytesSent("UploadPart", 10_000_000);
+        stats.bytesReceived("GetObject", 3_000_000);
+        now.set(2_000_000_000L);
+
+        assertEquals(5_000_000, stats.sendThroughputBytesPerSecond(), 0.001);
+        assertEquals(1_500_000, stats.receiveThroughputBytesPerSecond(), 0.001);
+    }
+
+    @Test
+    void throttled_countsSlowDownSeparately() {
+        TransferStats stats = new TransferStats();
+        stats.throttled("PutObject", 503);
+        stats.throttled("PutObject", 503);
+        stats.throttled("GetObject", 429);
+
+        assertEquals(3, stats.throttledResponses());
+        assertEquals(2, stats.slowDownResponses());
+    }
+}
@@ -0,0 +1,163 @@
+package com.deloitte.sdk.s3.presign;
+
+import com.deloitte.sdk.s3.exceptions.S3SdkException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.net.URI;
+import java.net.URL;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PresignedUrlCacheTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+    private final AtomicInteger signatures = new AtomicInteger();
+    private S3Presigner s3Presigner;
+
+    @BeforeEach
+    void setUp() {
+        s3Presigner = mock(S3Presigner.class);
+        when(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).thenAnswer(invocation -> {
+            GetObjectPresignRequest request = invocation.getArgument(0);
+            PresignedGetObjectRequest presigned = mock(PresignedGetObjectRequest.class);
+            URL url = URI.create("https://bucket.s3.amazonaws.com/" + request.getObjectRequest().key() + "?sig=" + signatures.incrementAndGet()).toURL();
+            when(presigned.url()).thenReturn(url);
+            when(presigned.expiration()).thenReturn(clock.instant().plus(request.signatureDuration()));
+            return presigned;
+        });
+    }
+
+    @Test
+    void presignDownload_reusesUrlWhileEnoughValidityRemains() throws S3SdkException {
+        PresignedUrlCache cache = new PresignedUrlCache(s3Presigner, PresignCacheConfig.builder().build(), clock);
+
+        URL first = cache.presignDownload("bucket", "key", Duration.ofMinutes(10));
+        clock.advance(Duration.ofMinutes(4));
+        assertEquals(first, cache.presignDownload("bucket", "key", Duration.ofMinutes(10)));
+        clock.advance(Duration.ofMinutes(2));
+        assertNotEquals(first, cache.presignDownload("bucket", "key", Duration.ofMinutes(10)));
+
+        verify(s3Presigner, times(2)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @Test
+    void presign_keysByOperationAndExpiration() throws Exception {
+        PresignedPutObjectRequest presignedPut = mock(PresignedPutObjectRequest.class);
+        when(presignedPut.url()).thenReturn(URI.create("https://bucket.s3.amazonaws.com/key?put").toURL());
+        when(s3Presigner.presignPutObject(any(PutObjectPresignRequest.class))).thenReturn(presignedPut);
+        PresignedUrlCache cache = new PresignedUrlCache(s3Presigner, PresignCacheConfig.builder().build(), clock);
+
+        cache.presignDownload("bucket", "key", Duration.ofMinutes(10));
+        cache.presignDownload("bucket", "key", Duration.ofMinutes(30));
+        cache.presignUpload("bucket", "key", Duration.ofMinutes(10));
+        cache.presignUpload("bucket", "key", Duration.ofMinutes(10));
+
+        assertEquals(3, cache.size());
+        verify(s3Presigner, times(1)).presignPutObject(any(PutObjectPresignRequest.class));
+    }
+
+    @Test
+    void presign_sharesUrlsForExpirationsInTheSameBucket() throws S3SdkException {
+        PresignedUrlCache cache = new PresignedUrlCache(s3Presigner, PresignCacheConfig.builder().build(), clock);
+
+        URL first = cache.presignDownload("bucket", "key", Duration.ofSeconds(590));
+        assertEquals(first, cache.presignDownload("bucket", "key", Duration.ofMinutes(10)));
+
+        ArgumentCaptor<GetObjectPresignRequest> request = ArgumentCaptor.forClass(GetObjectPresignRequest.class);
+        verify(s3Presigner).presignGetObject(request.capture());
+        assertEquals(Duration.ofMinutes(10), request.getValue().signatureDuration());
+    }
+
+    @Test
+    void presign_sweepsExpiredEntriesOnAccess() throws S3SdkException {
+        PresignedUrlCache cache = new PresignedUrlCache(s3Presigner, PresignCacheConfig.builder().build(), clock);
+        cache.presignDownload("bucket", "a", Duration.ofMinutes(1));
+        cache.presignDownload("bucket", "b", Duration.ofMinutes(1));
+
+        clock.advance(Duration.ofMinutes(2));
+        cache.presignDownload("bucket", "c", Duration.ofMinutes(10));
+
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void presign_staysWithinBound() throws S3SdkException {
+        PresignedUrlCache cache = new PresignedUrlCache(s3Presigner, PresignCacheConfig.builder().maxEntries(10).build(), clock);
+
+        for (int i = 0; i < 50; i++) {
+            cache.presignDownload("bucket", "key-" + i, Duration.ofMinutes(10));
+        }
+
+        assertTrue(cache.size() <= 10);
+    }
+
+    @Test
+    void presignDownloads_signsEachDistinctKeyOnce() throws S3SdkException {
+        PresignedUrlCache cache = new PresignedUrlCache(s3Presigner, PresignCacheConfig.builder().build(), clock);
+
+        Map<String, URL> urls = cache.presignDownloads("bucket", List.of("a", "b", "c", "a"), Duration.ofMinutes(10));
+
+        assertEquals(3, urls.size());
+        assertTrue(urls.get("b").toString().contains("/b?"));
+        assertEquals(3, signatures.get());
+    }
+
+    @Test
+    void presignDownload_wrapsSigningFailures() {
+        when(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).thenThrow(RuntimeException.class);
+        PresignedUrlCache cache = new PresignedUrlCache(s3Presigner, PresignCacheConfig.builder().build(), clock);
+
+        assertThrows(S3SdkException.class, () -> cache.presignDownload("bucket", "key", Duration.ofMinutes(10)));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
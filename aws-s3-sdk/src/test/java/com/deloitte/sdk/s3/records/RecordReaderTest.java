@@ -0,0 +1,125 @@
+package com.deloitte.sdk.s3.records;
+
+import com.deloitte.sdk.s3.exceptions.S3SdkException;
+import com.deloitte.sdk.s3.exceptions.S3SdkUncheckedException;
+import com.deloitte.sdk.s3.transfer.S3TransferConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RecordReaderTest {
+
+    private S3Client s3Client;
+    private RecordReader reader;
+    private List<String> lines;
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() {
+        lines = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            lines.add("{\"id\":" + i + ",\"pad\":\"" + "x".repeat(i % 37) + "\"}");
+        }
+        lines.add(100, "");
+        setContent(String.join("\n", lines) + "\n");
+
+        s3Client = mock(S3Client.class);
+        when(s3Client.headObject(any(HeadObjectRequest.class)))
+                .thenAnswer(invocation -> HeadObjectResponse.builder().contentLength((long) content.length).eTag("\"etag\"").build());
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> rangeResponse(invocation.getArgument(0)));
+        reader = new RecordReader(s3Client, S3TransferConfig.builder().retryBaseDelayMillis(1).build());
+    }
+
+    @Test
+    void records_alignsRangesToRecordBoundariesForAnyRangeSize() throws S3SdkException {
+        for (long rangeSize : new long[]{1, 2, 7, 31, 64, 1000, content.length, content.length + 1L}) {
+            RecordReaderOptions options = RecordReaderOptions.builder().rangeSize(rangeSize).build();
+            try (Stream<String> records = reader.records("bucket", "key", options)) {
+                assertEquals(lines, records.toList(), "range size " + rangeSize);
+            }
+        }
+    }
+
+    @Test
+    void records_parallelStreamKeepsRecordOrder() throws S3SdkException {
+        RecordReaderOptions options = RecordReaderOptions.builder().rangeSize(50).parallel(true).build();
+
+        assertEquals(lines, reader.records("bucket", "key", options).toList());
+    }
+
+    @Test
+    void records_stripsCarriageReturnsAndSkipsHeader() throws S3SdkException {
+        setContent("id,name\r\n1,alpha\r\n2,beta\r\n3,gamma");
+        RecordReaderOptions options = RecordReaderOptions.builder().rangeSize(6).skipHeader(true).build();
+
+        assertEquals(List.of("1,alpha", "2,beta", "3,gamma"), reader.records("bucket", "key", options).toList());
+    }
+
+    @Test
+    void records_retriesFailedRange() throws S3SdkException {
+        AtomicBoolean failed = new AtomicBoolean();
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> {
+            GetObjectRequest request = invocation.getArgument(0);
+            if (request.range().startsWith("bytes=99-") && failed.compareAndSet(false, true)) {
+                throw S3Exception.builder().statusCode(503).message("Slow Down").build();
+            }
+            return rangeResponse(request);
+        });
+
+        List<String> records = reader.records("bucket", "key", RecordReaderOptions.builder().rangeSize(100).build()).toList();
+
+        assertEquals(lines, records);
+        assertTrue(failed.get());
+    }
+
+    @Test
+    void records_surfacesRangeFailureWhileConsuming() throws S3SdkException {
+        when(s3Client.getObject(any(GetObjectRequest.class)))
+                .thenThrow(S3Exception.builder().statusCode(412).message("Precondition Failed").build());
+
+        Stream<String> records = reader.records("bucket", "key", RecordReaderOptions.defaults());
+
+        assertThrows(S3SdkUncheckedException.class, records::toList);
+    }
+
+    @Test
+    void records_emptyObjectHasNoRecords() throws S3SdkException {
+        setContent("");
+
+        assertEquals(0, reader.records("bucket", "key", RecordReaderOptions.defaults()).count());
+    }
+
+    private void setContent(String text) {
+        content = text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private ResponseInputStream<GetObjectResponse> rangeResponse(GetObjectRequest request) {
+        int[] bounds = Arrays.stream(request.range().substring("bytes=".length()).split("-"))
+                .mapToInt(Integer::parseInt).toArray();
+        byte[] slice = Arrays.copyOfRange(content, bounds[0], Math.min(bounds[1] + 1, content.length));
+        return new ResponseInputStream<>(GetObjectResponse.builder().eTag("\"etag\"").build(),
+                AbortableInputStream.create(new ByteArrayInputStream(slice)));
+    }
+}
@@ -0,0 +1,155 @@
+package com.deloitte.sdk.s3.sync;
+
+import com.deloitte.sdk.s3.batch.DeleteReport;
+import com.deloitte.sdk.s3.listing.ListingOptions;
+import com.deloitte.sdk.s3.listing.S3ObjectSummary;
+import com.deloitte.sdk.s3.transfer.S3TransferConfig;
+import com.deloitte.sdk.s3.wrapper.S3ClientWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DirectorySyncTest {
+
+    private static final Instant OLD = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Instant NEW = Instant.parse("2024-06-01T00:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    private S3ClientWrapper wrapper;
+    private DirectorySync sync;
+
+    @BeforeEach
+    void setUp() {
+        wrapper = mock(S3ClientWrapper.class);
+        sync = new DirectorySync(wrapper, S3TransferConfig.defaults());
+    }
+
+    @Test
+    void syncUp_uploadsOnlyNewAndChangedFiles() throws Exception {
+        write("same.txt", "same", OLD);
+        write("changed.txt", "changed!", OLD);
+        write("nested/new.txt", "new", OLD);
+        remote(summary("out/same.txt", 4, NEW), summary("out/changed.txt", 3, NEW));
+
+        SyncReport report = sync.syncUp(directory, "bucket", "out", SyncOptions.defaults());
+
+        assertEquals(2, report.transferred());
+        assertEquals(1, report.skipped());
+        verify(wrapper).uploadObject(eq("bucket"), eq("out/changed.txt"), any(Path.class));
+        verify(wrapper).uploadObject(eq("bucket"), eq("out/nested/new.txt"), any(Path.class));
+        verify(wrapper, never()).uploadObject(eq("bucket"), eq("out/same.txt"), any(Path.class));
+    }
+
+    @Test
+    void syncUp_deletesExtraneousObjectsWhenAsked() throws Exception {
+        write("kept.txt", "kept", OLD);
+        remote(summary("out/kept.txt", 4, NEW), summary("out/stale.txt", 5, NEW));
+        when(wrapper.deleteObjects(eq("bucket"), anyIterable())).thenReturn(new DeleteReport(1, List.of()));
+
+        SyncReport report = sync.syncUp(directory, "bucket", "out/", SyncOptions.builder().deleteExtraneous(true).build());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<String>> keys = ArgumentCaptor.forClass(Iterable.class);
+        verify(wrapper).deleteObjects(eq("bucket"), keys.capture());
+        assertEquals(List.of("out/stale.txt"), keys.getValue());
+        assertEquals(1, report.deleted());
+    }
+
+    @Test
+    void syncUp_comparesChecksumsWhenAsked() throws Exception {
+        write("a.txt", "hello", NEW);
+        write("b.txt", "world", NEW);
+        remote(new S3ObjectSummary("a.txt", 5, "\"" + md5("hello") + "\"", OLD),
+                new S3ObjectSummary("b.txt", 5, "\"" + md5("xxxxx") + "\"", OLD));
+
+        SyncReport report = sync.syncUp(directory, "bucket", "", SyncOptions.builder().compareMode(SyncOptions.CompareMode.CHECKSUM).build());
+
+        assertEquals(1, report.skipped());
+        verify(wrapper).uploadObject(eq("bucket"), eq("b.txt"), any(Path.class));
+    }
+
+    @Test
+    void syncDown_downloadsChangedObjectsAndDeletesExtraneousFiles() throws Exception {
+        write("same.txt", "same", NEW);
+        write("local-only.txt", "x", NEW);
+        remote(summary("in/same.txt", 4, OLD), summary("in/fresh/new.txt", 3, NEW), summary("in/dir/", 0, NEW));
+        when(wrapper.downloadObject(eq("bucket"), eq("in/fresh/new.txt"), any(Path.class))).thenAnswer(invocation -> {
+            Files.writeString(invocation.getArgument(2), "new");
+            return 3L;
+        });
+
+        SyncReport report = sync.syncDown("bucket", "in", directory, SyncOptions.builder().deleteExtraneous(true).build());
+
+        assertEquals(1, report.transferred());
+        assertEquals(1, report.skipped());
+        assertEquals(1, report.deleted());
+        assertFalse(Files.exists(directory.resolve("local-only.txt")));
+        assertTrue(Files.isDirectory(directory.resolve("fresh")));
+        assertEquals(NEW, Files.getLastModifiedTime(directory.resolve("fresh/new.txt")).toInstant());
+    }
+
+    @Test
+    void syncDown_rejectsKeysEscapingTheDirectory() throws Exception {
+        remote(summary("in/../../etc/passwd", 3, NEW));
+
+        SyncReport report = sync.syncDown("bucket", "in", directory, SyncOptions.defaults());
+
+        assertFalse(report.isSuccessful());
+        verify(wrapper, never()).downloadObject(any(), any(), any(Path.class));
+    }
+
+    @Test
+    void multipartETag_matchesS3Format() throws Exception {
+        Path file = directory.resolve("big.bin");
+        byte[] content = new byte[10];
+        Files.write(file, content);
+        MessageDigest whole = MessageDigest.getInstance("MD5");
+        whole.update(MessageDigest.getInstance("MD5").digest(new byte[4]));
+        whole.update(MessageDigest.getInstance("MD5").digest(new byte[4]));
+        whole.update(MessageDigest.getInstance("MD5").digest(new byte[2]));
+
+        assertEquals(HexFormat.of().formatHex(whole.digest()) + "-3", ETags.multipartETag(file, 4, true));
+    }
+
+    private void remote(S3ObjectSummary... objects) {
+        when(wrapper.streamObjects(eq("bucket"), any(ListingOptions.class))).thenAnswer(invocation -> List.of(objects).stream());
+    }
+
+    private static S3ObjectSummary summary(String key, long size, Instant lastModified) {
+        return new S3ObjectSummary(key, size, "\"etag\"", lastModified);
+    }
+
+    private void write(String relative, String content, Instant modified) throws Exception {
+        Path file = directory.resolve(relative);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.from(modified));
+    }
+
+    private static String md5(String content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,138 @@
+package com.deloitte.sdk.s3.transfer;
+
+import com.deloitte.sdk.s3.exceptions.S3SdkException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CopyPartResult;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectTaggingRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectTaggingResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.ServerSideEncryption;
+import software.amazon.awssdk.services.s3.model.StorageClass;
+import software.amazon.awssdk.services.s3.model.Tag;
+import software.amazon.awssdk.services.s3.model.UploadPartCopyRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartCopyResponse;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MultipartCopierTest {
+
+    private static final long MIB = 1024 * 1024;
+
+    private S3Client s3Client;
+    private MultipartCopier copier;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = mock(S3Client.class);
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        copier = new MultipartCopier(s3Client, S3TransferConfig.builder()
+                .multipartCopyThreshold(10 * MIB)
+                .copyPartSize(5 * MIB)
+                .maxConcurrency(3)
+                .retryBaseDelayMillis(1)
+                .build());
+    }
+
+    @Test
+    void copy_usesSingleCopyBelowThreshold() throws S3SdkException {
+        stubSource(4 * MIB);
+
+        assertEquals(4 * MIB, copier.copy("src", "a", "dst", "b"));
+
+        verify(s3Client).copyObject(any(CopyObjectRequest.class));
+        verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    void copy_skipsHeadForKnownSizeBelowThreshold() throws S3SdkException {
+        assertEquals(4 * MIB, copier.copy("src", "a", "dst", "b", 4 * MIB));
+
+        verify(s3Client).copyObject(any(CopyObjectRequest.class));
+        verify(s3Client, never()).headObject(any(HeadObjectRequest.class));
+    }
+
+    @Test
+    void copy_copiesRangesInPartsAndCarriesMetadata() throws S3SdkException {
+        stubSource(12 * MIB + 1);
+        Map<Integer, UploadPartCopyRequest> requests = new ConcurrentHashMap<>();
+        when(s3Client.uploadPartCopy(any(UploadPartCopyRequest.class))).thenAnswer(invocation -> {
+            UploadPartCopyRequest request = invocation.getArgument(0);
+            requests.put(request.partNumber(), request);
+            return UploadPartCopyResponse.builder()
+                    .copyPartResult(CopyPartResult.builder().eTag("etag-" + request.partNumber()).build())
+                    .build();
+        });
+
+        copier.copy("src", "a", "dst", "b");
+
+        assertEquals(3, requests.size());
+        assertEquals("bytes=0-5242879", requests.get(1).copySourceRange());
+        assertEquals("bytes=5242880-10485759", requests.get(2).copySourceRange());
+        assertEquals("bytes=10485760-12582912", requests.get(3).copySourceRange());
+        assertEquals("\"source-etag\"", requests.get(1).copySourceIfMatch());
+
+        ArgumentCaptor<CreateMultipartUploadRequest> create = ArgumentCaptor.forClass(CreateMultipartUploadRequest.class);
+        verify(s3Client).createMultipartUpload(create.capture());
+        assertEquals("text/csv", create.getValue().contentType());
+        assertEquals(Map.of("owner", "team-a"), create.getValue().metadata());
+        assertEquals("env=prod&cost%20center=a%2Fb", create.getValue().tagging());
+        assertEquals(StorageClass.STANDARD_IA, create.getValue().storageClass());
+        assertEquals(ServerSideEncryption.AWS_KMS, create.getValue().serverSideEncryption());
+        assertEquals("key-1", create.getValue().ssekmsKeyId());
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> complete = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(complete.capture());
+        List<CompletedPart> parts = complete.getValue().multipartUpload().parts();
+        assertEquals(List.of(1, 2, 3), parts.stream().map(CompletedPart::partNumber).toList());
+        assertEquals("etag-3", parts.get(2).eTag());
+    }
+
+    @Test
+    void copy_abortsWhenPartFails() {
+        stubSource(12 * MIB);
+        when(s3Client.uploadPartCopy(any(UploadPartCopyRequest.class)))
+                .thenThrow(S3Exception.builder().statusCode(412).message("Precondition Failed").build());
+
+        assertThrows(S3SdkException.class, () -> copier.copy("src", "a", "dst", "b"));
+
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    private void stubSource(long size) {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder()
+                .contentLength(size)
+                .eTag("\"source-etag\"")
+                .contentType("text/csv")
+                .metadata(Map.of("owner", "team-a"))
+                .storageClass(StorageClass.STANDARD_IA)
+                .serverSideEncryption(ServerSideEncryption.AWS_KMS)
+                .ssekmsKeyId("key-1")
+                .build());
+        when(s3Client.getObjectTagging(any(GetObjectTaggingRequest.class))).thenReturn(GetObjectTaggingResponse.builder()
+                .tagSet(Tag.builder().key("env").value("prod").build(), Tag.builder().key("cost center").value("a/b").build())
+                .build());
+    }
+}
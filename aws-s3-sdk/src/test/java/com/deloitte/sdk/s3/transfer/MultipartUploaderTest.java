@@ -0,0 +1,148 @@
+package com.deloitte.sdk.s3.transfer;
+
+import com.deloitte.sdk.s3.exceptions.S3SdkException;
+import com.deloitte.sdk.s3.metrics.TransferProgress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.deloitte.sdk.s3.transfer.TestBodies.randomBytes;
+import static com.deloitte.sdk.s3.transfer.TestBodies.readBody;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MultipartUploaderTest {
+
+    private static final int MIB = 1024 * 1024;
+
+    @TempDir
+    Path tempDir;
+
+    private S3Client s3Client;
+    private MultipartUploader uploader;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = mock(S3Client.class);
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        uploader = new MultipartUploader(s3Client, S3TransferConfig.builder()
+                .partSize(5 * MIB)
+                .maxConcurrency(3)
+                .retryBaseDelayMillis(1)
+                .build());
+    }
+
+    @Test
+    void upload_uploadsAllPartsAndCompletes() throws Exception {
+        byte[] content = randomBytes(12 * MIB + 17);
+        Path file = Files.write(tempDir.resolve("data.bin"), content);
+        Map<Integer, byte[]> received = new ConcurrentHashMap<>();
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            assertEquals(List.of(Retries.NO_SDK_RETRIES), request.overrideConfiguration().orElseThrow().plugins());
+            received.put(request.partNumber(), readBody(invocation.getArgument(1)));
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        });
+
+        uploader.upload("bucket", "key", file);
+
+        assertEquals(3, received.size());
+        ByteArrayOutputStream joined = new ByteArrayOutputStream();
+        for (int part = 1; part <= 3; part++) {
+            joined.write(received.get(part));
+        }
+        assertArrayEquals(content, joined.toByteArray());
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> captor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(captor.capture());
+        List<CompletedPart> parts = captor.getValue().multipartUpload().parts();
+        assertEquals(List.of(1, 2, 3), parts.stream().map(CompletedPart::partNumber).toList());
+        assertEquals("etag-2", parts.get(1).eTag());
+        verify(s3Client, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    @Test
+    void upload_retriesFailedPart() throws Exception {
+        Path file = Files.write(tempDir.resolve("data.bin"), randomBytes(6 * MIB));
+        AtomicInteger attempts = new AtomicInteger();
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            readBody(invocation.getArgument(1));
+            if (request.partNumber() == 2 && attempts.getAndIncrement() == 0) {
+                throw S3Exception.builder().statusCode(500).message("internal error").build();
+            }
+            return UploadPartResponse.builder().eTag("etag").build();
+        });
+
+        uploader.upload("bucket", "key", file);
+
+        assertEquals(2, attempts.get());
+        verify(s3Client).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    void upload_abortsWhenPartKeepsFailing() throws Exception {
+        Path file = Files.write(tempDir.resolve("data.bin"), randomBytes(6 * MIB));
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenThrow(S3Exception.builder().statusCode(500).message("internal error").build());
+
+        assertThrows(S3SdkException.class, () -> uploader.upload("bucket", "key", file));
+
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    void upload_reportsProgressPerPart() throws Exception {
+        Path file = Files.write(tempDir.resolve("data.bin"), randomBytes(12 * MIB));
+        List<TransferProgress> events = Collections.synchronizedList(new ArrayList<>());
+        MultipartUploader tracked = new MultipartUploader(s3Client, S3TransferConfig.builder()
+                .partSize(5 * MIB)
+                .progressListener(events::add)
+                .build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenReturn(UploadPartResponse.builder().eTag("etag").build());
+
+        tracked.upload("bucket", "key", file);
+
+        assertEquals(3, events.size());
+        assertEquals(12L * MIB, events.stream().mapToLong(TransferProgress::transferredBytes).max().orElseThrow());
+        assertEquals(12L * MIB, events.getFirst().totalBytes());
+    }
+
+    @Test
+    void partSizeFor_growsToStayWithinPartLimit() {
+        S3TransferConfig config = S3TransferConfig.builder().partSize(MIB).build();
+        assertEquals(S3TransferConfig.MIN_PART_SIZE, MultipartUploader.partSizeFor(100L * MIB, config));
+        long huge = 100_000L * MIB;
+        assertEquals(huge / S3TransferConfig.MAX_PARTS, MultipartUploader.partSizeFor(huge, config));
+    }
+}
@@ -0,0 +1,191 @@
+package com.deloitte.sdk.s3.transfer;
+
+import com.deloitte.sdk.s3.exceptions.S3SdkException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RangedDownloaderTest {
+
+    private static final int MIB = 1024 * 1024;
+
+    @TempDir
+    Path tempDir;
+
+    private S3Client s3Client;
+    private RangedDownloader downloader;
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() {
+        content = new byte[11 * MIB + 5];
+        new Random(7).nextBytes(content);
+        s3Client = mock(S3Client.class);
+        when(s3Client.headObject(any(HeadObjectRequest.class)))
+                .thenReturn(HeadObjectResponse.builder().contentLength((long) content.length).eTag("\"etag\"").build());
+        downloader = new RangedDownloader(s3Client, S3TransferConfig.builder()
+                .multipartThreshold(5 * MIB)
+                .partSize(5 * MIB)
+                .retryBaseDelayMillis(1)
+                .build());
+    }
+
+    @Test
+    void download_writesAllRangesToFile() throws Exception {
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> rangeResponse(invocation.getArgument(0), "\"etag\"", false));
+        Path target = tempDir.resolve("out.bin");
+
+        assertEquals(content.length, downloader.download("bucket", "key", target, false));
+
+        assertArrayEquals(content, Files.readAllBytes(target));
+        verify(s3Client, times(3)).getObject(any(GetObjectRequest.class));
+    }
+
+    @Test
+    void download_writesAllRangesThroughMappedRegions() throws Exception {
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> rangeResponse(invocation.getArgument(0), "\"etag\"", false));
+        Path target = tempDir.resolve("out.bin");
+
+        downloader.download("bucket", "key", target, true);
+
+        assertArrayEquals(content, Files.readAllBytes(target));
+    }
+
+    @Test
+    void download_writesAllRangesIntoDirectBuffer() throws Exception {
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> rangeResponse(invocation.getArgument(0), "\"etag\"", false));
+        ByteBuffer target = ByteBuffer.allocateDirect(content.length + 10).position(10);
+
+        downloader.download("bucket", "key", target);
+
+        assertEquals(content.length + 10, target.position());
+        byte[] received = new byte[content.length];
+        target.get(10, received);
+        assertArrayEquals(content, received);
+    }
+
+    @Test
+    void download_rejectsBufferTooSmallForObject() {
+        assertThrows(S3SdkException.class, () -> downloader.download("bucket", "key", ByteBuffer.allocateDirect(MIB)));
+        verify(s3Client, never()).getObject(any(GetObjectRequest.class));
+    }
+
+    @Test
+    void download_writesIntoEmptyChannelOutOfOrder() throws Exception {
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> rangeResponse(invocation.getArgument(0), "\"etag\"", false));
+        Path target = tempDir.resolve("out.bin");
+
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            downloader.download("bucket", "key", channel);
+        }
+
+        assertArrayEquals(content, Files.readAllBytes(target));
+    }
+
+    @Test
+    void download_resumesBrokenRangeFromLastWrittenByte() throws Exception {
+        AtomicBoolean broken = new AtomicBoolean();
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> {
+            GetObjectRequest request = invocation.getArgument(0);
+            boolean breakOff = request.range().startsWith("bytes=0-") && broken.compareAndSet(false, true);
+            return rangeResponse(request, "\"etag\"", breakOff);
+        });
+        Path target = tempDir.resolve("out.bin");
+
+        downloader.download("bucket", "key", target, false);
+
+        assertArrayEquals(content, Files.readAllBytes(target));
+        verify(s3Client, times(4)).getObject(any(GetObjectRequest.class));
+    }
+
+    @Test
+    void download_failsWhenObjectChanges() {
+        when(s3Client.getObject(any(GetObjectRequest.class)))
+                .thenThrow(S3Exception.builder().statusCode(412).message("Precondition Failed").build());
+
+        assertThrows(S3SdkException.class, () -> downloader.download("bucket", "key", tempDir.resolve("out.bin"), false));
+        verify(s3Client, atMost(3)).getObject(any(GetObjectRequest.class));
+    }
+
+    @Test
+    void download_keepsExistingFileWhenHeadFails() throws Exception {
+        Path target = tempDir.resolve("out.bin");
+        Files.writeString(target, "existing");
+        when(s3Client.headObject(any(HeadObjectRequest.class)))
+                .thenThrow(S3Exception.builder().statusCode(404).message("Not Found").build());
+
+        assertThrows(S3SdkException.class, () -> downloader.download("bucket", "key", target, false));
+
+        assertEquals("existing", Files.readString(target));
+    }
+
+    @Test
+    void download_keepsExistingFileAndRemovesPartialDownloadWhenRangeFails() throws Exception {
+        Path target = tempDir.resolve("out.bin");
+        Files.writeString(target, "existing");
+        when(s3Client.getObject(any(GetObjectRequest.class)))
+                .thenThrow(S3Exception.builder().statusCode(412).message("Precondition Failed").build());
+
+        assertThrows(S3SdkException.class, () -> downloader.download("bucket", "key", target, true));
+
+        assertEquals("existing", Files.readString(target));
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(List.of(target), files.toList());
+        }
+    }
+
+    private ResponseInputStream<GetObjectResponse> rangeResponse(GetObjectRequest request, String eTag, boolean breakOff) {
+        String[] bounds = request.range().substring("bytes=".length()).split("-");
+        int start = Integer.parseInt(bounds[0]);
+        int end = Integer.parseInt(bounds[1]) + 1;
+        byte[] slice = Arrays.copyOfRange(content, start, end);
+        InputStream body = new ByteArrayInputStream(slice);
+        if (breakOff) {
+            body = new InputStream() {
+                private int position;
+
+                @Override
+                public int read() throws IOException {
+                    if (position == 1000) {
+                        throw new IOException("connection reset");
+                    }
+                    return slice[position++] & 0xff;
+                }
+            };
+        }
+        return new ResponseInputStream<>(GetObjectResponse.builder().eTag(eTag).build(), AbortableInputStream.create(body));
+    }
+}
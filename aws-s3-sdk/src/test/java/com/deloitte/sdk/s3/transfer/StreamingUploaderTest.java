@@ -0,0 +1,165 @@
+package com.deloitte.sdk.s3.transfer;
+
+import com.deloitte.sdk.s3.exceptions.S3SdkException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static com.deloitte.sdk.s3.transfer.TestBodies.randomBytes;
+import static com.deloitte.sdk.s3.transfer.TestBodies.readBody;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class StreamingUploaderTest {
+
+    private static final int MIB = 1024 * 1024;
+
+    private S3Client s3Client;
+    private StreamingUploader uploader;
+    private final Map<Integer, byte[]> received = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        s3Client = mock(S3Client.class);
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            received.put(request.partNumber(), readBody(invocation.getArgument(1)));
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        });
+        uploader = new StreamingUploader(s3Client, S3TransferConfig.builder()
+                .partSize(5 * MIB)
+                .maxConcurrency(2)
+                .retryBaseDelayMillis(1)
+                .build());
+    }
+
+    @Test
+    void upload_cutsStreamIntoParts() throws Exception {
+        byte[] content = randomBytes(11 * MIB + 3);
+
+        uploader.upload("bucket", "key", new ByteArrayInputStream(content));
+
+        ByteArrayOutputStream joined = new ByteArrayOutputStream();
+        for (int part = 1; part <= 3; part++) {
+            joined.write(received.get(part));
+        }
+        assertArrayEquals(content, joined.toByteArray());
+        ArgumentCaptor<CompleteMultipartUploadRequest> captor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(captor.capture());
+        assertEquals(List.of(1, 2, 3), captor.getValue().multipartUpload().parts().stream().map(CompletedPart::partNumber).toList());
+    }
+
+    @Test
+    void upload_sendsSmallStreamAsSinglePut() throws Exception {
+        byte[] content = randomBytes(1000);
+        ArgumentCaptor<RequestBody> body = ArgumentCaptor.forClass(RequestBody.class);
+        when(s3Client.putObject(any(PutObjectRequest.class), body.capture())).thenReturn(PutObjectResponse.builder().build());
+
+        uploader.upload("bucket", "key", new ByteArrayInputStream(content));
+
+        assertArrayEquals(content, readBody(body.getValue()));
+        verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    void openStream_completesOnClose() throws Exception {
+        byte[] content = randomBytes(6 * MIB);
+        try (MultipartOutputStream out = uploader.openStream("bucket", "key")) {
+            for (int offset = 0; offset < content.length; offset += 4096) {
+                out.write(content, offset, Math.min(4096, content.length - offset));
+            }
+        }
+
+        assertEquals(5 * MIB, received.get(1).length);
+        assertEquals(MIB, received.get(2).length);
+        verify(s3Client).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    void upload_abortsWhenSourceFails() {
+        InputStream failing = new InputStream() {
+            private int remaining = 6 * MIB;
+
+            @Override
+            public int read() throws IOException {
+                if (remaining-- == 0) {
+                    throw new IOException("source failed");
+                }
+                return 1;
+            }
+        };
+
+        assertThrows(S3SdkException.class, () -> uploader.upload("bucket", "key", failing));
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    void upload_abortsWhenPartFails() {
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenThrow(S3Exception.builder().statusCode(403).message("denied").build());
+
+        assertThrows(S3SdkException.class, () -> uploader.upload("bucket", "key", new ByteArrayInputStream(randomBytes(11 * MIB))));
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    @Test
+    void abort_waitsForPartsInFlightBeforeAbortingUpload() throws Exception {
+        List<String> events = new CopyOnWriteArrayList<>();
+        CountDownLatch partStarted = new CountDownLatch(1);
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            partStarted.countDown();
+            long deadline = System.nanoTime() + 200_000_000L;
+            while (System.nanoTime() < deadline) {
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException ignored) {
+                    // A request already on the wire does not stop when its thread is interrupted
+                }
+            }
+            events.add("uploadPart");
+            return UploadPartResponse.builder().eTag("etag").build();
+        });
+        when(s3Client.abortMultipartUpload(any(AbortMultipartUploadRequest.class))).thenAnswer(invocation -> {
+            events.add("abort");
+            return null;
+        });
+
+        MultipartOutputStream out = uploader.openStream("bucket", "key");
+        out.write(randomBytes(5 * MIB));
+        partStarted.await();
+        out.abort();
+
+        assertEquals(List.of("uploadPart", "abort"), events);
+    }
+}
@@ -0,0 +1,68 @@
+package com.deloitte.sdk.sns;
+
+import software.amazon.awssdk.services.sns.model.MessageAttributeValue;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Publishes to FIFO topics with one serial lane per message group.
+ * Messages of the same group are published strictly one after another in submission order,
+ * while messages of different groups are published in parallel on the given executor.
+ * A failed publish completes its own future exceptionally and does not block the rest of its lane.
+ */
+public class FifoSnsPublisher {
+
+    private final SnsProducer snsProducer;
+    private final Executor executor;
+    private final ConcurrentMap<String, CompletableFuture<String>> lanes = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a FifoSnsPublisher.
+     *
+     * @param snsProducer The producer used to issue the publish calls.
+     * @param executor    The executor the lanes run on; it bounds how many groups publish at once.
+     */
+    public FifoSnsPublisher(SnsProducer snsProducer, Executor executor) {
+        this.snsProducer = snsProducer;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<String> publish(String topicArn, String messageGroupId, String message,
+                                             Map<String, MessageAttributeValue> attributeValueMap) {
+        return publish(topicArn, messageGroupId, message, attributeValueMap, null);
+    }
+
+    /**
+     * Queues a message on the lane of its message group.
+     *
+     * @param topicArn               The ARN of the FIFO topic.
+     * @param messageGroupId         The message group, which selects the lane.
+     * @param message                The message body.
+     * @param attributeValueMap      The message attributes, may be null.
+     * @param messageDeduplicationId The deduplication id, or null for a content-based one.
+     * @return A future completed with the SNS message id once this message has been published.
+     */
+    public CompletableFuture<String> publish(String topicArn, String messageGroupId, String message,
+                                             Map<String, MessageAttributeValue> attributeValueMap, String messageDeduplicationId) {
+        CompletableFuture<String> published = lanes.compute(messageGroupId, (group, tail) -> {
+            CompletableFuture<?> previous = tail == null ? CompletableFuture.completedFuture(null) : tail;
+            return previous
+                    .handle((ignored, error) -> null)
+                    .thenApplyAsync(ignored -> snsProducer.publishFifoMessage(
+                            topicArn, message, attributeValueMap, group, messageDeduplicationId), executor);
+        });
+        published.whenComplete((ignored, error) -> lanes.remove(messageGroupId, published));
+        return published;
+    }
+
+    /**
+     * @return The number of message groups that currently have messages queued or in flight.
+     */
+    public int activeLanes() {
+        return lanes.size();
+    }
+}
@@ -8,6 +8,7 @@ import software.amazon.awssdk.services.sns.model.PublishRequest;
 import software.amazon.awssdk.services.sns.model.PublishResponse;
 import software.amazon.awssdk.services.sns.model.SnsException;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 public class SnsProducer {
@@ -29,4 +30,36 @@ public class SnsProducer {
         PublishResponse response = snsClient.publish(request);
         return response.messageId();
     }
+
+    /**
+     * Publishes a message to a FIFO topic.
+     * When no deduplication id is given, one is derived from a 128-bit hash of the UTF-8 message bytes,
+     * so identical bodies inside the deduplication window are delivered once.
+     *
+     * @param topicArn               The ARN of the FIFO topic.
+     * @param message                The message body.
+     * @param attributeValueMap      The message attributes, may be null.
+     * @param messageGroupId         The message group the message is ordered within.
+     * @param messageDeduplicationId The deduplication id, or null to compute it from the message content.
+     * @return The id SNS assigned to the published message.
+     * @throws SnsException If the publish call fails.
+     */
+    public String publishFifoMessage(String topicArn, String message, Map<String, MessageAttributeValue> attributeValueMap,
+                                     String messageGroupId, String messageDeduplicationId) throws SnsException {
+        String deduplicationId = messageDeduplicationId != null
+                ? messageDeduplicationId
+                : ContentHasher.hash128Hex(message.getBytes(StandardCharsets.UTF_8));
+
+        PublishRequest request = PublishRequest.builder()
+                .topicArn(topicArn)
+                .message(message)
+                .messageAttributes(attributeValueMap)
+                .messageGroupId(messageGroupId)
+                .messageDeduplicationId(deduplicationId)
+                .build();
+
+        PublishResponse response = snsClient.publish(request);
+        logger.debug("Published message {} to group {}", response.messageId(), messageGroupId);
+        return response.messageId();
+    }
 }
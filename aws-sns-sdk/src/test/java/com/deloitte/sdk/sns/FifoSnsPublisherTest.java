@@ -0,0 +1,93 @@
+package com.deloitte.sdk.sns;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.PublishRequest;
+import software.amazon.awssdk.services.sns.model.PublishResponse;
+import software.amazon.awssdk.services.sns.model.SnsException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FifoSnsPublisherTest {
+
+    private static final String TOPIC_ARN = "arn:aws:sns:us-east-1:123456789012:MyTopic.fifo";
+
+    private SnsClient snsClient;
+    private ExecutorService executor;
+    private FifoSnsPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        snsClient = mock(SnsClient.class);
+        executor = Executors.newFixedThreadPool(4);
+        publisher = new FifoSnsPublisher(new SnsProducer(snsClient), executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void publish_keepsOrderWithinGroup() {
+        List<String> published = Collections.synchronizedList(new ArrayList<>());
+        when(snsClient.publish(any(PublishRequest.class))).thenAnswer(invocation -> {
+            PublishRequest request = invocation.getArgument(0);
+            published.add(request.messageGroupId() + ":" + request.message());
+            return PublishResponse.builder().messageId(request.message()).build();
+        });
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            futures.add(publisher.publish(TOPIC_ARN, "group-" + (i % 3), String.valueOf(i), null));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        for (int group = 0; group < 3; group++) {
+            String prefix = "group-" + group + ":";
+            List<Integer> order = published.stream()
+                    .filter(entry -> entry.startsWith(prefix))
+                    .map(entry -> Integer.parseInt(entry.substring(prefix.length())))
+                    .collect(Collectors.toList());
+            List<Integer> sorted = new ArrayList<>(order);
+            Collections.sort(sorted);
+            assertEquals(sorted, order);
+        }
+        assertEquals(0, publisher.activeLanes());
+    }
+
+    @Test
+    void publish_failureDoesNotBlockLane() {
+        when(snsClient.publish(any(PublishRequest.class)))
+                .thenThrow(SnsException.builder().message("boom").build())
+                .thenReturn(PublishResponse.builder().messageId("2").build());
+
+        CompletableFuture<String> first = publisher.publish(TOPIC_ARN, "group", "one", null);
+        CompletableFuture<String> second = publisher.publish(TOPIC_ARN, "group", "two", null);
+
+        assertThrows(CompletionException.class, first::join);
+        assertEquals("2", second.join());
+
+        ArgumentCaptor<PublishRequest> captor = ArgumentCaptor.forClass(PublishRequest.class);
+        verify(snsClient, times(2)).publish(captor.capture());
+        assertEquals("two", captor.getAllValues().get(1).message());
+    }
+}
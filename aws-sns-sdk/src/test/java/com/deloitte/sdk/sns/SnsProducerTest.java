@@ -3,6 +3,7 @@ package com.deloitte.sdk.sns;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -15,6 +16,9 @@ import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class SnsProducerTest {
@@ -57,4 +61,35 @@ public class SnsProducerTest {
             snsProducer.publishMessage(topicArn, message, null);
         });
     }
+
+    @Test
+    public void testPublishFifoMessageWithContentBasedDeduplication() {
+        String topicArn = "arn:aws:sns:us-east-1:123456789012:MyTopic.fifo";
+        when(snsClient.publish(any(PublishRequest.class))).thenReturn(PublishResponse.builder().messageId("12345").build());
+
+        snsProducer.publishFifoMessage(topicArn, "hello", null, "group", null);
+        snsProducer.publishFifoMessage(topicArn, "hello", null, "group", null);
+        snsProducer.publishFifoMessage(topicArn, "hello!", null, "group", null);
+
+        ArgumentCaptor<PublishRequest> captor = ArgumentCaptor.forClass(PublishRequest.class);
+        verify(snsClient, times(3)).publish(captor.capture());
+        PublishRequest first = captor.getAllValues().get(0);
+        assertEquals("group", first.messageGroupId());
+        assertEquals("cbd8a7b341bd9b025b1e906a48ae1d19", first.messageDeduplicationId());
+        assertEquals(first.messageDeduplicationId(), captor.getAllValues().get(1).messageDeduplicationId());
+        assertNotEquals(first.messageDeduplicationId(), captor.getAllValues().get(2).messageDeduplicationId());
+    }
+
+    @Test
+    public void testPublishFifoMessageWithExplicitDeduplicationId() {
+        String topicArn = "arn:aws:sns:us-east-1:123456789012:MyTopic.fifo";
+        when(snsClient.publish(any(PublishRequest.class))).thenReturn(PublishResponse.builder().messageId("12345").build());
+
+        String result = snsProducer.publishFifoMessage(topicArn, "hello", Collections.emptyMap(), "group", "dedup-1");
+
+        ArgumentCaptor<PublishRequest> captor = ArgumentCaptor.forClass(PublishRequest.class);
+        verify(snsClient).publish(captor.capture());
+        assertEquals("dedup-1", captor.getValue().messageDeduplicationId());
+        assertEquals("12345", result);
+    }
 }